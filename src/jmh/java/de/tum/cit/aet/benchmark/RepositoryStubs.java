@@ -0,0 +1,42 @@
+package de.tum.cit.aet.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories, so that services can be benchmarked without a database.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Creates a repository whose methods are answered by the given functions, keyed by method name.
+     * Calling any other repository method fails.
+     *
+     * @param type    the repository interface
+     * @param methods the implementation of each used method, receiving the call arguments
+     * @param <T>     the repository type
+     * @return the stub repository
+     */
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            Function<Object[], Object> implementation = methods.get(method.getName());
+            if (implementation == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return implementation.apply(args);
+        });
+        return type.cast(stub);
+    }
+}
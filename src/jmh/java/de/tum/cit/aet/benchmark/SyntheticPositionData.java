@@ -0,0 +1,397 @@
+package de.tum.cit.aet.benchmark;
+
+import de.tum.cit.aet.positions.domain.GradeValue;
+import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
+import de.tum.cit.aet.positions.repository.GradeValueRepository;
+import de.tum.cit.aet.positions.repository.PositionDescriptionView;
+import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
+import de.tum.cit.aet.util.GradeCodeNormalizer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeded generator of position data shaped like {@code docker/test-data/positions-test.csv}, from its 25 rows up
+ * to a faculty-sized import of a million rows.
+ * <p>
+ * The same row count and seed always produce the same data:
+ * <ul>
+ *   <li>Grades follow the mix of the test data (mostly E13 and E14, some W3, single E8, E9 and E15)</li>
+ *   <li>Each position has one to three consecutive assignments between 2018 and 2030, about one in ten of them
+ *       vacant (placeholder personnel number)</li>
+ *   <li>In {@link #PARTIALLY_OCCUPIED_YEAR} every position is occupied by 10% to 60%, so full-time searches in
+ *       that year find no single position and run the split suggestions instead</li>
+ *   <li>There is one research group per 200 rows (at least 5); organization units vary in prefix, professor
+ *       and spelling, as in real imports</li>
+ * </ul>
+ */
+public final class SyntheticPositionData {
+
+    /**
+     * Year in which every position is partially occupied.
+     */
+    public static final int PARTIALLY_OCCUPIED_YEAR = 2031;
+
+    private static final String PLACEHOLDER_PERSONNEL_NUMBER = "00000000";
+
+    // Grade mix of the test data: 11 E13, 6 E14, 5 W3, one each of E8, E9 and E15
+    private static final String[] GRADES = {
+            "E13", "E13", "E13", "E13", "E13", "E13", "E13", "E13", "E13", "E13", "E13",
+            "E14", "E14", "E14", "E14", "E14", "E14",
+            "W3", "W3", "W3", "W3", "W3",
+            "E8", "E9", "E15"
+    };
+
+    private static final Map<String, BigDecimal> MONTHLY_VALUES = Map.of(
+            "E8", new BigDecimal("3600.00"),
+            "E9", new BigDecimal("4050.00"),
+            "E13", new BigDecimal("5600.00"),
+            "E14", new BigDecimal("6000.00"),
+            "E15", new BigDecimal("6550.00"),
+            "W3", new BigDecimal("8300.00")
+    );
+
+    private static final int[] PERCENTAGES = {50, 65, 75, 100, 100};
+
+    private static final String[] TOPICS = {
+            "Machine Learning", "Computer Vision", "Database Systems", "Software Engineering",
+            "Artificial Intelligence", "Robotics", "Data Science", "Formal Methods", "Computer Graphics",
+            "Computer Networks", "Information Security", "Scientific Computing", "Quantum Computing",
+            "Human-Computer Interaction", "Embedded Systems", "Theoretical Computer Science"
+    };
+
+    private static final String[] PROFESSORS = {
+            "Schneider", "Weber", "Mueller", "Fischer", "Hoffmann", "Wagner", "Becker", "Schulz", "Koch", "Richter"
+    };
+
+    private static final String[] ROLES = {
+            "PhD Student", "Postdoc", "Research Assistant", "Research Engineer", "Technical Staff", "Secretary"
+    };
+
+    private static final DateTimeFormatter CSV_DATE = DateTimeFormatter.ofPattern("M/d/yy");
+
+    private static final String CSV_HEADER = "Stellenplanrelevanzart,ObjektId,STA,Objektkürzel,Objektbezeichnung,"
+            + "Wert Stelle,Department ID,Organisationseinheit(Bezeichnu,TrfGr(P),BsGrd,Prozt.,Beginn (P),Ende (P),"
+            + "Fonds,Department ID2,PersNr,Mitarbeitergruppe,Mitarbeiterkreis,Eintrittsdatum,Voraussichtlicher Austritt Per";
+
+    private SyntheticPositionData() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * One generated position row.
+     *
+     * @param id                the row ID
+     * @param objectId          the position identifier shared by all rows of a position
+     * @param relevanceType     the position relevance type
+     * @param objectCode        the position object code
+     * @param objectDescription the position description
+     * @param grade             the tariff group
+     * @param percentage        the assigned percentage
+     * @param startDate         the assignment start date
+     * @param endDate           the assignment end date (inclusive, as imported)
+     * @param personnelNumber   the personnel number, or the placeholder for vacant rows
+     * @param researchGroup     the index of the research group of the position
+     * @param organizationUnit  the organization unit as spelled in the import
+     */
+    public record Row(
+            UUID id,
+            String objectId,
+            String relevanceType,
+            String objectCode,
+            String objectDescription,
+            String grade,
+            BigDecimal percentage,
+            LocalDate startDate,
+            LocalDate endDate,
+            String personnelNumber,
+            int researchGroup,
+            String organizationUnit
+    ) {
+    }
+
+    /**
+     * A generated data set.
+     *
+     * @param rows           the position rows, grouped by position
+     * @param researchGroups the research groups, with IDs, names and abbreviations
+     */
+    public record Dataset(List<Row> rows, List<ResearchGroup> researchGroups) {
+
+        /**
+         * Returns the rows the candidate query would return: no placeholder rows, ordered by grade and start date.
+         *
+         * @return the candidate rows
+         */
+        public List<PositionCandidateView> candidateViews() {
+            List<PositionCandidateView> views = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                if (!PLACEHOLDER_PERSONNEL_NUMBER.equals(row.personnelNumber())) {
+                    views.add(new PositionCandidateView(
+                            row.id(),
+                            row.objectId(),
+                            row.grade(),
+                            GradeCodeNormalizer.normalize(row.grade()),
+                            row.relevanceType(),
+                            researchGroups.get(row.researchGroup()).getId(),
+                            row.percentage(),
+                            row.startDate(),
+                            row.endDate(),
+                            row.personnelNumber()
+                    ));
+                }
+            }
+            views.sort(Comparator.comparing(PositionCandidateView::tariffGroup)
+                    .thenComparing(PositionCandidateView::startDate));
+            return views;
+        }
+
+        /**
+         * Returns the descriptions of the given rows, like the description query.
+         *
+         * @param ids the row IDs
+         * @return the descriptions of the rows that exist
+         */
+        public List<PositionDescriptionView> descriptions(Collection<UUID> ids) {
+            List<PositionDescriptionView> descriptions = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                // Row IDs encode the row index (see rowId)
+                long index = id.getLeastSignificantBits() - 1;
+                if (id.getMostSignificantBits() == 1 && index >= 0 && index < rows.size()) {
+                    Row row = rows.get((int) index);
+                    descriptions.add(new PositionDescriptionView(id, row.objectCode(), row.objectDescription()));
+                }
+            }
+            return descriptions;
+        }
+
+        /**
+         * Returns a position repository that serves this data set:
+         * <ul>
+         *   <li>The candidate and description queries return the rows as the database would</li>
+         *   <li>The research group matching query returns the position entities with their research groups reset,
+         *       so that every call matches all positions again; saving them does nothing</li>
+         * </ul>
+         *
+         * @return the stub repository
+         */
+        @SuppressWarnings("unchecked")
+        public PositionRepository positionRepository() {
+            List<PositionCandidateView> candidateViews = candidateViews();
+            List<Position> positions = positions();
+            return RepositoryStubs.stub(PositionRepository.class, Map.of(
+                    "findCandidateViews", args -> candidateViews,
+                    "findDescriptionsByIdIn", args -> descriptions((Collection<UUID>) args[0]),
+                    "findAllWithResearchGroupForMatching", args -> {
+                        for (Position position : positions) {
+                            position.setResearchGroup(null);
+                        }
+                        return positions;
+                    },
+                    "saveAll", args -> args[0]
+            ));
+        }
+
+        /**
+         * Returns a research group repository that serves the research groups of this data set.
+         *
+         * @return the stub repository
+         */
+        public ResearchGroupRepository researchGroupRepository() {
+            List<ResearchGroup> sorted = researchGroups.stream()
+                    .sorted(Comparator.comparing(ResearchGroup::getName))
+                    .toList();
+            return RepositoryStubs.stub(ResearchGroupRepository.class, Map.of(
+                    "findAllByArchivedFalseOrderByNameAsc", args -> sorted
+            ));
+        }
+
+        /**
+         * Returns the rows as position entities without research group, as they are after an import.
+         *
+         * @return new position entities
+         */
+        public List<Position> positions() {
+            List<Position> positions = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                Position position = new Position();
+                position.setId(row.id());
+                position.setObjectId(row.objectId());
+                position.setPositionRelevanceType(row.relevanceType());
+                position.setObjectCode(row.objectCode());
+                position.setObjectDescription(row.objectDescription());
+                position.setTariffGroup(row.grade());
+                position.setPercentage(row.percentage());
+                position.setStartDate(row.startDate());
+                position.setEndDate(row.endDate());
+                position.setPersonnelNumber(row.personnelNumber());
+                position.setOrganizationUnit(row.organizationUnit());
+                positions.add(position);
+            }
+            return positions;
+        }
+
+        /**
+         * Returns the rows as lines of a CSV import in the format of the test data, starting with the header.
+         *
+         * @return the CSV lines
+         */
+        public List<String> csvLines() {
+            List<String> lines = new ArrayList<>(rows.size() + 1);
+            lines.add(CSV_HEADER);
+            StringBuilder line = new StringBuilder(256);
+            for (Row row : rows) {
+                line.setLength(0);
+                String percentage = row.percentage().stripTrailingZeros().toPlainString();
+                String startDate = CSV_DATE.format(row.startDate());
+                String endDate = CSV_DATE.format(row.endDate());
+                line.append(row.relevanceType()).append(',')
+                        .append(row.objectId()).append(",1,")
+                        .append(row.objectCode()).append(',')
+                        .append(csvField(row.objectDescription())).append(',')
+                        .append(row.grade()).append(",Computer Science,")
+                        .append(csvField(row.organizationUnit())).append(',')
+                        .append(row.grade()).append(',')
+                        .append(percentage).append(",100,")
+                        .append(startDate).append(',')
+                        .append(endDate).append(",2010005,0101,")
+                        .append(row.personnelNumber()).append(",Wiss.MA-DM,Beschäft.vh.befr.,")
+                        .append(startDate).append(',')
+                        .append(endDate);
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Generates a data set.
+     *
+     * @param rowCount the number of position rows (at least 1)
+     * @param seed     the random seed
+     * @return the generated data set
+     */
+    public static Dataset generate(int rowCount, long seed) {
+        Random random = new Random(seed);
+        List<ResearchGroup> researchGroups = researchGroups(Math.max(5, rowCount / 200));
+
+        List<Row> rows = new ArrayList<>(rowCount);
+        int positionNumber = 0;
+        int personnelNumber = 100_000;
+        while (rows.size() < rowCount) {
+            positionNumber++;
+            String objectId = String.valueOf(30_000_000 + positionNumber);
+            String objectCode = "BU4" + String.format("%07d", positionNumber);
+            String grade = GRADES[random.nextInt(GRADES.length)];
+            String relevanceType = random.nextInt(5) == 0 ? "Drittmittelstelle" : "Haushaltsstelle";
+            int researchGroup = random.nextInt(researchGroups.size());
+            String organizationUnit = organizationUnit(researchGroups.get(researchGroup), researchGroup, random);
+            String description = description(researchGroups.get(researchGroup), random);
+
+            // Consecutive assignments, all ending before the partially occupied year
+            LocalDate start = LocalDate.of(2018, 1, 1).plusMonths(random.nextInt(36));
+            int assignments = 1 + random.nextInt(3);
+            for (int i = 0; i < assignments && rows.size() < rowCount; i++) {
+                LocalDate end = start.plusMonths(12 + random.nextInt(25)).minusDays(1);
+                String personnel = random.nextInt(10) == 0
+                        ? PLACEHOLDER_PERSONNEL_NUMBER
+                        : String.format("%08d", personnelNumber++);
+                rows.add(new Row(rowId(rows.size()), objectId, relevanceType, objectCode, description, grade,
+                        BigDecimal.valueOf(PERCENTAGES[random.nextInt(PERCENTAGES.length)]), start, end, personnel,
+                        researchGroup, organizationUnit));
+                start = end.plusDays(1);
+            }
+
+            if (rows.size() < rowCount) {
+                rows.add(new Row(rowId(rows.size()), objectId, relevanceType, objectCode, description, grade,
+                        BigDecimal.valueOf(10 + 5 * random.nextInt(11)),
+                        LocalDate.of(PARTIALLY_OCCUPIED_YEAR, 1, 1), LocalDate.of(PARTIALLY_OCCUPIED_YEAR, 12, 31),
+                        String.format("%08d", personnelNumber++), researchGroup, organizationUnit));
+            }
+        }
+        return new Dataset(rows, researchGroups);
+    }
+
+    /**
+     * Returns the grade values of all generated grades.
+     *
+     * @return new grade value entities
+     */
+    public static List<GradeValue> gradeValues() {
+        List<GradeValue> gradeValues = new ArrayList<>();
+        for (Map.Entry<String, BigDecimal> entry : MONTHLY_VALUES.entrySet()) {
+            GradeValue gradeValue = new GradeValue();
+            gradeValue.setId(new UUID(2, gradeValues.size() + 1L));
+            gradeValue.setGradeCode(entry.getKey());
+            gradeValue.setMonthlyValue(entry.getValue());
+            gradeValues.add(gradeValue);
+        }
+        return gradeValues;
+    }
+
+    /**
+     * Returns a grade value repository that serves the grade values of all generated grades.
+     *
+     * @return the stub repository
+     */
+    public static GradeValueRepository gradeValueRepository() {
+        List<GradeValue> gradeValues = gradeValues();
+        return RepositoryStubs.stub(GradeValueRepository.class, Map.of("findAll", args -> gradeValues));
+    }
+
+    // Deterministic, so that repeated runs use the same IDs, and rows can be looked up by ID
+    private static UUID rowId(int index) {
+        return new UUID(1, index + 1L);
+    }
+
+    private static List<ResearchGroup> researchGroups(int count) {
+        List<ResearchGroup> researchGroups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String topic = TOPICS[i % TOPICS.length];
+            ResearchGroup researchGroup = new ResearchGroup();
+            researchGroup.setId(new UUID(0, i + 1L));
+            researchGroup.setName(i < TOPICS.length ? topic : topic + " " + (i / TOPICS.length + 1));
+            researchGroup.setAbbreviation("I" + (i + 1));
+            researchGroup.setDepartment("Computer Science");
+            researchGroups.add(researchGroup);
+        }
+        return researchGroups;
+    }
+
+    /**
+     * Spells the organization unit of a research group in one of the variants found in imports.
+     */
+    private static String organizationUnit(ResearchGroup researchGroup, int index, Random random) {
+        String professor = PROFESSORS[index % PROFESSORS.length];
+        return switch (random.nextInt(10)) {
+            case 0, 1 -> "Lehrstuhl für " + researchGroup.getName() + " (Prof. " + professor + ")";
+            case 2 -> researchGroup.getName() + " (" + researchGroup.getAbbreviation() + ")";
+            // A typo that only the fuzzy matching resolves
+            case 3 -> researchGroup.getName().substring(1) + " (Prof. " + professor + ")";
+            default -> researchGroup.getName() + " (Prof. " + professor + ")";
+        };
+    }
+
+    private static String description(ResearchGroup researchGroup, Random random) {
+        String role = ROLES[random.nextInt(ROLES.length)];
+        // Some descriptions contain the delimiter and are quoted in the CSV
+        return random.nextInt(10) == 0
+                ? role + ", " + researchGroup.getName()
+                : role + " " + researchGroup.getName();
+    }
+
+    private static String csvField(String value) {
+        return value.indexOf(',') >= 0 ? "\"" + value + "\"" : value;
+    }
+}
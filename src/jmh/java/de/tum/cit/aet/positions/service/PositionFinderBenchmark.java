@@ -0,0 +1,127 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.benchmark.SyntheticPositionData;
+import de.tum.cit.aet.core.config.StaffPlanProperties;
+import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
+import de.tum.cit.aet.positions.dto.SimulatedAssignmentDTO;
+import de.tum.cit.aet.positions.dto.SimulationDTO;
+import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.positions.service.availability.AvailabilityCalculator;
+import de.tum.cit.aet.positions.service.cache.PositionFinderCache;
+import de.tum.cit.aet.positions.service.matching.BudgetEfficiencyRule;
+import de.tum.cit.aet.positions.service.matching.MatchingRule;
+import de.tum.cit.aet.positions.service.matching.MatchingRulePipeline;
+import de.tum.cit.aet.positions.service.matching.SplitMinimizationRule;
+import de.tum.cit.aet.positions.service.matching.TimeOverlapRule;
+import de.tum.cit.aet.positions.service.simulation.SimulationService;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshotService;
+import de.tum.cit.aet.positions.service.split.SplitSuggestionSolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full position finder pipeline on synthetic data (see {@link SyntheticPositionData}), with the
+ * repositories replaced by in-memory stubs and the result cache disabled.
+ * <p>
+ * Both scenarios search faculty-wide for a full-time E13 employee over one year:
+ * <ul>
+ *   <li>{@code MATCHES}: in 2026, where many positions are free; returns the first page of 20 matches</li>
+ *   <li>{@code SPLITS}: in {@link SyntheticPositionData#PARTIALLY_OCCUPIED_YEAR}, where no single position is
+ *       free, so the time is dominated by the split suggestions</li>
+ * </ul>
+ * The snapshot is built once during setup, like after an import. {@link #simulationStep()} measures one step of a
+ * what-if simulation: placing a hypothetical assignment on a position and taking it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PositionFinderBenchmark {
+
+    /**
+     * The searched period.
+     */
+    public enum Scenario {
+        MATCHES,
+        SPLITS
+    }
+
+    @Param({"25", "10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"MATCHES", "SPLITS"})
+    private Scenario scenario;
+
+    private PositionFinderService positionFinderService;
+    private PositionFinderRequestDTO request;
+    private SimulationService simulationService;
+    private UUID simulationId;
+    private SimulatedAssignmentDTO simulatedAssignment;
+
+    @Setup
+    public void setUp() {
+        SyntheticPositionData.Dataset dataset = SyntheticPositionData.generate(rows, 42);
+        PositionRepository positionRepository = dataset.positionRepository();
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StaffPlanProperties properties = new StaffPlanProperties();
+        properties.getPositionFinder().getCache().setEnabled(false);
+        PositionDataVersion positionDataVersion = new PositionDataVersion();
+        PositionSnapshotService positionSnapshotService =
+                new PositionSnapshotService(positionRepository, positionDataVersion, meterRegistry);
+        List<MatchingRule> matchingRules = List.of(
+                new BudgetEfficiencyRule(), new SplitMinimizationRule(), new TimeOverlapRule());
+        simulationService = new SimulationService(positionSnapshotService, properties);
+
+        positionFinderService = new PositionFinderService(
+                positionSnapshotService,
+                positionRepository,
+                SyntheticPositionData.gradeValueRepository(),
+                new AvailabilityCalculator(),
+                new SplitSuggestionSolver(),
+                new MatchingRulePipeline(matchingRules),
+                properties,
+                positionDataVersion,
+                new PositionFinderCache(properties, meterRegistry),
+                new PositionFinderMetrics(meterRegistry, matchingRules),
+                simulationService
+        );
+        positionSnapshotService.refresh();
+
+        int year = scenario == Scenario.MATCHES ? 2026 : SyntheticPositionData.PARTIALLY_OCCUPIED_YEAR;
+        request = new PositionFinderRequestDTO(
+                LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1), "E13", 100, null, null, 20, 0);
+
+        simulationId = simulationService.create().id();
+        String objectId = positionSnapshotService.getSnapshot().groups().getFirst().objectId();
+        simulatedAssignment = new SimulatedAssignmentDTO(null, objectId, BigDecimal.valueOf(50),
+                LocalDate.of(year, 3, 1), LocalDate.of(year, 12, 31));
+    }
+
+    @Benchmark
+    public PositionFinderResponseDTO findPositions() {
+        return positionFinderService.findPositions(request);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SimulationDTO simulationStep() {
+        SimulationDTO simulation = simulationService.addAssignment(simulationId, simulatedAssignment);
+        return simulationService.removeAssignment(simulationId, simulation.assignments().getFirst().id());
+    }
+}
@@ -0,0 +1,75 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.benchmark.SyntheticPositionData;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
+import de.tum.cit.aet.positions.service.snapshot.PositionGroup;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the minimum availability calculation of all positions of a synthetic data set
+ * (see {@link SyntheticPositionData}) for a one-year period, as done once per candidate by every search:
+ * as a range query on the vacancy timelines of the snapshot, and with the sweep over the assignments.
+ * <p>
+ * In 2026 most positions still have assignment history around the period; in
+ * {@link SyntheticPositionData#PARTIALLY_OCCUPIED_YEAR} every position has exactly one overlapping assignment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityCalculatorBenchmark {
+
+    @Param({"25", "10000", "1000000"})
+    private int rows;
+
+    @Param({"2026", "2031"})
+    private int year;
+
+    private final AvailabilityCalculator availabilityCalculator = new AvailabilityCalculator();
+
+    private List<PositionGroup> groups;
+    private List<AssignmentIntervals> withoutTimeline;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        SyntheticPositionData.Dataset dataset = SyntheticPositionData.generate(rows, 42);
+        PositionSnapshotService positionSnapshotService = new PositionSnapshotService(
+                dataset.positionRepository(), new PositionDataVersion(), new SimpleMeterRegistry());
+        groups = positionSnapshotService.getSnapshot().groups();
+        withoutTimeline = groups.stream()
+                .map(group -> AssignmentIntervals.of(Arrays.asList(group.assignments().byStart())))
+                .toList();
+        startDate = LocalDate.of(year, 1, 1);
+        endDate = LocalDate.of(year + 1, 1, 1);
+    }
+
+    @Benchmark
+    public void calculateAll(Blackhole blackhole) {
+        for (PositionGroup group : groups) {
+            blackhole.consume(availabilityCalculator.calculate(group.assignments(), startDate, endDate));
+        }
+    }
+
+    @Benchmark
+    public void sweepAll(Blackhole blackhole) {
+        for (AssignmentIntervals intervals : withoutTimeline) {
+            blackhole.consume(availabilityCalculator.calculate(intervals, startDate, endDate));
+        }
+    }
+}
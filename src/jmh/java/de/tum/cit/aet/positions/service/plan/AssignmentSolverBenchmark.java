@@ -0,0 +1,63 @@
+package de.tum.cit.aet.positions.service.plan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the joint assignment of hiring requests to positions as built by the assignment planner:
+ * each request matches a random share of the positions, and every request has its own "unassigned" column.
+ * <p>
+ * Dense preferences (every request matches many of the same positions) are the hard case, since many
+ * requests compete for the best positions and the augmenting paths get long.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssignmentSolverBenchmark {
+
+    @Param({"50", "200", "500"})
+    private int requests;
+
+    @Param({"1000", "5000"})
+    private int positions;
+
+    // Share of positions that match a request
+    @Param({"0.05", "0.5"})
+    private double density;
+
+    private final AssignmentSolver solver = new AssignmentSolver();
+
+    private long[][] cost;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long unassignedCost = (requests + 1) * 10_001L;
+        cost = new long[requests][positions + requests];
+        for (int row = 0; row < requests; row++) {
+            Arrays.fill(cost[row], AssignmentSolver.FORBIDDEN);
+            for (int column = 0; column < positions; column++) {
+                if (random.nextDouble() < density) {
+                    // Scores cluster at the top, as in real searches
+                    cost[row][column] = random.nextInt(2_000);
+                }
+            }
+            cost[row][positions + row] = unassignedCost;
+        }
+    }
+
+    @Benchmark
+    public int[] solve() {
+        return solver.solve(cost);
+    }
+}
@@ -0,0 +1,45 @@
+package de.tum.cit.aet.usermanagement.service;
+
+import de.tum.cit.aet.benchmark.SyntheticPositionData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the batch assignment of research groups to imported positions by organization unit, with the
+ * repositories replaced by in-memory stubs (see {@link SyntheticPositionData}).
+ * <p>
+ * The data set has one research group per 200 rows and several spellings per group, some of which are only
+ * resolved by the fuzzy matching. Each distinct organization unit is matched once per call, so the cost grows
+ * with the number of distinct organization units times the number of research groups; larger data sets are
+ * left out since they take minutes per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResearchGroupMatchingServiceBenchmark {
+
+    @Param({"25", "10000", "100000"})
+    private int rows;
+
+    private ResearchGroupMatchingService researchGroupMatchingService;
+
+    @Setup
+    public void setUp() {
+        SyntheticPositionData.Dataset dataset = SyntheticPositionData.generate(rows, 42);
+        researchGroupMatchingService = new ResearchGroupMatchingService(
+                dataset.researchGroupRepository(), dataset.positionRepository());
+    }
+
+    @Benchmark
+    public ResearchGroupMatchingService.BatchAssignResult batchAssignPositions() {
+        return researchGroupMatchingService.batchAssignPositions();
+    }
+}
@@ -0,0 +1,58 @@
+package de.tum.cit.aet.util;
+
+import de.tum.cit.aet.benchmark.SyntheticPositionData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the tokenizing of a position import in the format of the test data, generated by
+ * {@link SyntheticPositionData} (about one in ten descriptions is quoted).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvTokenizerBenchmark {
+
+    @Param({"25", "10000", "1000000"})
+    private int rows;
+
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        csv = String.join("\n", SyntheticPositionData.generate(rows, 42).csvLines());
+    }
+
+    /**
+     * Tokenizes every record without creating strings, like the offsets-only use of the tokenizer.
+     */
+    @Benchmark
+    public void tokenize(Blackhole blackhole) throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.open(new StringReader(csv));
+        while (tokenizer.nextRecord()) {
+            blackhole.consume(tokenizer.end(tokenizer.fieldCount() - 1));
+        }
+    }
+
+    /**
+     * Tokenizes every record and materializes all fields, like the former line parser.
+     */
+    @Benchmark
+    public void tokenizeAndMaterialize(Blackhole blackhole) throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.open(new StringReader(csv));
+        while (tokenizer.nextRecord()) {
+            blackhole.consume(tokenizer.values());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package de.tum.cit.aet.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the budget, cost and waste calculations of the position finder hot loop
+ * in {@link BigDecimal} arithmetic against the {@link FixedPoint} representation.
+ * <p>
+ * Both variants calculate the same values for every candidate: the employee's prorated cost,
+ * the position budget for the available percentage, the waste and the waste percentage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FixedPointBenchmark {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({"1000", "100000"})
+    private int candidates;
+
+    private BigDecimal employeeMonthlyValue;
+    private BigDecimal[] positionMonthlyValues;
+    private BigDecimal[] availablePercentages;
+
+    private long employeeMonthlyCents;
+    private long[] positionMonthlyCents;
+    private long[] availableBasisPoints;
+
+    private final int fillPercentage = 50;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        employeeMonthlyValue = BigDecimal.valueOf(400_000 + random.nextInt(200_000), 2);
+        employeeMonthlyCents = FixedPoint.toCents(employeeMonthlyValue);
+
+        positionMonthlyValues = new BigDecimal[candidates];
+        availablePercentages = new BigDecimal[candidates];
+        positionMonthlyCents = new long[candidates];
+        availableBasisPoints = new long[candidates];
+        for (int i = 0; i < candidates; i++) {
+            positionMonthlyValues[i] = BigDecimal.valueOf(400_000 + random.nextInt(300_000), 2);
+            availablePercentages[i] = BigDecimal.valueOf(random.nextInt(10_001), 2);
+            positionMonthlyCents[i] = FixedPoint.toCents(positionMonthlyValues[i]);
+            availableBasisPoints[i] = FixedPoint.toBasisPoints(availablePercentages[i]);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal employeeCost = employeeMonthlyValue.multiply(BigDecimal.valueOf(fillPercentage))
+                .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+        for (int i = 0; i < candidates; i++) {
+            if (availablePercentages[i].compareTo(BigDecimal.valueOf(fillPercentage)) < 0) {
+                continue;
+            }
+            BigDecimal budget = positionMonthlyValues[i].multiply(availablePercentages[i])
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            BigDecimal waste = budget.subtract(employeeCost);
+            double wastePercentage = budget.compareTo(BigDecimal.ZERO) > 0
+                    ? waste.divide(budget, 4, RoundingMode.HALF_UP).multiply(HUNDRED).doubleValue()
+                    : 0;
+            blackhole.consume(waste);
+            blackhole.consume(wastePercentage);
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        long fillBasisPoints = FixedPoint.toBasisPoints(fillPercentage);
+        long employeeCost = FixedPoint.prorate(employeeMonthlyCents, fillBasisPoints);
+        for (int i = 0; i < candidates; i++) {
+            if (availableBasisPoints[i] < fillBasisPoints) {
+                continue;
+            }
+            long budget = FixedPoint.prorate(positionMonthlyCents[i], availableBasisPoints[i]);
+            long waste = budget - employeeCost;
+            double wastePercentage = budget > 0 ? FixedPoint.ratioPercentage(waste, budget) : 0;
+            blackhole.consume(waste);
+            blackhole.consume(wastePercentage);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.List;
 
 @Setter
@@ -14,10 +16,55 @@ import java.util.List;
 public class StaffPlanProperties {
 
     private Cors cors = new Cors();
+    private PositionFinder positionFinder = new PositionFinder();
+    private PositionImport positionImport = new PositionImport();
 
     @Setter
     @Getter
     public static class Cors {
         private List<String> allowedOrigins;
     }
+
+    @Setter
+    @Getter
+    public static class PositionFinder {
+        // Minimum number of candidate positions for which a search is evaluated in parallel
+        private int parallelThreshold = 2000;
+        private Cache cache = new Cache();
+        private Simulation simulation = new Simulation();
+
+        @Setter
+        @Getter
+        public static class Cache {
+            private boolean enabled = true;
+            // Upper bound on the cached responses, weighted by their number of matches and split positions
+            private long maxWeight = 100_000;
+            private int maxEntries = 1000;
+        }
+
+        @Setter
+        @Getter
+        public static class Simulation {
+            // Simulations not used for this long are discarded
+            private Duration ttl = Duration.ofMinutes(30);
+            // Upper bound on the simulations kept in memory; the least recently used one is discarded first
+            private int maxSessions = 100;
+            private int maxAssignments = 50;
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class PositionImport {
+        // Files of at least this size are parsed in chunks on several threads
+        private DataSize parallelThreshold = DataSize.ofMegabytes(8);
+        // Approximate number of characters per chunk of a parallel import
+        private DataSize chunkSize = DataSize.ofMegabytes(1);
+        // Number of parsing threads shared by all parallel imports; 0 uses all available processors
+        private int parallelism = 0;
+
+        public int getEffectiveParallelism() {
+            return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        }
+    }
 }
@@ -46,6 +46,10 @@ public class WebSecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v2/research-groups/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/actuator/info").permitAll()
                         .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        // Metrics expose application internals: only tokens with the admin client role may read them,
+                        // so the scraper needs a service account with that role
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics", "/actuator/metrics/**", "/actuator/prometheus")
+                        .hasRole("admin")
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(server -> server.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthConverter)));
@@ -1,7 +1,10 @@
 package de.tum.cit.aet.positions.domain;
 
+import de.tum.cit.aet.positions.service.snapshot.PositionChangeListener;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import de.tum.cit.aet.util.GradeCodeNormalizer;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
@@ -16,6 +19,7 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "positions")
+@EntityListeners(PositionChangeListener.class)
 public class Position {
 
     @Id
@@ -50,6 +54,14 @@ public class Position {
     @Column(name = "tariff_group", length = 50)
     private String tariffGroup;
 
+    /**
+     * The tariff group normalized for grade value lookups (see {@link GradeCodeNormalizer}), or null if the
+     * position has no tariff group. Derived from {@link #tariffGroup} whenever it is set.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "normalized_grade", length = 50)
+    private String normalizedGrade;
+
     @Column(name = "base_grade", length = 50)
     private String baseGrade;
 
@@ -83,6 +95,13 @@ public class Position {
     @Column(name = "expected_exit_date")
     private LocalDate expectedExitDate;
 
+    /**
+     * Hash of the imported columns, set by CSV imports; null for positions imported before it was introduced.
+     * Delta imports use it to skip unchanged rows.
+     */
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "research_group_id")
     private ResearchGroup researchGroup;
@@ -94,4 +113,16 @@ public class Position {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
+
+    /**
+     * Sets the tariff group and its normalized form. Tariff groups without a grade (e.g., "TVL") are stored
+     * without a normalized grade, like in the backfill of changeset 007-2.
+     *
+     * @param tariffGroup the tariff group as imported (e.g., "E 13 TVL")
+     */
+    public void setTariffGroup(String tariffGroup) {
+        this.tariffGroup = tariffGroup;
+        String normalized = GradeCodeNormalizer.normalize(tariffGroup);
+        this.normalizedGrade = normalized.isEmpty() ? null : normalized;
+    }
 }
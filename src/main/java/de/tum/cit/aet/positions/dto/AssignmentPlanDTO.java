@@ -0,0 +1,19 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.util.List;
+
+/**
+ * A conflict-free assignment of hiring requests to positions.
+ *
+ * @param assignments     one entry per request, in request order
+ * @param assignedCount   the number of requests that were assigned a position
+ * @param unassignedCount the number of valid requests that could not be assigned a position
+ * @param totalScore      the sum of the matching scores of all assignments
+ */
+public record AssignmentPlanDTO(
+        List<PlannedAssignmentDTO> assignments,
+        int assignedCount,
+        int unassignedCount,
+        double totalScore
+) {
+}
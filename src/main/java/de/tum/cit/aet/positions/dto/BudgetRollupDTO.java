@@ -0,0 +1,46 @@
+package de.tum.cit.aet.positions.dto;
+
+import de.tum.cit.aet.positions.repository.BudgetRollupView;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * The budget of the positions of one research group, grade and relevance type in one month.
+ *
+ * @param month           the month (e.g. "2026-03")
+ * @param researchGroupId the research group, or {@code null} for positions without research group
+ * @param grade           the normalized grade
+ * @param relevanceType   the position relevance type, or {@code null} if unknown
+ * @param positionCount   the number of positions
+ * @param capacityBudget  the sum of the monthly values of the positions
+ * @param assignedBudget  the part of the capacity used by assignments, prorated by day
+ * @param availableBudget the capacity minus the assigned budget
+ */
+public record BudgetRollupDTO(
+        String month,
+        UUID researchGroupId,
+        String grade,
+        String relevanceType,
+        long positionCount,
+        BigDecimal capacityBudget,
+        BigDecimal assignedBudget,
+        BigDecimal availableBudget
+) {
+    /**
+     * Creates a BudgetRollupDTO from a row of the budget rollups view.
+     */
+    public static BudgetRollupDTO fromView(BudgetRollupView view) {
+        return new BudgetRollupDTO(
+                YearMonth.from(view.month()).toString(),
+                view.researchGroupId(),
+                view.gradeCode(),
+                view.relevanceType(),
+                view.positionCount(),
+                view.capacityBudget(),
+                view.assignedBudget(),
+                view.availableBudget()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package de.tum.cit.aet.positions.dto;
+
+/**
+ * The position assigned to one hiring request of an assignment plan.
+ *
+ * @param index                 the position of the request in the plan input
+ * @param match                 the assigned position, or null if the request could not be placed
+ * @param eligiblePositionCount the number of positions that could accommodate the request on their own
+ * @param error                 the validation error, or null if the request was valid
+ */
+public record PlannedAssignmentDTO(
+        int index,
+        PositionMatchDTO match,
+        int eligiblePositionCount,
+        String error
+) {
+}
@@ -0,0 +1,28 @@
+package de.tum.cit.aet.positions.dto;
+
+/**
+ * Result of one request within a batch position finder search.
+ *
+ * @param index    the position of the request in the batch
+ * @param response the search response, or null if the request was invalid
+ * @param error    the validation error, or null if the search succeeded
+ */
+public record PositionFinderBatchResultDTO(
+        int index,
+        PositionFinderResponseDTO response,
+        String error
+) {
+    /**
+     * Creates the result of a successful search.
+     */
+    public static PositionFinderBatchResultDTO success(int index, PositionFinderResponseDTO response) {
+        return new PositionFinderBatchResultDTO(index, response, null);
+    }
+
+    /**
+     * Creates the result of an invalid request.
+     */
+    public static PositionFinderBatchResultDTO failure(int index, String error) {
+        return new PositionFinderBatchResultDTO(index, null, error);
+    }
+}
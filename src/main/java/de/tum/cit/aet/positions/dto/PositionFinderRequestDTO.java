@@ -6,6 +6,15 @@ import java.util.UUID;
 
 /**
  * Request DTO for position finder searches.
+ *
+ * @param startDate       the search period start date
+ * @param endDate         the search period end date
+ * @param employeeGrade   the employee's grade code
+ * @param fillPercentage  the requested percentage (default 100)
+ * @param researchGroupId optional research group filter
+ * @param relevanceTypes  optional relevance type filter
+ * @param limit           optional maximum number of matches to return (null = all matches)
+ * @param offset          optional number of best matches to skip before the returned ones (default 0)
  */
 public record PositionFinderRequestDTO(
         LocalDate startDate,
@@ -13,12 +22,29 @@ public record PositionFinderRequestDTO(
         String employeeGrade,
         Integer fillPercentage,
         UUID researchGroupId,
-        List<String> relevanceTypes
+        List<String> relevanceTypes,
+        Integer limit,
+        Integer offset
 ) {
+    /**
+     * Creates a request for all matches.
+     */
+    public PositionFinderRequestDTO(LocalDate startDate, LocalDate endDate, String employeeGrade,
+                                    Integer fillPercentage, UUID researchGroupId, List<String> relevanceTypes) {
+        this(startDate, endDate, employeeGrade, fillPercentage, researchGroupId, relevanceTypes, null, null);
+    }
+
     /**
      * Returns the fill percentage as a decimal (0-100 -> actual percentage).
      */
     public int fillPercentageOrDefault() {
         return fillPercentage != null ? fillPercentage : 100;
     }
+
+    /**
+     * Returns the number of best matches to skip, 0 if not specified.
+     */
+    public int offsetOrDefault() {
+        return offset != null ? offset : 0;
+    }
 }
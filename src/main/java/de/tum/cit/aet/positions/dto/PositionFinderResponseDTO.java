@@ -9,8 +9,8 @@ import java.util.List;
  * @param employeeMonthlyCost the monthly cost of the employee based on grade and percentage
  * @param employeeGrade the employee's grade code
  * @param fillPercentage the requested fill percentage
- * @param totalMatchesFound number of single-position matches found
- * @param matches list of positions that can fully accommodate the request
+ * @param totalMatchesFound number of single-position matches found, including those outside the requested page
+ * @param matches the requested page of positions that can fully accommodate the request, best first
  * @param splitSuggestions suggested combinations when no single position suffices
  */
 public record PositionFinderResponseDTO(
@@ -0,0 +1,19 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Summary of a streamed position finder search, sent before any result.
+ *
+ * @param employeeMonthlyCost the monthly cost of the employee based on grade and percentage
+ * @param employeeGrade       the employee's grade code
+ * @param fillPercentage      the requested fill percentage
+ * @param candidateCount      the number of candidate positions that are evaluated
+ */
+public record PositionFinderSearchSummaryDTO(
+        BigDecimal employeeMonthlyCost,
+        String employeeGrade,
+        int fillPercentage,
+        int candidateCount
+) {
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.aet.positions.dto;
+
+/**
+ * One line of a streamed position finder search (newline-delimited JSON).
+ * <p>
+ * A stream consists of one {@code SUMMARY} event, the {@code MATCH} events in score order (best first),
+ * the {@code SPLIT_SUGGESTION} events if no single position matches, and a final {@code COMPLETE} event.
+ * Only the field belonging to the event type is set.
+ *
+ * @param type              the event type
+ * @param summary           the search summary ({@code SUMMARY} only)
+ * @param match             a matching position ({@code MATCH} only)
+ * @param splitSuggestion   a split suggestion ({@code SPLIT_SUGGESTION} only)
+ * @param totalMatchesFound the number of matching positions, including those beyond the limit ({@code COMPLETE} only)
+ */
+public record PositionFinderStreamEventDTO(
+        EventType type,
+        PositionFinderSearchSummaryDTO summary,
+        PositionMatchDTO match,
+        SplitSuggestionDTO splitSuggestion,
+        Integer totalMatchesFound
+) {
+    /**
+     * Stream event type.
+     */
+    public enum EventType {
+        SUMMARY,
+        MATCH,
+        SPLIT_SUGGESTION,
+        COMPLETE
+    }
+
+    /**
+     * Creates the summary event that starts a stream.
+     */
+    public static PositionFinderStreamEventDTO summary(PositionFinderSearchSummaryDTO summary) {
+        return new PositionFinderStreamEventDTO(EventType.SUMMARY, summary, null, null, null);
+    }
+
+    /**
+     * Creates the event for one matching position.
+     */
+    public static PositionFinderStreamEventDTO match(PositionMatchDTO match) {
+        return new PositionFinderStreamEventDTO(EventType.MATCH, null, match, null, null);
+    }
+
+    /**
+     * Creates the event for one split suggestion.
+     */
+    public static PositionFinderStreamEventDTO splitSuggestion(SplitSuggestionDTO splitSuggestion) {
+        return new PositionFinderStreamEventDTO(EventType.SPLIT_SUGGESTION, null, null, splitSuggestion, null);
+    }
+
+    /**
+     * Creates the event that ends a stream.
+     */
+    public static PositionFinderStreamEventDTO complete(int totalMatchesFound) {
+        return new PositionFinderStreamEventDTO(EventType.COMPLETE, null, null, null, totalMatchesFound);
+    }
+}
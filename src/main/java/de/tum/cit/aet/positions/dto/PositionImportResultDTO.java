@@ -0,0 +1,77 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.util.List;
+
+/**
+ * The outcome of a position CSV import.
+ *
+ * @param importedCount  the number of imported positions
+ * @param skippedLines   the number of lines that could not be parsed
+ * @param insertedCount  the number of inserted positions
+ * @param updatedCount   the number of updated positions; always 0 for appending imports
+ * @param deletedCount   the number of deleted positions; always 0 for appending imports
+ * @param unchangedCount the number of imported positions that were already stored; always 0 for appending imports
+ * @param errors         the errors of the skipped lines with their line numbers, limited to the first ones
+ * @param durationMillis the duration of the import in milliseconds
+ * @param rowsPerSecond  the imported positions per second
+ * @param rejected       whether the import was rejected without writing, e.g. a delta import with line errors
+ */
+public record PositionImportResultDTO(
+        int importedCount,
+        int skippedLines,
+        int insertedCount,
+        int updatedCount,
+        int deletedCount,
+        int unchangedCount,
+        List<String> errors,
+        long durationMillis,
+        long rowsPerSecond,
+        boolean rejected
+) {
+    /**
+     * Creates the result of an appending import from its counts and duration.
+     *
+     * @param importedCount the number of imported positions
+     * @param skippedLines  the number of lines that could not be parsed
+     * @param errors        the reported errors of the skipped lines
+     * @param durationNanos the duration of the import in nanoseconds
+     * @return the import result
+     */
+    public static PositionImportResultDTO of(int importedCount, int skippedLines, List<String> errors, long durationNanos) {
+        return ofDelta(importedCount, skippedLines, importedCount, 0, 0, 0, errors, durationNanos);
+    }
+
+    /**
+     * Creates the result of a delta import from its counts and duration.
+     *
+     * @param importedCount  the number of imported positions
+     * @param skippedLines   the number of lines that could not be parsed
+     * @param insertedCount  the number of inserted positions
+     * @param updatedCount   the number of updated positions
+     * @param deletedCount   the number of deleted positions
+     * @param unchangedCount the number of imported positions that were already stored
+     * @param errors         the reported errors of the skipped lines
+     * @param durationNanos  the duration of the import in nanoseconds
+     * @return the import result
+     */
+    public static PositionImportResultDTO ofDelta(int importedCount, int skippedLines, int insertedCount, int updatedCount,
+                                                  int deletedCount, int unchangedCount, List<String> errors, long durationNanos) {
+        long rowsPerSecond = durationNanos > 0 ? Math.round(importedCount * 1_000_000_000.0 / durationNanos) : 0;
+        return new PositionImportResultDTO(importedCount, skippedLines, insertedCount, updatedCount, deletedCount,
+                unchangedCount, List.copyOf(errors), durationNanos / 1_000_000, rowsPerSecond, false);
+    }
+
+    /**
+     * Creates the result of an import that was rejected without writing any position.
+     *
+     * @param importedCount the number of parsed positions
+     * @param skippedLines  the number of lines that could not be parsed
+     * @param errors        the reported errors of the skipped lines
+     * @param durationNanos the duration of the import in nanoseconds
+     * @return the import result
+     */
+    public static PositionImportResultDTO rejected(int importedCount, int skippedLines, List<String> errors, long durationNanos) {
+        return new PositionImportResultDTO(importedCount, skippedLines, 0, 0, 0, 0, List.copyOf(errors),
+                durationNanos / 1_000_000, 0, true);
+    }
+}
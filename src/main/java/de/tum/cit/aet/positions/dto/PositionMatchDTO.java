@@ -36,6 +36,34 @@ public record PositionMatchDTO(
         POOR       // 0-39
     }
 
+    /**
+     * Returns a copy of this match with the given object code and description.
+     *
+     * @param code        the position object code
+     * @param description the position description
+     * @return the described match
+     */
+    public PositionMatchDTO withDescription(String code, String description) {
+        return new PositionMatchDTO(
+                positionId,
+                objectId,
+                code,
+                description,
+                positionGrade,
+                positionRelevanceType,
+                positionPercentage,
+                availablePercentage,
+                positionStartDate,
+                positionEndDate,
+                overallScore,
+                matchQuality,
+                wasteAmount,
+                wastePercentage,
+                currentAssignmentCount,
+                warnings
+        );
+    }
+
     /**
      * Determines match quality from overall score.
      */
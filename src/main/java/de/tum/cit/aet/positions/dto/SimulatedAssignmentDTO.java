@@ -0,0 +1,37 @@
+package de.tum.cit.aet.positions.dto;
+
+import de.tum.cit.aet.positions.service.simulation.SimulatedAssignment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A hypothetical assignment of a what-if simulation.
+ *
+ * @param id         the assignment ID (assigned by the server, ignored when adding an assignment)
+ * @param objectId   the position the assignment is placed on
+ * @param percentage the assigned percentage
+ * @param startDate  the first day of the assignment
+ * @param endDate    the last day of the assignment
+ */
+public record SimulatedAssignmentDTO(
+        UUID id,
+        String objectId,
+        BigDecimal percentage,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    /**
+     * Creates a SimulatedAssignmentDTO from a simulated assignment.
+     */
+    public static SimulatedAssignmentDTO fromAssignment(SimulatedAssignment assignment) {
+        return new SimulatedAssignmentDTO(
+                assignment.id(),
+                assignment.objectId(),
+                assignment.percentage(),
+                assignment.startDate(),
+                assignment.endDate()
+        );
+    }
+}
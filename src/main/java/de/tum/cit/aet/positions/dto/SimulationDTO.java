@@ -0,0 +1,19 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A what-if simulation: hypothetical assignments that position finder searches can take into account.
+ *
+ * @param id          the simulation ID, passed to searches as {@code simulationId}
+ * @param expiresAt   the time the simulation is discarded unless it is used again
+ * @param assignments the hypothetical assignments, in the order they were added
+ */
+public record SimulationDTO(
+        UUID id,
+        Instant expiresAt,
+        List<SimulatedAssignmentDTO> assignments
+) {
+}
@@ -0,0 +1,27 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A rise in the free percentage of a position, e.g. because an assignment ends.
+ *
+ * @param objectId              the position identifier
+ * @param grade                 the grade of the position
+ * @param researchGroupId       the research group of the position, or null
+ * @param vacantFrom            the first day with the higher free percentage
+ * @param freePercentageBefore  the free percentage on the day before
+ * @param freePercentageAfter   the free percentage from this day on
+ * @param freedMonthlyBudget    the monthly budget that becomes free, or null if the grade has no grade value
+ */
+public record VacancyDTO(
+        String objectId,
+        String grade,
+        UUID researchGroupId,
+        LocalDate vacantFrom,
+        BigDecimal freePercentageBefore,
+        BigDecimal freePercentageAfter,
+        BigDecimal freedMonthlyBudget
+) {
+}
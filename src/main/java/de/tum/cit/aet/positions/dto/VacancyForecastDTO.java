@@ -0,0 +1,29 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Positions whose free percentage rises within a horizon, grouped by month and grade.
+ *
+ * @param from               the first day of the horizon
+ * @param until              the first day after the horizon
+ * @param vacancyCount       the total number of vacancies
+ * @param freedMonthlyBudget the sum of the freed monthly budgets of all vacancies
+ * @param months             the vacancies per month, in chronological order (months without vacancies are omitted)
+ */
+public record VacancyForecastDTO(
+        LocalDate from,
+        LocalDate until,
+        int vacancyCount,
+        BigDecimal freedMonthlyBudget,
+        List<VacancyMonthDTO> months
+) {
+    /**
+     * Creates a forecast without vacancies.
+     */
+    public static VacancyForecastDTO empty(LocalDate from, LocalDate until) {
+        return new VacancyForecastDTO(from, until, 0, BigDecimal.ZERO.setScale(2), List.of());
+    }
+}
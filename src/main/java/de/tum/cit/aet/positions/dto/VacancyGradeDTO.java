@@ -0,0 +1,22 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The vacancies of one grade within one month of a vacancy forecast.
+ *
+ * @param grade              the grade
+ * @param positionCount      the number of distinct positions with a vacancy
+ * @param freedPercentage    the sum of the freed percentages
+ * @param freedMonthlyBudget the sum of the freed monthly budgets of all vacancies with a known grade value
+ * @param vacancies          the vacancies, by date and objectId
+ */
+public record VacancyGradeDTO(
+        String grade,
+        int positionCount,
+        BigDecimal freedPercentage,
+        BigDecimal freedMonthlyBudget,
+        List<VacancyDTO> vacancies
+) {
+}
@@ -0,0 +1,18 @@
+package de.tum.cit.aet.positions.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The vacancies of one month of a vacancy forecast.
+ *
+ * @param month              the month (e.g. "2026-03")
+ * @param freedMonthlyBudget the sum of the freed monthly budgets of all grades
+ * @param grades             the vacancies per grade, ordered by grade
+ */
+public record VacancyMonthDTO(
+        String month,
+        BigDecimal freedMonthlyBudget,
+        List<VacancyGradeDTO> grades
+) {
+}
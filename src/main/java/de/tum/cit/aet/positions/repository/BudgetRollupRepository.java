@@ -0,0 +1,70 @@
+package de.tum.cit.aet.positions.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads and refreshes the {@code budget_rollups} materialized view (see changelog 009).
+ * <p>
+ * The view has no entity, since its key columns are nullable; it is accessed with plain SQL instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BudgetRollupRepository {
+
+    private static final String SELECT = """
+            SELECT month, research_group_id, grade_code, relevance_type, position_count,
+                   capacity_budget, assigned_budget, available_budget
+            FROM budget_rollups
+            WHERE month >= :from AND month < :until
+            """;
+
+    private static final String ORDER_BY = " ORDER BY month, research_group_id, grade_code, relevance_type";
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Returns the rollups of all research groups within a range of months.
+     *
+     * @param from  the first month (first day of the month)
+     * @param until the first month after the range (first day of the month)
+     * @return the rollups ordered by month, research group, grade and relevance type
+     */
+    public List<BudgetRollupView> findByMonthRange(LocalDate from, LocalDate until) {
+        return jdbcClient.sql(SELECT + ORDER_BY)
+                .param("from", from)
+                .param("until", until)
+                .query(BudgetRollupView.class)
+                .list();
+    }
+
+    /**
+     * Returns the rollups of one research group within a range of months.
+     *
+     * @param from            the first month (first day of the month)
+     * @param until           the first month after the range (first day of the month)
+     * @param researchGroupId the research group
+     * @return the rollups ordered by month, grade and relevance type
+     */
+    public List<BudgetRollupView> findByMonthRangeAndResearchGroup(LocalDate from, LocalDate until, UUID researchGroupId) {
+        return jdbcClient.sql(SELECT + " AND research_group_id = :researchGroupId" + ORDER_BY)
+                .param("from", from)
+                .param("until", until)
+                .param("researchGroupId", researchGroupId)
+                .query(BudgetRollupView.class)
+                .list();
+    }
+
+    /**
+     * Recomputes the view from the positions and grade values. Readers keep seeing the previous contents
+     * until the refresh is done.
+     */
+    public void refresh() {
+        jdbcClient.sql("REFRESH MATERIALIZED VIEW CONCURRENTLY budget_rollups").update();
+    }
+}
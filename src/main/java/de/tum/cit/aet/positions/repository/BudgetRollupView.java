@@ -0,0 +1,29 @@
+package de.tum.cit.aet.positions.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One row of the {@code budget_rollups} materialized view.
+ *
+ * @param month           the first day of the month
+ * @param researchGroupId the research group of the positions, or {@code null} for unassigned positions
+ * @param gradeCode       the normalized grade of the positions
+ * @param relevanceType   the position relevance type, or {@code null} if unknown
+ * @param positionCount   the number of positions (distinct object IDs)
+ * @param capacityBudget  the sum of the monthly values of the positions
+ * @param assignedBudget  the part of the capacity used by assignments in the month, prorated by day
+ * @param availableBudget the capacity minus the assigned budget
+ */
+public record BudgetRollupView(
+        LocalDate month,
+        UUID researchGroupId,
+        String gradeCode,
+        String relevanceType,
+        long positionCount,
+        BigDecimal capacityBudget,
+        BigDecimal assignedBudget,
+        BigDecimal availableBudget
+) {
+}
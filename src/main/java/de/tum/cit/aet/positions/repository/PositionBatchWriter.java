@@ -0,0 +1,140 @@
+package de.tum.cit.aet.positions.repository;
+
+import de.tum.cit.aet.positions.domain.Position;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes positions with JDBC batch statements, bypassing the persistence context.
+ * <p>
+ * Used by bulk imports, where saving entities one by one through JPA would keep every imported row in the
+ * persistence context and send one INSERT round trip per row. Since the entity listener is bypassed as well,
+ * callers must increment the {@code PositionDataVersion} after writing.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PositionBatchWriter {
+
+    // The imported columns, in the order set by setImportedColumns
+    private static final String IMPORTED_COLUMNS = """
+            position_relevance_type, object_id, status, object_code, object_description, position_value,
+            department_id, organization_unit, tariff_group, normalized_grade, base_grade, percentage, start_date,
+            end_date, fund, department_id_2, personnel_number, employee_group, employee_circle, entry_date,
+            expected_exit_date, content_hash""";
+
+    private static final int IMPORTED_COLUMN_COUNT = 22;
+
+    private static final String INSERT = "INSERT INTO positions (position_id, " + IMPORTED_COLUMNS
+            + ", research_group_id, created_at, updated_at) VALUES (?, " + "?, ".repeat(IMPORTED_COLUMN_COUNT) + "?, ?, ?)";
+
+    // The research group and creation time of updated positions are kept
+    private static final String UPDATE = "UPDATE positions SET (" + IMPORTED_COLUMNS + ", updated_at) = ("
+            + "?, ".repeat(IMPORTED_COLUMN_COUNT) + "?) WHERE position_id = ?";
+
+    private static final String DELETE = "DELETE FROM positions WHERE position_id = ?";
+
+    private static final String SELECT_IMPORT_KEYS = """
+            SELECT position_id, object_id, personnel_number, start_date, content_hash
+            FROM positions
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the import key and content hash of every position, e.g. to compare them with an upload.
+     *
+     * @return the keys of all positions
+     */
+    public List<PositionImportKeyView> findImportKeys() {
+        return jdbcTemplate.query(SELECT_IMPORT_KEYS, new DataClassRowMapper<>(PositionImportKeyView.class));
+    }
+
+    /**
+     * Inserts new positions in one JDBC batch and assigns their IDs.
+     *
+     * @param positions the positions to insert (without ID)
+     */
+    public void insert(List<Position> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT, positions, positions.size(), (ps, position) -> {
+            UUID id = UUID.randomUUID();
+            position.setId(id);
+            ps.setObject(1, id);
+            setImportedColumns(ps, 2, position);
+            ps.setObject(IMPORTED_COLUMN_COUNT + 2, position.getResearchGroup() != null ? position.getResearchGroup().getId() : null);
+            ps.setObject(IMPORTED_COLUMN_COUNT + 3, now);
+            ps.setObject(IMPORTED_COLUMN_COUNT + 4, now);
+        });
+    }
+
+    /**
+     * Overwrites the imported columns of existing positions in one JDBC batch.
+     *
+     * @param positions the positions to update, with the IDs of the existing rows
+     */
+    public void update(List<Position> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(UPDATE, positions, positions.size(), (ps, position) -> {
+            setImportedColumns(ps, 1, position);
+            ps.setObject(IMPORTED_COLUMN_COUNT + 1, now);
+            ps.setObject(IMPORTED_COLUMN_COUNT + 2, position.getId());
+        });
+    }
+
+    /**
+     * Deletes positions in one JDBC batch.
+     *
+     * @param ids the IDs of the positions to delete
+     */
+    public void delete(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (ps, id) -> ps.setObject(1, id));
+    }
+
+    private static void setImportedColumns(PreparedStatement ps, int first, Position position) throws SQLException {
+        ps.setString(first, position.getPositionRelevanceType());
+        ps.setString(first + 1, position.getObjectId());
+        ps.setString(first + 2, position.getStatus());
+        ps.setString(first + 3, position.getObjectCode());
+        ps.setString(first + 4, position.getObjectDescription());
+        ps.setBigDecimal(first + 5, position.getPositionValue());
+        ps.setString(first + 6, position.getDepartmentId());
+        ps.setString(first + 7, position.getOrganizationUnit());
+        ps.setString(first + 8, position.getTariffGroup());
+        ps.setString(first + 9, position.getNormalizedGrade());
+        ps.setString(first + 10, position.getBaseGrade());
+        ps.setBigDecimal(first + 11, position.getPercentage());
+        ps.setObject(first + 12, position.getStartDate());
+        ps.setObject(first + 13, position.getEndDate());
+        ps.setString(first + 14, position.getFund());
+        ps.setString(first + 15, position.getDepartmentId2());
+        ps.setString(first + 16, position.getPersonnelNumber());
+        ps.setString(first + 17, position.getEmployeeGroup());
+        ps.setString(first + 18, position.getEmployeeCircle());
+        ps.setObject(first + 19, position.getEntryDate());
+        ps.setObject(first + 20, position.getExpectedExitDate());
+        if (position.getContentHash() != null) {
+            ps.setLong(first + 21, position.getContentHash());
+        } else {
+            ps.setNull(first + 21, Types.BIGINT);
+        }
+    }
+}
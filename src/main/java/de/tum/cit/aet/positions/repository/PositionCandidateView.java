@@ -0,0 +1,34 @@
+package de.tum.cit.aet.positions.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read model of a position row with only the columns the position finder needs for availability and scoring.
+ * Descriptive columns are loaded separately for the returned results (see {@link PositionDescriptionView}).
+ *
+ * @param id                    the position row ID
+ * @param objectId              the position identifier shared by all assignment rows of a position
+ * @param tariffGroup           the grade as imported
+ * @param normalizedGrade       the normalized grade
+ * @param positionRelevanceType the position relevance type
+ * @param researchGroupId       the research group the row belongs to, or null
+ * @param percentage            the assigned percentage of this row
+ * @param startDate             the assignment start date
+ * @param endDate               the assignment end date
+ * @param personnelNumber       the personnel number of the assigned employee, or a placeholder
+ */
+public record PositionCandidateView(
+        UUID id,
+        String objectId,
+        String tariffGroup,
+        String normalizedGrade,
+        String positionRelevanceType,
+        UUID researchGroupId,
+        BigDecimal percentage,
+        LocalDate startDate,
+        LocalDate endDate,
+        String personnelNumber
+) {
+}
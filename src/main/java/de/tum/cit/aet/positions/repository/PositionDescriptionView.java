@@ -0,0 +1,17 @@
+package de.tum.cit.aet.positions.repository;
+
+import java.util.UUID;
+
+/**
+ * Descriptive columns of a position row, loaded only for the positions shown in position finder results.
+ *
+ * @param id                the position row ID
+ * @param objectCode        the position object code
+ * @param objectDescription the position description
+ */
+public record PositionDescriptionView(
+        UUID id,
+        String objectCode,
+        String objectDescription
+) {
+}
@@ -0,0 +1,22 @@
+package de.tum.cit.aet.positions.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The identity and content hash of a stored position, as compared by delta imports.
+ *
+ * @param positionId      the ID of the position
+ * @param objectId        the object ID of the position
+ * @param personnelNumber the personnel number of the assignment, or null for vacant rows
+ * @param startDate       the start date of the row, or null
+ * @param contentHash     the hash of the imported columns, or null if the row predates content hashes
+ */
+public record PositionImportKeyView(
+        UUID positionId,
+        String objectId,
+        String personnelNumber,
+        LocalDate startDate,
+        Long contentHash
+) {
+}
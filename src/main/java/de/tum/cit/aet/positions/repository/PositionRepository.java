@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -66,27 +68,73 @@ public interface PositionRepository extends JpaRepository<Position, UUID> {
      *   <li>The minimum availability across the entire search period must be calculated</li>
      * </ul>
      * <p>
+     * Only the columns needed for availability and scoring are selected, without loading entities or research
+     * groups. Descriptive columns of the returned results are loaded with {@link #findDescriptionsByIdIn}.
+     * <p>
      * Excludes:
      * <ul>
-     *   <li>Positions without a valid tariff group (grade)</li>
+     *   <li>Rows without a tariff group</li>
      *   <li>Placeholder rows (personnel_number = '00000000')</li>
      * </ul>
+     * Rows whose grade has no grade value are kept: they still occupy their position. The finder skips a position
+     * only if its representative (first) row has an unknown grade.
      *
-     * @param researchGroupId optional filter to restrict results to a specific research group (null = all)
-     * @param relevanceTypes  optional filter for position relevance types (null = all types)
-     * @return candidate positions ordered by grade and start date
+     * @return candidate position rows ordered by grade and start date
      */
     @Query("""
-            SELECT p FROM Position p
+            SELECT new de.tum.cit.aet.positions.repository.PositionCandidateView(
+                p.id, p.objectId, p.tariffGroup, p.normalizedGrade, p.positionRelevanceType, rg.id,
+                p.percentage, p.startDate, p.endDate, p.personnelNumber)
+            FROM Position p
+            LEFT JOIN p.researchGroup rg
             WHERE p.tariffGroup IS NOT NULL AND p.tariffGroup <> ''
               AND (p.personnelNumber IS NULL OR p.personnelNumber <> '00000000')
-              AND (:researchGroupId IS NULL OR p.researchGroup.id = :researchGroupId)
-              AND (:relevanceTypes IS NULL OR p.positionRelevanceType IN :relevanceTypes)
             ORDER BY p.tariffGroup, p.startDate
             """)
-    List<Position> findCandidatePositions(
-            @Param("researchGroupId") UUID researchGroupId,
-            @Param("relevanceTypes") List<String> relevanceTypes);
+    List<PositionCandidateView> findCandidateViews();
+
+    /**
+     * Loads the descriptive columns of the given position rows, e.g. for the results of a position search.
+     *
+     * @param ids the position row IDs
+     * @return the object code and description of each found row, in no particular order
+     */
+    @Query("""
+            SELECT new de.tum.cit.aet.positions.repository.PositionDescriptionView(
+                p.id, p.objectCode, p.objectDescription)
+            FROM Position p
+            WHERE p.id IN :ids
+            """)
+    List<PositionDescriptionView> findDescriptionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Finds all rows of the positions that have a row ending within the given range, for the vacancy forecast.
+     * <p>
+     * The positions are found through the index on {@code (end_date, object_id)} and their rows through the
+     * index on {@code object_id}, so the query reads only the affected positions. With a research group, only
+     * positions with a row of that group ending within the range are read. Rows ending within the range may be
+     * placeholders; the caller decides which rows are assignments.
+     *
+     * @param endFrom         the first end date (inclusive)
+     * @param endUntil        the last end date (exclusive)
+     * @param researchGroupId optional research group of the ending rows
+     * @return the rows of the affected positions, ordered by objectId, grade and start date
+     */
+    @Query("""
+            SELECT new de.tum.cit.aet.positions.repository.PositionVacancyView(
+                p.objectId, p.tariffGroup, p.normalizedGrade, g.monthlyValue, rg.id,
+                p.percentage, p.startDate, p.endDate, p.personnelNumber)
+            FROM Position p
+            LEFT JOIN p.researchGroup rg
+            LEFT JOIN GradeValue g ON g.gradeCode = p.normalizedGrade
+            WHERE p.objectId IN (
+                SELECT e.objectId FROM Position e
+                WHERE e.endDate >= :endFrom AND e.endDate < :endUntil
+                  AND (:researchGroupId IS NULL OR e.researchGroup.id = :researchGroupId))
+            ORDER BY p.objectId, p.tariffGroup, p.startDate
+            """)
+    List<PositionVacancyView> findVacancyViews(@Param("endFrom") LocalDate endFrom, @Param("endUntil") LocalDate endUntil,
+                                               @Param("researchGroupId") UUID researchGroupId);
 
     /**
      * Returns all distinct position relevance types for filter dropdowns.
@@ -0,0 +1,31 @@
+package de.tum.cit.aet.positions.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read model of a position row with the columns the vacancy forecast needs.
+ *
+ * @param objectId        the position identifier shared by all assignment rows of a position
+ * @param tariffGroup     the grade as imported
+ * @param normalizedGrade the normalized grade
+ * @param monthlyValue    the monthly value of the normalized grade, or null if the grade has no grade value
+ * @param researchGroupId the research group the row belongs to, or null
+ * @param percentage      the assigned percentage of this row
+ * @param startDate       the assignment start date
+ * @param endDate         the assignment end date
+ * @param personnelNumber the personnel number of the assigned employee, or a placeholder
+ */
+public record PositionVacancyView(
+        String objectId,
+        String tariffGroup,
+        String normalizedGrade,
+        BigDecimal monthlyValue,
+        UUID researchGroupId,
+        BigDecimal percentage,
+        LocalDate startDate,
+        LocalDate endDate,
+        String personnelNumber
+) {
+}
@@ -0,0 +1,268 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.dto.AssignmentPlanDTO;
+import de.tum.cit.aet.positions.dto.PlannedAssignmentDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
+import de.tum.cit.aet.positions.dto.PositionMatchDTO;
+import de.tum.cit.aet.positions.repository.PositionDescriptionView;
+import de.tum.cit.aet.positions.service.PositionFinderService.CandidateEvaluation;
+import de.tum.cit.aet.positions.service.PositionFinderService.PreparedRequest;
+import de.tum.cit.aet.positions.service.PositionFinderService.SearchData;
+import de.tum.cit.aet.positions.service.plan.AssignmentSolver;
+import de.tum.cit.aet.positions.service.snapshot.PositionGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Plans the placement of several hiring requests at once.
+ * <p>
+ * Running the position finder for each request separately lets several requests claim the same best
+ * position. The planner instead assigns each request to at most one position and each position to at most
+ * one of the requests whose periods overlap, such that as many requests as possible are placed and, among
+ * those plans, the sum of the matching scores is maximal. A request can only be assigned to a position that the position finder would
+ * return as a single match (enough availability for the whole period, not excluded by any matching rule).
+ * <p>
+ * The joint assignment is solved exactly as a rectangular assignment problem (see {@link AssignmentSolver}):
+ * <ul>
+ *   <li>The cost of assigning a request to a position is {@code 100 - score} (in hundredths of a point)</li>
+ *   <li>Each request has its own "unassigned" column whose cost exceeds any combination of real assignments,
+ *       so leaving a request unassigned is only chosen if it cannot be placed otherwise</li>
+ * </ul>
+ * The requests are first split into groups of transitively overlapping periods, and each group is solved on its
+ * own, so requests with disjoint periods can share a position. Within a group, a position is still exclusive to
+ * one request, even for two requests of the group whose periods do not overlap.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssignmentPlanService {
+
+    // Scores range from 0 to 100 with two decimal places
+    private static final long MAX_SCORE_COST = 10_000;
+
+    private final PositionFinderService positionFinderService;
+    private final AssignmentSolver assignmentSolver;
+
+    /**
+     * The eligible positions of one valid request.
+     *
+     * @param index      the position of the request in the plan input
+     * @param prepared   the prepared request
+     * @param groups     the candidate positions of the request
+     * @param candidates indices into {@code groups} of the positions that match the request
+     * @param costs      the assignment cost of each matching position
+     */
+    private record RequestCandidates(
+            int index,
+            PreparedRequest prepared,
+            List<PositionGroup> groups,
+            int[] candidates,
+            long[] costs
+    ) {
+    }
+
+    /**
+     * Creates a conflict-free plan for several hiring requests.
+     *
+     * @param requests the hiring requests (at most {@link PositionFinderService#MAX_BATCH_SIZE})
+     * @return the assigned position (or validation error) of each request, in request order
+     * @throws IllegalArgumentException if no requests or too many requests are given
+     */
+    public AssignmentPlanDTO planAssignments(List<PositionFinderRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one request is required");
+        }
+        if (requests.size() > PositionFinderService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + PositionFinderService.MAX_BATCH_SIZE + " requests can be planned at once");
+        }
+
+        long start = System.nanoTime();
+        SearchData data = positionFinderService.loadSearchData();
+        PlannedAssignmentDTO[] results = new PlannedAssignmentDTO[requests.size()];
+
+        // Evaluate all candidate positions for each request in parallel
+        List<RequestCandidates> rows = IntStream.range(0, requests.size())
+                .parallel()
+                .mapToObj(index -> {
+                    PositionFinderRequestDTO request = requests.get(index);
+                    if (request == null) {
+                        results[index] = new PlannedAssignmentDTO(index, null, 0, "Request is required");
+                        return null;
+                    }
+                    try {
+                        return collectCandidates(index, positionFinderService.prepare(request, data), data);
+                    } catch (IllegalArgumentException e) {
+                        results[index] = new PlannedAssignmentDTO(index, null, 0, e.getMessage());
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        // Requests only compete for a position if their periods overlap, so each group of transitively
+        // overlapping requests is solved on its own
+        int[] chosen = new int[rows.size()];
+        List<int[]> components = overlappingComponents(rows);
+        for (int[] component : components) {
+            solveComponent(rows, component, chosen);
+        }
+
+        PositionMatchDTO[] matches = new PositionMatchDTO[rows.size()];
+        List<PositionMatchDTO> assignedMatches = new ArrayList<>();
+        for (int row = 0; row < rows.size(); row++) {
+            if (chosen[row] >= 0) {
+                RequestCandidates candidates = rows.get(row);
+                PositionGroup group = candidates.groups().get(candidates.candidates()[chosen[row]]);
+                matches[row] = positionFinderService.toMatch(positionFinderService.evaluate(candidates.prepared(), group, data));
+                assignedMatches.add(matches[row]);
+            }
+        }
+
+        // Load the descriptions of all assigned positions at once
+        Map<UUID, PositionDescriptionView> descriptions = positionFinderService.loadDescriptions(assignedMatches, List.of());
+        int assignedCount = 0;
+        double totalScore = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            RequestCandidates candidates = rows.get(row);
+            PositionMatchDTO match = matches[row];
+            if (match != null) {
+                match = PositionFinderService.describe(List.of(match), descriptions).getFirst();
+                assignedCount++;
+                totalScore += match.overallScore();
+            }
+            results[candidates.index()] = new PlannedAssignmentDTO(
+                    candidates.index(), match, candidates.candidates().length, null);
+        }
+
+        log.info("Planned {} requests in {} groups of overlapping periods in {} ms: {} assigned, {} unassigned",
+                requests.size(), components.size(), (System.nanoTime() - start) / 1_000_000,
+                assignedCount, rows.size() - assignedCount);
+
+        return new AssignmentPlanDTO(
+                List.of(results),
+                assignedCount,
+                rows.size() - assignedCount,
+                Math.round(totalScore * 100) / 100.0
+        );
+    }
+
+    /**
+     * Splits the requests into groups whose periods overlap transitively: two requests are in the same group if
+     * their periods overlap, or if both overlap a third request of the group. Periods end exclusively, so a request
+     * starting on the end date of another one does not overlap it.
+     *
+     * @return the row indices of each group
+     */
+    private static List<int[]> overlappingComponents(List<RequestCandidates> rows) {
+        Integer[] byStart = IntStream.range(0, rows.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(byStart, Comparator.comparing(row -> rows.get(row).prepared().request().startDate()));
+
+        List<int[]> components = new ArrayList<>();
+        int from = 0;
+        LocalDate componentEnd = null;
+        for (int i = 0; i < byStart.length; i++) {
+            PositionFinderRequestDTO request = rows.get(byStart[i]).prepared().request();
+            if (componentEnd != null && !request.startDate().isBefore(componentEnd)) {
+                components.add(Arrays.stream(byStart, from, i).mapToInt(Integer::intValue).toArray());
+                from = i;
+                componentEnd = null;
+            }
+            if (componentEnd == null || request.endDate().isAfter(componentEnd)) {
+                componentEnd = request.endDate();
+            }
+        }
+        if (from < byStart.length) {
+            components.add(Arrays.stream(byStart, from, byStart.length).mapToInt(Integer::intValue).toArray());
+        }
+        return components;
+    }
+
+    /**
+     * Solves the joint assignment of a group of requests and stores the chosen candidate of each request (an
+     * index into its {@code candidates}, or -1 if unassigned).
+     */
+    private void solveComponent(List<RequestCandidates> rows, int[] component, int[] chosen) {
+        // Columns: every position that matches at least one request, followed by one "unassigned" column per request
+        Map<String, Integer> columnByObjectId = new HashMap<>();
+        int[][] columnsPerRow = new int[component.length][];
+        for (int i = 0; i < component.length; i++) {
+            RequestCandidates candidates = rows.get(component[i]);
+            columnsPerRow[i] = new int[candidates.candidates().length];
+            for (int k = 0; k < candidates.candidates().length; k++) {
+                String objectId = candidates.groups().get(candidates.candidates()[k]).objectId();
+                Integer column = columnByObjectId.get(objectId);
+                if (column == null) {
+                    column = columnByObjectId.size();
+                    columnByObjectId.put(objectId, column);
+                }
+                columnsPerRow[i][k] = column;
+            }
+        }
+
+        int positionColumns = columnByObjectId.size();
+        long unassignedCost = (component.length + 1) * (MAX_SCORE_COST + 1);
+        long[][] cost = new long[component.length][positionColumns + component.length];
+        for (int i = 0; i < component.length; i++) {
+            Arrays.fill(cost[i], AssignmentSolver.FORBIDDEN);
+            long[] costs = rows.get(component[i]).costs();
+            for (int k = 0; k < costs.length; k++) {
+                cost[i][columnsPerRow[i][k]] = costs[k];
+            }
+            cost[i][positionColumns + i] = unassignedCost;
+        }
+
+        int[] assignment = assignmentSolver.solve(cost);
+        for (int i = 0; i < component.length; i++) {
+            chosen[component[i]] = indexOf(columnsPerRow[i], assignment[i]);
+        }
+    }
+
+    /**
+     * Evaluates all candidate positions of a request and keeps those that match it.
+     */
+    private RequestCandidates collectCandidates(int index, PreparedRequest prepared, SearchData data) {
+        List<PositionGroup> groups = data.findGroups(
+                prepared.request().researchGroupId(),
+                prepared.relevanceTypes());
+
+        List<CandidateEvaluation> evaluations = positionFinderService.evaluateAll(prepared, groups, data);
+        List<Integer> candidates = new ArrayList<>();
+        List<Long> costs = new ArrayList<>();
+        for (int i = 0; i < evaluations.size(); i++) {
+            CandidateEvaluation evaluation = evaluations.get(i);
+            if (evaluation.outcome() == CandidateEvaluation.Outcome.MATCH) {
+                candidates.add(i);
+                costs.add(MAX_SCORE_COST - Math.round(evaluation.totalScore() * 100));
+            }
+        }
+
+        return new RequestCandidates(
+                index,
+                prepared,
+                groups,
+                candidates.stream().mapToInt(Integer::intValue).toArray(),
+                costs.stream().mapToLong(Long::longValue).toArray()
+        );
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,106 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.dto.BudgetRollupDTO;
+import de.tum.cit.aet.positions.repository.BudgetRollupRepository;
+import de.tum.cit.aet.positions.repository.BudgetRollupView;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serves the monthly budget rollups per research group, grade and relevance type.
+ * <p>
+ * The rollups are precomputed by the {@code budget_rollups} materialized view, so that reading them does not
+ * aggregate the positions table. The view covers the months from 24 months before to 59 months after the
+ * month of its last refresh; ranges outside are rejected rather than answered with no rollups. The view is
+ * refreshed on the next read if the {@link PositionDataVersion} shows a write or a new month has started, so
+ * that writes do not wait for the refresh.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BudgetRollupService {
+
+    /**
+     * The longest supported range in months.
+     */
+    public static final int MAX_MONTHS = 36;
+
+    // The months covered around the month of the last refresh, as defined by the view
+    private static final int MONTHS_BEFORE = 24;
+    private static final int MONTHS_AFTER = 59;
+
+    private final BudgetRollupRepository budgetRollupRepository;
+    private final PositionDataVersion positionDataVersion;
+
+    private final Object refreshLock = new Object();
+
+    private volatile long refreshedVersion = -1;
+    private volatile YearMonth refreshedMonth;
+
+    /**
+     * Returns the rollups within a range of months, refreshing the view first if the data has changed.
+     *
+     * @param from            the first month
+     * @param months          the number of months (1 to {@link #MAX_MONTHS})
+     * @param researchGroupId optional research group filter
+     * @return the rollups ordered by month, research group, grade and relevance type
+     * @throws IllegalArgumentException if the range is invalid or not covered by the view
+     */
+    public List<BudgetRollupDTO> getRollups(YearMonth from, int months, UUID researchGroupId) {
+        if (from == null) {
+            throw new IllegalArgumentException("Start month is required");
+        }
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new IllegalArgumentException("Months must be between 1 and " + MAX_MONTHS);
+        }
+
+        if (isOutdated()) {
+            synchronized (refreshLock) {
+                // Another thread may have refreshed the view while we were waiting
+                if (isOutdated()) {
+                    refreshView();
+                }
+            }
+        }
+
+        YearMonth coveredMonth = refreshedMonth;
+        YearMonth firstCovered = coveredMonth.minusMonths(MONTHS_BEFORE);
+        YearMonth lastCovered = coveredMonth.plusMonths(MONTHS_AFTER);
+        if (from.isBefore(firstCovered) || from.plusMonths(months - 1L).isAfter(lastCovered)) {
+            throw new IllegalArgumentException("Budget rollups are only available from " + firstCovered + " to " + lastCovered);
+        }
+
+        LocalDate start = from.atDay(1);
+        LocalDate until = from.plusMonths(months).atDay(1);
+        List<BudgetRollupView> rollups = researchGroupId != null
+                ? budgetRollupRepository.findByMonthRangeAndResearchGroup(start, until, researchGroupId)
+                : budgetRollupRepository.findByMonthRange(start, until);
+        return rollups.stream()
+                .map(BudgetRollupDTO::fromView)
+                .toList();
+    }
+
+    private boolean isOutdated() {
+        return refreshedVersion != positionDataVersion.current() || !YearMonth.now().equals(refreshedMonth);
+    }
+
+    private void refreshView() {
+        long start = System.nanoTime();
+
+        // Read the version before the data, so that concurrent writes leave the view marked as outdated
+        long version = positionDataVersion.current();
+        YearMonth month = YearMonth.now();
+        budgetRollupRepository.refresh();
+        refreshedVersion = version;
+        refreshedMonth = month;
+
+        log.info("Refreshed budget rollups (version {}) in {} ms", version, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -3,6 +3,7 @@ package de.tum.cit.aet.positions.service;
 import de.tum.cit.aet.positions.domain.GradeValue;
 import de.tum.cit.aet.positions.dto.GradeValueDTO;
 import de.tum.cit.aet.positions.repository.GradeValueRepository;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.UUID;
 public class GradeValueService {
 
     private final GradeValueRepository gradeValueRepository;
+    private final PositionDataVersion positionDataVersion;
 
     /**
      * Returns all grade values ordered by sort order.
@@ -80,6 +82,7 @@ public class GradeValueService {
         GradeValue gradeValue = new GradeValue();
         updateEntityFromDto(gradeValue, dto);
         gradeValue = gradeValueRepository.save(gradeValue);
+        positionDataVersion.increment();
         log.info("Created grade value: {}", gradeValue.getGradeCode());
         return GradeValueDTO.fromEntity(gradeValue);
     }
@@ -103,6 +106,7 @@ public class GradeValueService {
 
         updateEntityFromDto(gradeValue, dto);
         gradeValue = gradeValueRepository.save(gradeValue);
+        positionDataVersion.increment();
         log.info("Updated grade value: {}", gradeValue.getGradeCode());
         return GradeValueDTO.fromEntity(gradeValue);
     }
@@ -123,6 +127,7 @@ public class GradeValueService {
         }
 
         gradeValueRepository.delete(gradeValue);
+        positionDataVersion.increment();
         log.info("Deleted grade value: {}", gradeValue.getGradeCode());
     }
 
@@ -0,0 +1,89 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.domain.Position;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Computes the content hash of an imported position: a 64-bit FNV-1a hash over all imported columns.
+ * <p>
+ * The hash is stored with the position and compared by delta imports, so it must stay stable across releases;
+ * changing it makes the next delta import rewrite every row once. Null and empty values hash differently, and
+ * decimals are hashed by value, so that {@code 50} and {@code 50.00} are equal. The research group is not part of
+ * the content, since it is assigned after the import.
+ */
+final class PositionContentHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    private PositionContentHash() {
+    }
+
+    /**
+     * Computes the content hash of a position.
+     *
+     * @param position the imported position
+     * @return the hash
+     */
+    static long of(Position position) {
+        return new PositionContentHash()
+                .add(position.getPositionRelevanceType())
+                .add(position.getObjectId())
+                .add(position.getStatus())
+                .add(position.getObjectCode())
+                .add(position.getObjectDescription())
+                .add(position.getPositionValue())
+                .add(position.getDepartmentId())
+                .add(position.getOrganizationUnit())
+                .add(position.getTariffGroup())
+                .add(position.getBaseGrade())
+                .add(position.getPercentage())
+                .add(position.getStartDate())
+                .add(position.getEndDate())
+                .add(position.getFund())
+                .add(position.getDepartmentId2())
+                .add(position.getPersonnelNumber())
+                .add(position.getEmployeeGroup())
+                .add(position.getEmployeeCircle())
+                .add(position.getEntryDate())
+                .add(position.getExpectedExitDate())
+                .hash;
+    }
+
+    private void mix(int value) {
+        hash = (hash ^ value) * PRIME;
+    }
+
+    private PositionContentHash add(String value) {
+        if (value == null) {
+            // Separator only: null differs from the empty string, which is followed by a length of 0
+            mix(0xFFFF_0000);
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            mix(value.charAt(i));
+        }
+        // The length separates the values of adjacent columns
+        mix(value.length() | 0x8000_0000);
+        return this;
+    }
+
+    private PositionContentHash add(BigDecimal value) {
+        return add(value == null ? null : value.stripTrailingZeros().toPlainString());
+    }
+
+    private PositionContentHash add(LocalDate value) {
+        if (value == null) {
+            mix(0xFFFF_0000);
+            return this;
+        }
+        long day = value.toEpochDay();
+        mix((int) day);
+        mix((int) (day >>> 32));
+        return this;
+    }
+}
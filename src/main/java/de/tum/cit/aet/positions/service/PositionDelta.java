@@ -0,0 +1,112 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.positions.repository.PositionImportKeyView;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Compares an uploaded position file with the stored positions and collects the rows to insert, update and
+ * delete.
+ * <p>
+ * Rows are identified by object ID, personnel number and start date. An uploaded row whose key and content hash
+ * match a stored row is unchanged and dropped right away, so only changed rows are kept in memory. Keys are not
+ * unique (e.g. vacant rows of a position), so stored rows with the same key are matched in turn: first by equal
+ * hash, then the remaining ones pairwise as updates. Uploaded rows left over are inserted, stored rows left over
+ * are deleted.
+ */
+final class PositionDelta {
+
+    /**
+     * The identity of a position row across imports.
+     */
+    private record Key(String objectId, String personnelNumber, LocalDate startDate) {
+    }
+
+    /**
+     * The writes that make the stored positions equal to the upload.
+     *
+     * @param inserts   the new rows
+     * @param updates   the changed rows, with the IDs of the stored rows they replace
+     * @param deletes   the IDs of the stored rows missing from the upload
+     * @param unchanged the number of rows that are already stored
+     */
+    record Changes(List<Position> inserts, List<Position> updates, List<UUID> deletes, int unchanged) {
+    }
+
+    // Stored rows not matched yet, by key
+    private final Map<Key, List<PositionImportKeyView>> stored = new HashMap<>();
+    // Uploaded rows without a stored row of equal content, by key in upload order
+    private final Map<Key, List<Position>> changed = new LinkedHashMap<>();
+    private int unchanged;
+
+    /**
+     * Creates a delta against the stored positions.
+     *
+     * @param storedRows the keys and hashes of the stored positions
+     */
+    PositionDelta(List<PositionImportKeyView> storedRows) {
+        for (PositionImportKeyView row : storedRows) {
+            stored.computeIfAbsent(new Key(row.objectId(), row.personnelNumber(), row.startDate()), k -> new ArrayList<>(1))
+                    .add(row);
+        }
+    }
+
+    /**
+     * Adds an uploaded row; its content hash must be set.
+     *
+     * @param position the uploaded row
+     */
+    void add(Position position) {
+        Key key = new Key(position.getObjectId(), position.getPersonnelNumber(), position.getStartDate());
+        List<PositionImportKeyView> candidates = stored.get(key);
+        if (candidates != null) {
+            Iterator<PositionImportKeyView> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                if (Objects.equals(iterator.next().contentHash(), position.getContentHash())) {
+                    iterator.remove();
+                    unchanged++;
+                    return;
+                }
+            }
+        }
+        changed.computeIfAbsent(key, k -> new ArrayList<>(1)).add(position);
+    }
+
+    /**
+     * Returns the writes for all rows added so far.
+     *
+     * @return the changes
+     */
+    Changes changes() {
+        List<Position> inserts = new ArrayList<>();
+        List<Position> updates = new ArrayList<>();
+        for (Map.Entry<Key, List<Position>> entry : changed.entrySet()) {
+            List<PositionImportKeyView> candidates = stored.getOrDefault(entry.getKey(), List.of());
+            for (Position position : entry.getValue()) {
+                if (candidates.isEmpty()) {
+                    inserts.add(position);
+                } else {
+                    position.setId(candidates.removeLast().positionId());
+                    updates.add(position);
+                }
+            }
+        }
+
+        List<UUID> deletes = new ArrayList<>();
+        for (List<PositionImportKeyView> rows : stored.values()) {
+            for (PositionImportKeyView row : rows) {
+                deletes.add(row.positionId());
+            }
+        }
+        return new Changes(inserts, updates, deletes, unchanged);
+    }
+}
@@ -0,0 +1,186 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.service.PositionFinderService.CandidateEvaluation;
+import de.tum.cit.aet.positions.service.matching.MatchingRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the position finder.
+ * <p>
+ * Each phase of a computed search is timed with percentiles (cache hits are counted by the
+ * {@link de.tum.cit.aet.positions.service.cache.PositionFinderCache}):
+ * <ul>
+ *   <li>{@code staffplan.position.finder.phase{phase}}: time per phase and search</li>
+ *   <li>{@code staffplan.position.finder.candidates}: candidate positions per search</li>
+ *   <li>{@code staffplan.position.finder.evaluations{outcome}}: evaluated positions by outcome, i.e. matches and
+ *       skips per reason</li>
+ *   <li>{@code staffplan.position.finder.split.combinations}: combinations explored for split suggestions</li>
+ * </ul>
+ * Work done per candidate position is too fine-grained for a histogram: recording every rule evaluation in a
+ * percentile histogram would cost about as much as the rule itself. The availability calculation and each
+ * matching rule (tagged by {@link MatchingRule#getName()}) are therefore only summed up in striped counters
+ * and exposed as function timers ({@code staffplan.position.finder.availability} and
+ * {@code staffplan.position.finder.rule{rule}}) with count and total time.
+ */
+@Component
+public class PositionFinderMetrics {
+
+    /**
+     * The timed phases of a search.
+     */
+    enum Phase {
+        // Grade values and snapshot (including a snapshot rebuild after data changes)
+        LOAD,
+        // Filtering the snapshot by research group and relevance types
+        CANDIDATES,
+        // Availability and matching rules of all candidates, and selecting the best matches
+        EVALUATE,
+        // Split suggestions if no single position matches
+        SPLIT,
+        // Object codes and descriptions of the returned positions
+        DESCRIBE
+    }
+
+    /**
+     * Invocation count and total time of per-candidate work, summed up without contention.
+     */
+    private static final class Accumulator {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+    }
+
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+    private final Map<CandidateEvaluation.Outcome, Counter> outcomeCounters = new EnumMap<>(CandidateEvaluation.Outcome.class);
+    private final DistributionSummary candidates;
+    private final Counter splitCombinations;
+    private final Accumulator availability = new Accumulator();
+    // Read-only after construction
+    private final Map<MatchingRule, Accumulator> rules = new IdentityHashMap<>();
+
+    public PositionFinderMetrics(MeterRegistry meterRegistry, List<MatchingRule> matchingRules) {
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("staffplan.position.finder.phase")
+                    .description("Time spent per phase of a position finder search")
+                    .tag("phase", tagValue(phase))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (CandidateEvaluation.Outcome outcome : CandidateEvaluation.Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("staffplan.position.finder.evaluations")
+                    .description("Candidate positions evaluated by the position finder, by outcome")
+                    .tag("outcome", tagValue(outcome))
+                    .register(meterRegistry));
+        }
+        this.candidates = DistributionSummary.builder("staffplan.position.finder.candidates")
+                .description("Candidate positions per position finder search")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.splitCombinations = Counter.builder("staffplan.position.finder.split.combinations")
+                .description("Combinations of positions explored for split suggestions")
+                .register(meterRegistry);
+
+        functionTimer("staffplan.position.finder.availability", availability)
+                .description("Availability calculations of candidate positions")
+                .register(meterRegistry);
+        for (MatchingRule rule : matchingRules) {
+            Accumulator accumulator = new Accumulator();
+            rules.put(rule, accumulator);
+            functionTimer("staffplan.position.finder.rule", accumulator)
+                    .description("Evaluations of a matching rule")
+                    .tag("rule", rule.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static FunctionTimer.Builder<Accumulator> functionTimer(String name, Accumulator accumulator) {
+        return FunctionTimer.builder(name, accumulator,
+                a -> a.count.sum(),
+                a -> a.totalNanos.sum(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Records the duration of a search phase.
+     *
+     * @param phase the phase
+     * @param nanos the duration in nanoseconds
+     */
+    void recordPhase(Phase phase, long nanos) {
+        phaseTimers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the number of candidate positions of a search.
+     *
+     * @param count the number of candidate positions
+     */
+    void recordCandidates(int count) {
+        candidates.record(count);
+    }
+
+    /**
+     * Records the number of evaluated positions with an outcome.
+     *
+     * @param outcome the outcome
+     * @param count   the number of positions with this outcome
+     */
+    void recordOutcomes(CandidateEvaluation.Outcome outcome, int count) {
+        if (count > 0) {
+            outcomeCounters.get(outcome).increment(count);
+        }
+    }
+
+    /**
+     * Records the number of combinations explored for split suggestions.
+     *
+     * @param count the number of combinations
+     */
+    void recordSplitCombinations(long count) {
+        splitCombinations.increment(count);
+    }
+
+    /**
+     * Records the duration of one availability calculation.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void recordAvailability(long nanos) {
+        availability.record(nanos);
+    }
+
+    /**
+     * Records the duration of one rule evaluation. Rules that were not known at startup are ignored.
+     *
+     * @param rule  the evaluated rule
+     * @param nanos the duration in nanoseconds
+     */
+    void recordRule(MatchingRule rule, long nanos) {
+        Accumulator accumulator = rules.get(rule);
+        if (accumulator != null) {
+            accumulator.record(nanos);
+        }
+    }
+}
@@ -1,34 +1,196 @@
 package de.tum.cit.aet.positions.service;
 
+import de.tum.cit.aet.core.config.StaffPlanProperties;
 import de.tum.cit.aet.positions.domain.GradeValue;
-import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.positions.dto.PositionFinderBatchResultDTO;
 import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
 import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderSearchSummaryDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderStreamEventDTO;
 import de.tum.cit.aet.positions.dto.PositionMatchDTO;
 import de.tum.cit.aet.positions.dto.SplitSuggestionDTO;
 import de.tum.cit.aet.positions.repository.GradeValueRepository;
+import de.tum.cit.aet.positions.repository.PositionDescriptionView;
 import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.positions.service.availability.AvailabilityCalculator;
+import de.tum.cit.aet.positions.service.availability.AvailabilityInfo;
+import de.tum.cit.aet.positions.service.cache.PositionFinderCache;
+import de.tum.cit.aet.positions.service.cache.SearchCacheKey;
 import de.tum.cit.aet.positions.service.matching.MatchingContext;
-import de.tum.cit.aet.positions.service.matching.MatchingRule;
+import de.tum.cit.aet.positions.service.matching.MatchingRulePipeline;
+import de.tum.cit.aet.positions.service.simulation.SimulationService;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
+import de.tum.cit.aet.positions.service.snapshot.PositionGroup;
+import de.tum.cit.aet.positions.service.snapshot.PositionRow;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshot;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshotService;
+import de.tum.cit.aet.positions.service.split.SplitSuggestionSolver;
+import de.tum.cit.aet.util.FixedPoint;
+import de.tum.cit.aet.util.GradeCodeNormalizer;
+import de.tum.cit.aet.util.TopK;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PositionFinderService {
 
+    /**
+     * Maximum number of requests evaluated in one batch.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Maximum number of matches emitted by a streamed search.
+     */
+    public static final int MAX_STREAMED_MATCHES = 1000;
+
+    /**
+     * Maximum number of matches returned by one page of a search.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Keeps the IN list of a description query well below the bind parameter limit
+    private static final int DESCRIPTION_BATCH_SIZE = 1000;
+
+    // Best score first, equal scores in candidate order
+    private static final Comparator<RankedMatch> BEST_FIRST = Comparator
+            .comparingDouble(RankedMatch::score)
+            .reversed()
+            .thenComparingInt(RankedMatch::order);
+
+    private final PositionSnapshotService positionSnapshotService;
     private final PositionRepository positionRepository;
     private final GradeValueRepository gradeValueRepository;
-    private final List<MatchingRule> matchingRules;
+    private final AvailabilityCalculator availabilityCalculator;
+    private final SplitSuggestionSolver splitSuggestionSolver;
+    private final MatchingRulePipeline matchingRulePipeline;
+    private final StaffPlanProperties staffPlanProperties;
+    private final PositionDataVersion positionDataVersion;
+    private final PositionFinderCache positionFinderCache;
+    private final PositionFinderMetrics positionFinderMetrics;
+    private final SimulationService simulationService;
+
+    /**
+     * Request-independent data shared by all evaluations of a search or batch.
+     *
+     * @param gradeValueMap       all grade values by grade code
+     * @param monthlyCentsByGrade the monthly value in cents of all grades by grade code
+     * @param snapshot            the candidate positions
+     * @param overrides           the positions with the hypothetical assignments of a simulation by objectId,
+     *                            empty outside of simulations
+     */
+    record SearchData(
+            Map<String, GradeValue> gradeValueMap,
+            Map<String, Long> monthlyCentsByGrade,
+            PositionSnapshot snapshot,
+            Map<String, PositionGroup> overrides
+    ) {
+        /**
+         * Returns the candidate positions matching the search filters, in candidate order.
+         *
+         * @param researchGroupId optional research group filter (null = all)
+         * @param relevanceTypes  optional relevance type filter (null = all)
+         * @return the candidate positions, with the simulated assignments if any
+         */
+        List<PositionGroup> findGroups(UUID researchGroupId, Collection<String> relevanceTypes) {
+            return snapshot.findGroups(researchGroupId, relevanceTypes, overrides);
+        }
+    }
+
+    /**
+     * A validated request together with the values derived from it once per search.
+     *
+     * @param request                   the original request
+     * @param fillPercentage            the requested percentage (1-100)
+     * @param fillBasisPoints           the requested percentage in basis points
+     * @param employeeGradeMonthlyCents the full monthly value of the employee's grade in cents
+     * @param employeeMonthlyCostCents  the employee's prorated monthly cost in cents
+     * @param relevanceTypes            the relevance type filter, or null for no filter
+     */
+    record PreparedRequest(
+            PositionFinderRequestDTO request,
+            int fillPercentage,
+            long fillBasisPoints,
+            long employeeGradeMonthlyCents,
+            long employeeMonthlyCostCents,
+            List<String> relevanceTypes
+    ) {
+    }
+
+    /**
+     * The result of evaluating one candidate position for one request.
+     *
+     * @param group        the candidate position
+     * @param outcome      whether the position matches, or why it was skipped
+     * @param availability the availability during the requested period, or null if the grade is unknown or
+     *                     below the employee's cost
+     * @param context      the matching context, or null if the grade is unknown or below the employee's cost
+     * @param totalScore   the weighted rule score (only set for matches)
+     */
+    record CandidateEvaluation(
+            PositionGroup group,
+            Outcome outcome,
+            AvailabilityInfo availability,
+            MatchingContext context,
+            double totalScore
+    ) {
+        enum Outcome {
+            MATCH,
+            UNKNOWN_GRADE,
+            GRADE_BELOW_COST,
+            INSUFFICIENT_AVAILABILITY,
+            EXCLUDED_BY_RULE
+        }
+    }
+
+    /**
+     * The best matching candidates of a request and the availability calculated while evaluating them.
+     *
+     * @param bestMatches            the best evaluations with outcome {@code MATCH}, best first
+     * @param totalMatches           the number of evaluations with outcome {@code MATCH}
+     * @param availabilityByObjectId the availability of every evaluated position with a known grade
+     */
+    private record EvaluatedCandidates(
+            List<CandidateEvaluation> bestMatches,
+            int totalMatches,
+            Map<String, AvailabilityInfo> availabilityByObjectId
+    ) {
+    }
+
+    /**
+     * A match together with its rank keys.
+     *
+     * @param order      the position of the match in candidate order
+     * @param score      the rounded score, as reported in {@link PositionMatchDTO#overallScore()}
+     * @param evaluation the evaluation of the match
+     */
+    private record RankedMatch(int order, double score, CandidateEvaluation evaluation) {
+    }
+
+    /**
+     * A validated search whose results are emitted one by one.
+     */
+    @FunctionalInterface
+    public interface StreamingSearch {
+
+        /**
+         * Runs the search and passes each result to the consumer as soon as it is available.
+         *
+         * @param events the consumer of the stream events
+         */
+        void run(Consumer<PositionFinderStreamEventDTO> events);
+    }
 
     /**
      * Finds positions that can accommodate an employee with the specified grade and percentage
@@ -36,10 +198,10 @@ public class PositionFinderService {
      * <p>
      * The matching process works as follows:
      * <ol>
-     *   <li>Fetch all candidate positions (filtered by research group and relevance types if specified)</li>
-     *   <li>Group positions by objectId to handle multiple assignment rows per position</li>
+     *   <li>Fetch all candidate positions from the in-memory snapshot (filtered by research group and relevance
+     *       types if specified), already grouped by objectId to handle multiple assignment rows per position</li>
      *   <li>For each unique position, calculate the minimum available percentage across the entire
-     *       search period using time-slice analysis</li>
+     *       search period using a sweep over the assignment start/end events</li>
      *   <li>Filter positions that have sufficient availability for the entire period</li>
      *   <li>Apply matching rules (budget efficiency, time overlap, etc.) to score and rank positions</li>
      *   <li>If no single position matches, generate split suggestions combining multiple positions</li>
@@ -47,6 +209,13 @@ public class PositionFinderService {
      * <p>
      * A position is considered available if its assignment ended before the search period starts,
      * or if it has unassigned capacity during the entire search period.
+     * <p>
+     * If the request has a {@code limit}, only the page of matches starting at its {@code offset} is returned;
+     * the best matches are then selected with a bounded heap, so only the matches up to the end of the page are
+     * sorted and converted. {@code totalMatchesFound} always counts all matches.
+     * <p>
+     * Responses are cached per normalized request until positions or grade values change
+     * (see {@link PositionFinderCache}).
      *
      * @param request the position finder request containing employee grade, percentage, date range,
      *                and optional filters (research group, relevance types)
@@ -55,21 +224,112 @@ public class PositionFinderService {
      * @throws IllegalArgumentException if required parameters are missing or invalid
      */
     public PositionFinderResponseDTO findPositions(PositionFinderRequestDTO request) {
-        // Validate request
-        if (request.startDate() == null || request.endDate() == null) {
-            throw new IllegalArgumentException("Start date and end date are required");
+        // Read the version before the data, so that a concurrent write cannot be cached under the new version
+        SearchCacheKey key = SearchCacheKey.of(request, positionDataVersion.current());
+        return withRequestedGrade(positionFinderCache.get(key, () -> findPositions(request, loadSearchData())), request);
+    }
+
+    /**
+     * Finds positions like {@link #findPositions(PositionFinderRequestDTO)}, taking the hypothetical assignments of
+     * a what-if simulation into account (see {@link SimulationService}).
+     * <p>
+     * Simulated searches are not cached, since every step of a simulation changes their results. They only read
+     * the in-memory snapshot and the simulation, and never write to the database.
+     *
+     * @param request      the position finder request
+     * @param simulationId the simulation to apply, or null to search the actual positions
+     * @return response containing matching positions sorted by score, or split suggestions
+     * @throws IllegalArgumentException if required parameters are missing or invalid
+     * @throws de.tum.cit.aet.core.exceptions.ResourceNotFoundException if the simulation does not exist or has expired
+     */
+    public PositionFinderResponseDTO findPositions(PositionFinderRequestDTO request, UUID simulationId) {
+        if (simulationId == null) {
+            return findPositions(request);
         }
-        if (request.startDate().isAfter(request.endDate())) {
-            throw new IllegalArgumentException("Start date must be before end date");
+        return findPositions(request, loadSearchData(simulationId));
+    }
+
+    /**
+     * Evaluates several position finder requests at once, e.g. all hiring requests of a planning round.
+     * <p>
+     * Grade values and candidate positions are loaded only once for the whole batch, and the requests
+     * are evaluated in parallel. An invalid request does not fail the batch; its result carries the
+     * error message instead of a response.
+     *
+     * @param requests the requests to evaluate (at most {@link #MAX_BATCH_SIZE})
+     * @return one result per request, in request order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    public List<PositionFinderBatchResultDTO> findPositionsBatch(List<PositionFinderRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one request is required");
         }
-        if (request.employeeGrade() == null || request.employeeGrade().isBlank()) {
-            throw new IllegalArgumentException("Employee grade is required");
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " requests can be evaluated at once");
         }
 
-        int fillPercentage = request.fillPercentageOrDefault();
-        if (fillPercentage < 1 || fillPercentage > 100) {
-            throw new IllegalArgumentException("Fill percentage must be between 1 and 100");
+        long start = System.nanoTime();
+        long version = positionDataVersion.current();
+        SearchData data = loadSearchData();
+
+        List<PositionFinderBatchResultDTO> results = IntStream.range(0, requests.size())
+                .parallel()
+                .mapToObj(index -> {
+                    PositionFinderRequestDTO request = requests.get(index);
+                    if (request == null) {
+                        return PositionFinderBatchResultDTO.failure(index, "Request is required");
+                    }
+                    try {
+                        PositionFinderResponseDTO response = positionFinderCache.get(
+                                SearchCacheKey.of(request, version), () -> findPositions(request, data));
+                        return PositionFinderBatchResultDTO.success(index, withRequestedGrade(response, request));
+                    } catch (IllegalArgumentException e) {
+                        return PositionFinderBatchResultDTO.failure(index, e.getMessage());
+                    }
+                })
+                .toList();
+
+        log.info("Evaluated batch of {} position finder requests in {} ms",
+                requests.size(), (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    /**
+     * Returns the response with the employee grade spelled as in the request. Cached responses are shared
+     * by all spellings of the same grade code.
+     */
+    private static PositionFinderResponseDTO withRequestedGrade(PositionFinderResponseDTO response, PositionFinderRequestDTO request) {
+        if (Objects.equals(response.employeeGrade(), request.employeeGrade())) {
+            return response;
         }
+        return new PositionFinderResponseDTO(
+                response.employeeMonthlyCost(),
+                request.employeeGrade(),
+                response.fillPercentage(),
+                response.totalMatchesFound(),
+                response.matches(),
+                response.splitSuggestions()
+        );
+    }
+
+    /**
+     * Loads the grade values and the candidate snapshot for one search or batch.
+     *
+     * @return the request-independent search data
+     */
+    SearchData loadSearchData() {
+        return loadSearchData(null);
+    }
+
+    /**
+     * Loads the grade values, the candidate snapshot and, if given, the hypothetical assignments of a simulation.
+     *
+     * @param simulationId the simulation to apply, or null
+     * @return the request-independent search data
+     * @throws de.tum.cit.aet.core.exceptions.ResourceNotFoundException if the simulation does not exist or has expired
+     */
+    SearchData loadSearchData(UUID simulationId) {
+        long start = System.nanoTime();
 
         // Pre-load all grade values into a map for efficient lookup
         Map<String, GradeValue> gradeValueMap = gradeValueRepository.findAll().stream()
@@ -78,233 +338,519 @@ public class PositionFinderService {
                     return existing;
                 }));
 
-        // Get employee grade value (normalize the grade code)
-        String normalizedEmployeeGrade = normalizeGradeCode(request.employeeGrade());
-        GradeValue employeeGradeValue = Optional.ofNullable(gradeValueMap.get(normalizedEmployeeGrade))
-                .orElseThrow(() -> new IllegalArgumentException("Unknown employee grade: " + request.employeeGrade() + " (normalized: " + normalizedEmployeeGrade + ")"));
+        // Money is calculated in cents and percentages in basis points (see FixedPoint)
+        PositionSnapshot snapshot = positionSnapshotService.getSnapshot();
+        Map<String, PositionGroup> overrides = simulationId != null
+                ? simulationService.getOverrides(simulationId, snapshot)
+                : Map.of();
+        SearchData data = new SearchData(gradeValueMap, toMonthlyCents(gradeValueMap), snapshot, overrides);
+        positionFinderMetrics.recordPhase(PositionFinderMetrics.Phase.LOAD, System.nanoTime() - start);
+        return data;
+    }
 
-        BigDecimal employeeMonthlyCost = calculateMonthlyCost(employeeGradeValue, fillPercentage);
+    /**
+     * Evaluates a single request against the given search data.
+     *
+     * @param request the position finder request
+     * @param data    the grade values and candidate positions
+     * @return the matching positions and split suggestions
+     * @throws IllegalArgumentException if required parameters are missing or invalid
+     */
+    private PositionFinderResponseDTO findPositions(PositionFinderRequestDTO request, SearchData data) {
+        PreparedRequest prepared = prepare(request, data);
+        List<PositionGroup> candidates = findCandidates(prepared, data);
+
+        // Only the matches up to the end of the requested page are kept and sorted
+        int offset = request.offsetOrDefault();
+        int maxMatches = request.limit() != null
+                ? (int) Math.min((long) offset + request.limit(), Integer.MAX_VALUE)
+                : Integer.MAX_VALUE;
+        EvaluatedCandidates evaluated = collectMatches(prepared, candidates, data, maxMatches);
+
+        List<CandidateEvaluation> page = evaluated.bestMatches()
+                .subList(Math.min(offset, evaluated.bestMatches().size()), evaluated.bestMatches().size());
+        List<PositionMatchDTO> matches = new ArrayList<>(page.size());
+        for (CandidateEvaluation evaluation : page) {
+            matches.add(toMatch(evaluation));
+        }
 
-        // Prepare relevance types filter (treat empty list as null = no filter)
-        List<String> relevanceTypes = request.relevanceTypes();
-        if (relevanceTypes != null && relevanceTypes.isEmpty()) {
-            relevanceTypes = null;
+        // Generate split suggestions if no single position can fully accommodate
+        List<SplitSuggestionDTO> splitSuggestions = List.of();
+        if (evaluated.totalMatches() == 0) {
+            splitSuggestions = generateSplitSuggestions(prepared, candidates, evaluated, data);
         }
 
-        // Find candidate positions (date filtering is done in Java for complex availability logic)
-        List<Position> candidates = positionRepository.findCandidatePositions(
-                request.researchGroupId(),
-                relevanceTypes);
+        Map<UUID, PositionDescriptionView> descriptions = loadDescriptions(matches, splitSuggestions);
+        return new PositionFinderResponseDTO(
+                FixedPoint.toAmount(prepared.employeeMonthlyCostCents()),
+                request.employeeGrade(),
+                prepared.fillPercentage(),
+                evaluated.totalMatches(),
+                describe(matches, descriptions),
+                describeSuggestions(splitSuggestions, descriptions)
+        );
+    }
 
-        log.info("Found {} candidate positions for grade {} at {}%",
-                candidates.size(), request.employeeGrade(), fillPercentage);
+    /**
+     * Validates a search whose results are streamed instead of returned as a whole.
+     * <p>
+     * The request is validated and the search data is loaded immediately, so invalid requests fail before
+     * anything is sent. Running the returned search emits, in this order:
+     * <ol>
+     *   <li>The search summary, before any candidate is evaluated</li>
+     *   <li>The best {@code maxMatches} matches in score order (the same order as {@link #findPositions}),
+     *       selected with a bounded heap instead of sorting all matches</li>
+     *   <li>The split suggestions, only if no single position matches</li>
+     *   <li>The completion event with the total number of matches</li>
+     * </ol>
+     * <p>
+     * The paging fields of the request are ignored; the number of emitted matches is given by {@code maxMatches}.
+     *
+     * @param request    the position finder request
+     * @param maxMatches the maximum number of matches to emit (1 to {@link #MAX_STREAMED_MATCHES})
+     * @return the search, ready to be run
+     * @throws IllegalArgumentException if required parameters are missing or invalid
+     */
+    public StreamingSearch prepareStreamingSearch(PositionFinderRequestDTO request, int maxMatches) {
+        if (maxMatches < 1 || maxMatches > MAX_STREAMED_MATCHES) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_STREAMED_MATCHES);
+        }
+        SearchData data = loadSearchData();
+        PreparedRequest prepared = prepare(request, data);
+        return events -> streamPositions(prepared, data, maxMatches, events);
+    }
 
-        // Group positions by objectId to handle position splits
-        Map<String, List<Position>> positionsByObjectId = new HashMap<>();
-        for (Position position : candidates) {
-            if (position.getObjectId() != null) {
-                positionsByObjectId.computeIfAbsent(position.getObjectId(), k -> new ArrayList<>()).add(position);
+    /**
+     * Runs a validated search and emits its results one by one.
+     */
+    private void streamPositions(PreparedRequest prepared, SearchData data, int maxMatches,
+                                 Consumer<PositionFinderStreamEventDTO> events) {
+        List<PositionGroup> candidates = findCandidates(prepared, data);
+        events.accept(PositionFinderStreamEventDTO.summary(new PositionFinderSearchSummaryDTO(
+                FixedPoint.toAmount(prepared.employeeMonthlyCostCents()),
+                prepared.request().employeeGrade(),
+                prepared.fillPercentage(),
+                candidates.size()
+        )));
+
+        EvaluatedCandidates evaluated = collectMatches(prepared, candidates, data, maxMatches);
+
+        List<PositionMatchDTO> bestMatches = new ArrayList<>(evaluated.bestMatches().size());
+        for (CandidateEvaluation evaluation : evaluated.bestMatches()) {
+            bestMatches.add(toMatch(evaluation));
+        }
+        for (PositionMatchDTO match : describe(bestMatches, loadDescriptions(bestMatches, List.of()))) {
+            events.accept(PositionFinderStreamEventDTO.match(match));
+        }
+
+        if (evaluated.totalMatches() == 0) {
+            List<SplitSuggestionDTO> suggestions = generateSplitSuggestions(prepared, candidates, evaluated, data);
+            for (SplitSuggestionDTO suggestion : describeSuggestions(suggestions, loadDescriptions(List.of(), suggestions))) {
+                events.accept(PositionFinderStreamEventDTO.splitSuggestion(suggestion));
             }
         }
 
-        // Evaluate each unique position
-        List<PositionMatchDTO> matches = new ArrayList<>();
-        Set<String> processedObjectIds = new HashSet<>();
+        events.accept(PositionFinderStreamEventDTO.complete(evaluated.totalMatches()));
+    }
+
+    /**
+     * Finds the candidate positions of a request in the in-memory snapshot.
+     */
+    private List<PositionGroup> findCandidates(PreparedRequest prepared, SearchData data) {
+        long start = System.nanoTime();
+        PositionFinderRequestDTO request = prepared.request();
+
+        // Date filtering is done in Java for complex availability logic
+        List<PositionGroup> candidates = data.findGroups(
+                request.researchGroupId(),
+                prepared.relevanceTypes());
+
+        positionFinderMetrics.recordPhase(PositionFinderMetrics.Phase.CANDIDATES, System.nanoTime() - start);
+        positionFinderMetrics.recordCandidates(candidates.size());
+
+        log.info("Found {} candidate positions for grade {} at {}%",
+                candidates.size(), request.employeeGrade(), prepared.fillPercentage());
+        return candidates;
+    }
+
+    /**
+     * Evaluates all candidate positions and keeps the best matching ones, logging why positions were skipped.
+     * <p>
+     * The best matches are selected with a bounded heap while the evaluations are merged, so only
+     * {@code maxMatches} matches are kept and sorted; all other matches are only counted.
+     *
+     * @param prepared   the prepared request
+     * @param candidates the candidate positions
+     * @param data       the grade values and candidate positions
+     * @param maxMatches the maximum number of matches to keep
+     * @return the best matches, the number of all matches, and the availability of all positions with a known grade
+     */
+    private EvaluatedCandidates collectMatches(PreparedRequest prepared, List<PositionGroup> candidates, SearchData data,
+                                               int maxMatches) {
+        long start = System.nanoTime();
+        int fillPercentage = prepared.fillPercentage();
+
+        // Availability per objectId, shared with the split suggestion path so it is only calculated once
+        Map<String, AvailabilityInfo> availabilityByObjectId = new HashMap<>();
+
+        // Evaluate each unique position, then merge the results in candidate order
+        TopK<RankedMatch> best = new TopK<>(maxMatches, BEST_FIRST);
+        int totalMatches = 0;
+        int processedPositions = 0;
         int skippedUnknownGrade = 0;
+        int skippedBelowCost = 0;
         int skippedNoAvailability = 0;
         int skippedByRules = 0;
 
-        for (Position position : candidates) {
-            String objectId = position.getObjectId();
-            if (objectId == null || processedObjectIds.contains(objectId)) {
-                continue;
+        for (CandidateEvaluation evaluation : evaluateAll(prepared, candidates, data)) {
+            String objectId = evaluation.group().objectId();
+            PositionRow position = evaluation.group().representative();
+            processedPositions++;
+
+            AvailabilityInfo availability = evaluation.availability();
+            if (availability != null) {
+                availabilityByObjectId.put(objectId, availability);
+
+                // Debug: log details for first few positions
+                if (processedPositions <= 3) {
+                    log.info("Position {} (grade {}): minAvailable={}%, maxAssignments={}",
+                            objectId, position.tariffGroup(), availability.minAvailablePercentage(), availability.maxAssignmentCount());
+                }
             }
-            processedObjectIds.add(objectId);
-
-            // Get position grade value (normalize the grade code for matching)
-            // Use tariffGroup which contains the actual grade (E10, E13, etc.)
-            String normalizedGrade = normalizeGradeCode(position.getTariffGroup());
-            GradeValue positionGradeFromMap = gradeValueMap.get(normalizedGrade);
-            if (positionGradeFromMap == null) {
-                skippedUnknownGrade++;
-                if (skippedUnknownGrade <= 5) {
-                    log.warn("Skipping position {} - unknown grade: '{}' (normalized: '{}')", objectId, position.getTariffGroup(), normalizedGrade);
+
+            switch (evaluation.outcome()) {
+                case UNKNOWN_GRADE -> {
+                    skippedUnknownGrade++;
+                    if (skippedUnknownGrade <= 5) {
+                        log.warn("Skipping position {} - unknown grade: '{}' (normalized: '{}')", objectId, position.tariffGroup(), position.normalizedGrade());
+                    }
                 }
-                continue;
+                case GRADE_BELOW_COST -> skippedBelowCost++;
+                case INSUFFICIENT_AVAILABILITY -> {
+                    skippedNoAvailability++;
+                    if (skippedNoAvailability <= 5) {
+                        log.warn("Skipping position {} - insufficient availability: {}% < {}% (assigned: {}%)",
+                                objectId, availability.minAvailablePercentage(), fillPercentage,
+                                FixedPoint.toPercentage(FixedPoint.HUNDRED_PERCENT - availability.minAvailableBasisPoints()));
+                    }
+                }
+                case EXCLUDED_BY_RULE -> {
+                    skippedByRules++;
+                    if (skippedByRules <= 5) {
+                        log.warn("Skipping position {} - excluded by matching rule (employee cost: {}, position budget: {})",
+                                objectId, FixedPoint.toAmount(prepared.employeeMonthlyCostCents()),
+                                FixedPoint.toAmount(evaluation.context().positionBudgetCents()));
+                    }
+                }
+                case MATCH -> best.offer(new RankedMatch(totalMatches++, roundScore(evaluation.totalScore()), evaluation));
             }
+        }
 
-            GradeValue positionGradeValue = positionGradeFromMap;
+        List<CandidateEvaluation> bestMatches = new ArrayList<>(best.size());
+        for (RankedMatch match : best.toSortedList()) {
+            bestMatches.add(match.evaluation());
+        }
 
-            // Get all positions for this objectId to calculate availability across the entire period
-            List<Position> positionsForObjectId = positionsByObjectId.get(objectId);
-            AvailabilityInfo availability = calculateMinAvailabilityInPeriod(
-                    positionsForObjectId,
-                    request.startDate(),
-                    request.endDate()
-            );
+        positionFinderMetrics.recordPhase(PositionFinderMetrics.Phase.EVALUATE, System.nanoTime() - start);
+        positionFinderMetrics.recordOutcomes(CandidateEvaluation.Outcome.MATCH, totalMatches);
+        positionFinderMetrics.recordOutcomes(CandidateEvaluation.Outcome.UNKNOWN_GRADE, skippedUnknownGrade);
+        positionFinderMetrics.recordOutcomes(CandidateEvaluation.Outcome.GRADE_BELOW_COST, skippedBelowCost);
+        positionFinderMetrics.recordOutcomes(CandidateEvaluation.Outcome.INSUFFICIENT_AVAILABILITY, skippedNoAvailability);
+        positionFinderMetrics.recordOutcomes(CandidateEvaluation.Outcome.EXCLUDED_BY_RULE, skippedByRules);
 
-            BigDecimal availablePercentage = availability.minAvailablePercentage();
-            int assignmentCount = availability.maxAssignmentCount();
-            BigDecimal assignedPercentage = BigDecimal.valueOf(100).subtract(availablePercentage);
+        log.info("Found {} matching positions (skipped: {} unknown grade, {} grade below cost, {} no availability, {} by rules)",
+                totalMatches, skippedUnknownGrade, skippedBelowCost, skippedNoAvailability, skippedByRules);
+        return new EvaluatedCandidates(bestMatches, totalMatches, availabilityByObjectId);
+    }
 
-            // Debug: log details for first few positions
-            if (processedObjectIds.size() <= 3) {
-                log.info("Position {} (grade {}): minAvailable={}%, maxAssignments={}",
-                        objectId, position.getTariffGroup(), availablePercentage, assignmentCount);
+    /**
+     * Evaluates all candidate positions of a request.
+     * <p>
+     * Each candidate is evaluated independently against read-only search data. Searches with at least
+     * {@code staffplan.position-finder.parallel-threshold} candidates (typically faculty-wide searches without
+     * a research group filter) are split across the common fork/join pool; every worker collects its own
+     * chunk of results, and the chunks are concatenated in candidate order. The result is therefore the same
+     * as for the sequential evaluation. Afterwards, the rule pipeline adapts the order of its exclusion checks
+     * to the exclusion rates observed so far.
+     *
+     * @param prepared   the prepared request
+     * @param candidates the candidate positions
+     * @param data       the grade values and candidate positions
+     * @return one evaluation per candidate, in candidate order
+     */
+    List<CandidateEvaluation> evaluateAll(PreparedRequest prepared, List<PositionGroup> candidates, SearchData data) {
+        if (candidates.size() < staffPlanProperties.getPositionFinder().getParallelThreshold()) {
+            List<CandidateEvaluation> evaluations = new ArrayList<>(candidates.size());
+            for (PositionGroup group : candidates) {
+                evaluations.add(evaluate(prepared, group, data));
             }
+            matchingRulePipeline.reorder();
+            return evaluations;
+        }
+        List<CandidateEvaluation> evaluations = candidates.parallelStream()
+                .map(group -> evaluate(prepared, group, data))
+                .toList();
+        matchingRulePipeline.reorder();
+        return evaluations;
+    }
 
-            // Calculate position budget based on AVAILABLE percentage
-            BigDecimal positionBudget = calculatePositionBudgetForPercentage(positionGradeValue, availablePercentage);
-
-            // Build matching context
-            MatchingContext ctx = new MatchingContext(
-                    position,
-                    request.employeeGrade(),
-                    employeeMonthlyCost,
-                    positionBudget,
-                    request.startDate(),
-                    request.endDate(),
-                    BigDecimal.valueOf(fillPercentage),
-                    assignmentCount,
-                    assignedPercentage
-            );
-            if (availablePercentage.compareTo(BigDecimal.valueOf(fillPercentage)) < 0) {
-                skippedNoAvailability++;
-                if (skippedNoAvailability <= 5) {
-                    log.warn("Skipping position {} - insufficient availability: {}% < {}% (assigned: {}%)",
-                            objectId, availablePercentage, fillPercentage, assignedPercentage);
-                }
-                continue;
-            }
+    /**
+     * Validates a request and derives the values shared by the evaluation of all candidate positions.
+     *
+     * @param request the position finder request
+     * @param data    the grade values and candidate positions
+     * @return the prepared request
+     * @throws IllegalArgumentException if required parameters are missing or invalid
+     */
+    PreparedRequest prepare(PositionFinderRequestDTO request, SearchData data) {
+        // Validate request
+        if (request.startDate() == null || request.endDate() == null) {
+            throw new IllegalArgumentException("Start date and end date are required");
+        }
+        if (request.startDate().isAfter(request.endDate())) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        if (request.employeeGrade() == null || request.employeeGrade().isBlank()) {
+            throw new IllegalArgumentException("Employee grade is required");
+        }
 
-            // Evaluate all rules
-            double totalScore = 0;
-            boolean excluded = false;
-            List<String> warnings = new ArrayList<>();
+        int fillPercentage = request.fillPercentageOrDefault();
+        if (fillPercentage < 1 || fillPercentage > 100) {
+            throw new IllegalArgumentException("Fill percentage must be between 1 and 100");
+        }
+        if (request.limit() != null && (request.limit() < 1 || request.limit() > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (request.offsetOrDefault() < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
 
-            for (MatchingRule rule : matchingRules) {
-                double score = rule.evaluate(ctx);
-                if (score < 0) {
-                    excluded = true;
-                    break;
-                }
-                totalScore += score * rule.getWeight();
-            }
+        // Get employee grade value (normalize the grade code)
+        String normalizedEmployeeGrade = GradeCodeNormalizer.normalize(request.employeeGrade());
+        GradeValue employeeGradeValue = Optional.ofNullable(data.gradeValueMap().get(normalizedEmployeeGrade))
+                .orElseThrow(() -> new IllegalArgumentException("Unknown employee grade: " + request.employeeGrade() + " (normalized: " + normalizedEmployeeGrade + ")"));
 
-            if (excluded) {
-                skippedByRules++;
-                if (skippedByRules <= 5) {
-                    log.warn("Skipping position {} - excluded by matching rule (employee cost: {}, position budget: {})",
-                            objectId, employeeMonthlyCost, positionBudget);
-                }
-                continue;
-            }
+        long employeeGradeMonthlyCents = FixedPoint.toCents(employeeGradeValue.getMonthlyValue());
+        long fillBasisPoints = FixedPoint.toBasisPoints(fillPercentage);
+        long employeeMonthlyCostCents = FixedPoint.prorate(employeeGradeMonthlyCents, fillBasisPoints);
 
-            // Calculate waste info
-            BigDecimal waste = ctx.wasteAmount();
-            double wastePercentage = positionBudget.compareTo(BigDecimal.ZERO) > 0
-                    ? waste.divide(positionBudget, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100)).doubleValue()
-                    : 0;
+        // Prepare relevance types filter (treat empty list as null = no filter)
+        List<String> relevanceTypes = request.relevanceTypes();
+        if (relevanceTypes != null && relevanceTypes.isEmpty()) {
+            relevanceTypes = null;
+        }
 
-            // Add warnings
-            if (wastePercentage > 30) {
-                warnings.add("High budget waste (>" + String.format("%.0f", wastePercentage) + "%)");
-            }
-            if (assignmentCount >= 2) {
-                warnings.add("Position has multiple assignments");
-            }
-            long overlapDays = ctx.overlapDays();
-            long requestedDays = ctx.requestedDays();
-            if (requestedDays > 0 && (double) overlapDays / requestedDays < 0.8) {
-                warnings.add("Partial time overlap only");
-            }
+        return new PreparedRequest(request, fillPercentage, fillBasisPoints, employeeGradeMonthlyCents,
+                employeeMonthlyCostCents, relevanceTypes);
+    }
 
-            // Build match result
-            PositionMatchDTO match = new PositionMatchDTO(
-                    position.getId(),
-                    objectId,
-                    position.getObjectCode(),
-                    position.getObjectDescription(),
-                    position.getTariffGroup(),  // Use tariffGroup for grade display
-                    position.getPositionRelevanceType(),
-                    position.getPercentage(),
-                    availablePercentage,
-                    position.getStartDate(),
-                    position.getEndDate(),
-                    Math.round(totalScore * 100) / 100.0,
-                    PositionMatchDTO.qualityFromScore(totalScore),
-                    waste.setScale(2, RoundingMode.HALF_UP),
-                    Math.round(wastePercentage * 100) / 100.0,
-                    assignmentCount,
-                    warnings
-            );
+    /**
+     * Evaluates a single candidate position for a prepared request: calculates its availability over the
+     * requested period and applies the matching rules.
+     *
+     * @param prepared the prepared request
+     * @param group    the candidate position
+     * @param data     the grade values and candidate positions
+     * @return the evaluation, with its outcome and (if the position's grade is known) availability and context
+     */
+    CandidateEvaluation evaluate(PreparedRequest prepared, PositionGroup group, SearchData data) {
+        PositionFinderRequestDTO request = prepared.request();
+
+        // Get position grade value (the snapshot holds the normalized tariffGroup,
+        // which contains the actual grade: E10, E13, etc.)
+        Long positionMonthlyCents = data.monthlyCentsByGrade().get(group.representative().normalizedGrade());
+        if (positionMonthlyCents == null) {
+            return new CandidateEvaluation(group, CandidateEvaluation.Outcome.UNKNOWN_GRADE, null, null, 0);
+        }
 
-            matches.add(match);
+        // Even fully available, the position's budget would not cover the employee. The split suggestions only use
+        // positions of at least the employee's full grade value, so the availability is not needed either.
+        if (positionMonthlyCents < prepared.employeeMonthlyCostCents()) {
+            return new CandidateEvaluation(group, CandidateEvaluation.Outcome.GRADE_BELOW_COST, null, null, 0);
         }
 
-        // Sort by overall score descending
-        matches.sort((a, b) -> Double.compare(b.overallScore(), a.overallScore()));
+        // Use all assignments of this objectId to calculate availability across the entire period
+        long availabilityStart = System.nanoTime();
+        AvailabilityInfo availability = availabilityCalculator.calculate(
+                group.assignments(),
+                request.startDate(),
+                request.endDate()
+        );
+        positionFinderMetrics.recordAvailability(System.nanoTime() - availabilityStart);
+        long availableBasisPoints = availability.minAvailableBasisPoints();
 
-        log.info("Found {} matching positions (skipped: {} unknown grade, {} no availability, {} by rules)",
-                matches.size(), skippedUnknownGrade, skippedNoAvailability, skippedByRules);
+        // Calculate position budget based on AVAILABLE percentage
+        long positionBudgetCents = FixedPoint.prorate(positionMonthlyCents, availableBasisPoints);
 
-        // Generate split suggestions if no single position can fully accommodate
-        List<SplitSuggestionDTO> splitSuggestions = List.of();
-        if (matches.isEmpty()) {
-            splitSuggestions = generateSplitSuggestions(
-                    candidates,
-                    employeeGradeValue,
-                    fillPercentage,
-                    request.startDate(),
-                    request.endDate(),
-                    gradeValueMap
-            );
-            log.info("Generated {} split suggestions", splitSuggestions.size());
+        // Build matching context
+        MatchingContext ctx = new MatchingContext(
+                group.representative(),
+                request.employeeGrade(),
+                prepared.employeeMonthlyCostCents(),
+                positionBudgetCents,
+                request.startDate(),
+                request.endDate(),
+                prepared.fillBasisPoints(),
+                availability.maxAssignmentCount(),
+                availableBasisPoints
+        );
+        if (availableBasisPoints < prepared.fillBasisPoints()) {
+            return new CandidateEvaluation(group, CandidateEvaluation.Outcome.INSUFFICIENT_AVAILABILITY, availability, ctx, 0);
         }
 
-        return new PositionFinderResponseDTO(
-                employeeMonthlyCost.setScale(2, RoundingMode.HALF_UP),
-                request.employeeGrade(),
-                fillPercentage,
-                matches.size(),
-                matches,
-                splitSuggestions
+        // Exclusion checks first, then the scoring of all rules
+        double totalScore = matchingRulePipeline.evaluate(ctx, positionFinderMetrics::recordRule);
+        if (totalScore < 0) {
+            return new CandidateEvaluation(group, CandidateEvaluation.Outcome.EXCLUDED_BY_RULE, availability, ctx, 0);
+        }
+
+        return new CandidateEvaluation(group, CandidateEvaluation.Outcome.MATCH, availability, ctx, totalScore);
+    }
+
+    /**
+     * Builds the match result for a matching candidate position.
+     *
+     * @param evaluation the evaluation of the candidate, with outcome {@code MATCH}
+     * @return the match result including waste information and warnings
+     */
+    PositionMatchDTO toMatch(CandidateEvaluation evaluation) {
+        MatchingContext ctx = evaluation.context();
+        PositionRow position = ctx.position();
+        double totalScore = evaluation.totalScore();
+        int assignmentCount = ctx.currentAssignmentCount();
+
+        // Calculate waste info
+        long wasteCents = ctx.wasteCents();
+        double wastePercentage = ctx.wastePercentage();
+
+        // Add warnings
+        List<String> warnings = new ArrayList<>();
+        if (wastePercentage > 30) {
+            warnings.add("High budget waste (>" + String.format("%.0f", wastePercentage) + "%)");
+        }
+        if (assignmentCount >= 2) {
+            warnings.add("Position has multiple assignments");
+        }
+        long overlapDays = ctx.overlapDays();
+        long requestedDays = ctx.requestedDays();
+        if (requestedDays > 0 && (double) overlapDays / requestedDays < 0.8) {
+            warnings.add("Partial time overlap only");
+        }
+
+        // Build match result
+        return new PositionMatchDTO(
+                position.positionId(),
+                position.objectId(),
+                null,  // Descriptions are loaded for the returned matches only (see describe)
+                null,
+                position.tariffGroup(),  // Use tariffGroup for grade display
+                position.relevanceType(),
+                position.percentage(),
+                FixedPoint.toPercentage(ctx.availableBasisPoints()),
+                position.startDate(),
+                position.endDate(),
+                roundScore(totalScore),
+                PositionMatchDTO.qualityFromScore(totalScore),
+                FixedPoint.toAmount(wasteCents),
+                Math.round(wastePercentage * 100) / 100.0,
+                assignmentCount,
+                warnings
         );
     }
 
     /**
-     * Calculates the monthly cost for an employee based on their grade and employment percentage.
+     * Loads the object codes and descriptions of the positions in the given results.
+     * <p>
+     * The snapshot only holds the fields needed for matching, so descriptions are read for the returned
+     * positions only, with one query per {@value #DESCRIPTION_BATCH_SIZE} positions.
      *
-     * @param gradeValue the grade value containing the base monthly salary
-     * @param percentage the employment percentage (1-100)
-     * @return the prorated monthly cost, or zero if the grade has no monthly value
+     * @param matches          the matches to describe
+     * @param splitSuggestions the split suggestions to describe
+     * @return the descriptions by position row ID
      */
-    private BigDecimal calculateMonthlyCost(GradeValue gradeValue, int percentage) {
-        BigDecimal monthlyValue = gradeValue.getMonthlyValue();
-        if (monthlyValue == null) {
-            return BigDecimal.ZERO;
+    Map<UUID, PositionDescriptionView> loadDescriptions(List<PositionMatchDTO> matches, List<SplitSuggestionDTO> splitSuggestions) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (PositionMatchDTO match : matches) {
+            ids.add(match.positionId());
         }
-        return monthlyValue.multiply(BigDecimal.valueOf(percentage))
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        for (SplitSuggestionDTO suggestion : splitSuggestions) {
+            for (PositionMatchDTO match : suggestion.positions()) {
+                ids.add(match.positionId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        long start = System.nanoTime();
+        List<UUID> idList = new ArrayList<>(ids);
+        Map<UUID, PositionDescriptionView> descriptions = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += DESCRIPTION_BATCH_SIZE) {
+            List<UUID> batch = idList.subList(from, Math.min(from + DESCRIPTION_BATCH_SIZE, idList.size()));
+            for (PositionDescriptionView description : positionRepository.findDescriptionsByIdIn(batch)) {
+                descriptions.put(description.id(), description);
+            }
+        }
+        positionFinderMetrics.recordPhase(PositionFinderMetrics.Phase.DESCRIBE, System.nanoTime() - start);
+        return descriptions;
     }
 
     /**
-     * Calculates the budget available on a position based on its grade and available percentage.
+     * Returns the matches with their object codes and descriptions filled in.
      *
-     * @param gradeValue the grade value containing the base monthly salary for this position
-     * @param percentage the available percentage on the position (0-100)
-     * @return the prorated monthly budget, or zero if the grade has no monthly value
+     * @param matches      the matches
+     * @param descriptions the descriptions by position row ID (see {@link #loadDescriptions})
+     * @return the described matches, in the same order
+     */
+    static List<PositionMatchDTO> describe(List<PositionMatchDTO> matches, Map<UUID, PositionDescriptionView> descriptions) {
+        List<PositionMatchDTO> described = new ArrayList<>(matches.size());
+        for (PositionMatchDTO match : matches) {
+            PositionDescriptionView description = descriptions.get(match.positionId());
+            described.add(description != null
+                    ? match.withDescription(description.objectCode(), description.objectDescription())
+                    : match);
+        }
+        return described;
+    }
+
+    /**
+     * Returns the split suggestions with the object codes and descriptions of their positions filled in.
      */
-    private BigDecimal calculatePositionBudgetForPercentage(GradeValue gradeValue, BigDecimal percentage) {
-        BigDecimal monthlyValue = gradeValue.getMonthlyValue();
-        if (monthlyValue == null) {
-            return BigDecimal.ZERO;
+    private static List<SplitSuggestionDTO> describeSuggestions(List<SplitSuggestionDTO> suggestions,
+                                                                Map<UUID, PositionDescriptionView> descriptions) {
+        if (suggestions.isEmpty()) {
+            return suggestions;
         }
-        if (percentage == null) {
-            percentage = BigDecimal.valueOf(100);
+        List<SplitSuggestionDTO> described = new ArrayList<>(suggestions.size());
+        for (SplitSuggestionDTO suggestion : suggestions) {
+            described.add(new SplitSuggestionDTO(
+                    describe(suggestion.positions(), descriptions),
+                    suggestion.totalAvailablePercentage(),
+                    suggestion.totalWasteAmount(),
+                    suggestion.splitCount()
+            ));
         }
-        return monthlyValue.multiply(percentage)
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return described;
+    }
+
+    /**
+     * Rounds a score to two decimal places, as reported in {@link PositionMatchDTO#overallScore()}.
+     */
+    private static double roundScore(double totalScore) {
+        return Math.round(totalScore * 100) / 100.0;
+    }
+
+    /**
+     * Converts the monthly values of all grades to cents. Grades without a monthly value cost nothing.
+     *
+     * @param gradeValueMap all grade values by grade code
+     * @return the monthly value in cents by grade code
+     */
+    private Map<String, Long> toMonthlyCents(Map<String, GradeValue> gradeValueMap) {
+        Map<String, Long> monthlyCentsByGrade = new HashMap<>(gradeValueMap.size() * 2);
+        gradeValueMap.forEach((gradeCode, gradeValue) ->
+                monthlyCentsByGrade.put(gradeCode, FixedPoint.toCents(gradeValue.getMonthlyValue())));
+        return monthlyCentsByGrade;
     }
 
     /**
@@ -313,6 +859,7 @@ public class PositionFinderService {
      * This method finds combinations of 2, 3, or 4 positions that together can satisfy
      * the requested employment percentage for the entire search period. Each position in
      * the combination must have availability for the full period (not just partial overlap).
+     * All candidate positions are considered (see {@link SplitSuggestionSolver}).
      * <p>
      * The suggestions are sorted by:
      * <ol>
@@ -320,105 +867,100 @@ public class PositionFinderService {
      *   <li>Minimal excess percentage (closest match to requested percentage)</li>
      * </ol>
      *
-     * @param candidates         all candidate position rows from the database
-     * @param employeeGradeValue the employee's grade value for budget comparison
-     * @param fillPercentage     the requested employment percentage
-     * @param startDate          the search period start date
-     * @param endDate            the search period end date
+     * @param prepared   the prepared request
+     * @param candidates all candidate positions from the snapshot
+     * @param evaluated  the availability already calculated while searching for single matches
+     * @param data       the grade values and candidate positions
      * @return up to 8 split suggestions, or empty list if no valid combinations exist
      */
     private List<SplitSuggestionDTO> generateSplitSuggestions(
-            List<Position> candidates,
-            GradeValue employeeGradeValue,
-            int fillPercentage,
-            LocalDate startDate,
-            LocalDate endDate,
-            Map<String, GradeValue> gradeValueMap
+            PreparedRequest prepared,
+            List<PositionGroup> candidates,
+            EvaluatedCandidates evaluated,
+            SearchData data
     ) {
-        // Group candidates by objectId
-        Map<String, List<Position>> positionsByObjectId = new HashMap<>();
-        for (Position position : candidates) {
-            if (position.getObjectId() != null) {
-                positionsByObjectId.computeIfAbsent(position.getObjectId(), k -> new ArrayList<>()).add(position);
-            }
-        }
+        long start = System.nanoTime();
+        Map<String, AvailabilityInfo> availabilityByObjectId = evaluated.availabilityByObjectId();
+        Map<String, Long> monthlyCentsByGrade = data.monthlyCentsByGrade();
+        long employeeMonthlyCents = prepared.employeeGradeMonthlyCents();
+        int fillPercentage = prepared.fillPercentage();
+        LocalDate startDate = prepared.request().startDate();
+        LocalDate endDate = prepared.request().endDate();
 
         // Collect all positions with any available capacity that match the grade
         List<PositionMatchDTO> partialMatches = new ArrayList<>();
-        Set<String> seenObjectIds = new HashSet<>();
+        List<Long> partialAvailableBasisPoints = new ArrayList<>();
 
-        for (Position position : candidates) {
-            String objectId = position.getObjectId();
-            if (objectId == null || seenObjectIds.contains(objectId)) {
-                continue;
-            }
-            seenObjectIds.add(objectId);
+        for (PositionGroup group : candidates) {
+            String objectId = group.objectId();
+            PositionRow position = group.representative();
 
             // Check grade matches
-            String normalizedGrade = normalizeGradeCode(position.getTariffGroup());
-            GradeValue positionGradeValue = gradeValueMap.get(normalizedGrade);
-            if (positionGradeValue == null) {
+            Long positionMonthlyCents = monthlyCentsByGrade.get(position.normalizedGrade());
+            if (positionMonthlyCents == null) {
                 continue;
             }
 
             // Only include positions of the same or higher grade (budget-wise)
-            if (positionGradeValue.getMonthlyValue().compareTo(employeeGradeValue.getMonthlyValue()) < 0) {
+            if (positionMonthlyCents < employeeMonthlyCents) {
                 continue;
             }
 
-            // Get minimum available percentage across the entire period
-            List<Position> positionsForObjectId = positionsByObjectId.get(objectId);
-            AvailabilityInfo availability = calculateMinAvailabilityInPeriod(positionsForObjectId, startDate, endDate);
-            BigDecimal availablePercentage = availability.minAvailablePercentage();
+            // Get minimum available percentage across the entire period (reuses the single-match calculation)
+            AvailabilityInfo availability = availabilityByObjectId.computeIfAbsent(objectId,
+                    id -> availabilityCalculator.calculate(group.assignments(), startDate, endDate));
+            long availableBasisPoints = availability.minAvailableBasisPoints();
 
             // Skip if no availability
-            if (availablePercentage.compareTo(BigDecimal.ZERO) <= 0) {
+            if (availableBasisPoints <= 0) {
                 continue;
             }
 
             int assignmentCount = availability.maxAssignmentCount();
 
             // Calculate budget and waste for this partial position
-            BigDecimal positionBudget = calculatePositionBudgetForPercentage(positionGradeValue, availablePercentage);
-            BigDecimal partialEmployeeCost = calculateMonthlyCost(employeeGradeValue, availablePercentage.intValue());
-            BigDecimal waste = positionBudget.subtract(partialEmployeeCost);
-            if (waste.compareTo(BigDecimal.ZERO) < 0) {
-                waste = BigDecimal.ZERO;
-            }
-            double wastePercentage = positionBudget.compareTo(BigDecimal.ZERO) > 0
-                    ? waste.divide(positionBudget, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100)).doubleValue()
+            // (the employee's partial cost is based on the whole available percentage, fractions are cut off)
+            long positionBudgetCents = FixedPoint.prorate(positionMonthlyCents, availableBasisPoints);
+            long wholeAvailableBasisPoints = availableBasisPoints / FixedPoint.BASIS_POINTS_PER_PERCENT * FixedPoint.BASIS_POINTS_PER_PERCENT;
+            long partialEmployeeCostCents = FixedPoint.prorate(employeeMonthlyCents, wholeAvailableBasisPoints);
+            long wasteCents = Math.max(0, positionBudgetCents - partialEmployeeCostCents);
+            double wastePercentage = positionBudgetCents > 0
+                    ? FixedPoint.ratioPercentage(wasteCents, positionBudgetCents)
                     : 0;
 
             PositionMatchDTO match = new PositionMatchDTO(
-                    position.getId(),
+                    position.positionId(),
                     objectId,
-                    position.getObjectCode(),
-                    position.getObjectDescription(),
-                    position.getTariffGroup(),
-                    position.getPositionRelevanceType(),
-                    position.getPercentage(),
-                    availablePercentage,
-                    position.getStartDate(),
-                    position.getEndDate(),
+                    null,
+                    null,
+                    position.tariffGroup(),
+                    position.relevanceType(),
+                    position.percentage(),
+                    FixedPoint.toPercentage(availableBasisPoints),
+                    position.startDate(),
+                    position.endDate(),
                     50.0, // Default score for partial matches
                     PositionMatchDTO.MatchQuality.FAIR,
-                    waste.setScale(2, RoundingMode.HALF_UP),
+                    FixedPoint.toAmount(wasteCents),
                     Math.round(wastePercentage * 100) / 100.0,
                     assignmentCount,
                     List.of()
             );
 
             partialMatches.add(match);
+            partialAvailableBasisPoints.add(availableBasisPoints);
         }
 
         List<SplitSuggestionDTO> suggestions = new ArrayList<>();
         BigDecimal targetPercentage = BigDecimal.valueOf(fillPercentage);
+        long[] availableBasisPoints = partialAvailableBasisPoints.stream().mapToLong(Long::longValue).toArray();
+        long targetBasisPoints = FixedPoint.toBasisPoints(fillPercentage);
 
         // Find top combinations for each split size (2, 3, 4 positions)
         // Return more options for 2-way splits (most practical), fewer for larger splits
-        suggestions.addAll(findTopCombinations(partialMatches, targetPercentage, 2, 5));
-        suggestions.addAll(findTopCombinations(partialMatches, targetPercentage, 3, 2));
-        suggestions.addAll(findTopCombinations(partialMatches, targetPercentage, 4, 1));
+        suggestions.addAll(findTopCombinations(partialMatches, availableBasisPoints, targetBasisPoints, 2, 5));
+        suggestions.addAll(findTopCombinations(partialMatches, availableBasisPoints, targetBasisPoints, 3, 2));
+        suggestions.addAll(findTopCombinations(partialMatches, availableBasisPoints, targetBasisPoints, 4, 1));
 
         // Sort suggestions by split count first (prefer fewer splits), then by excess percentage
         suggestions.sort((a, b) -> {
@@ -433,237 +975,42 @@ public class PositionFinderService {
         });
 
         // Return top 8 suggestions
-        return suggestions.stream().limit(8).toList();
+        List<SplitSuggestionDTO> topSuggestions = suggestions.stream().limit(8).toList();
+        positionFinderMetrics.recordPhase(PositionFinderMetrics.Phase.SPLIT, System.nanoTime() - start);
+        log.info("Generated {} split suggestions", topSuggestions.size());
+        return topSuggestions;
     }
 
     /**
      * Finds the top combinations of exactly n positions that meet the target percentage.
      * <p>
-     * Generates all possible combinations of the specified size, filters those that meet
-     * or exceed the target percentage, and returns the top results sorted by minimal
+     * Combinations that meet or exceed the target percentage are ranked by minimal
      * excess (to avoid over-allocation).
      *
-     * @param positions        list of positions with partial availability
-     * @param targetPercentage the minimum total percentage required
-     * @param n                the exact number of positions per combination
-     * @param maxResults       maximum number of combinations to return
+     * @param positions            list of positions with partial availability
+     * @param availableBasisPoints the available percentage of each position in basis points
+     * @param targetBasisPoints    the minimum total percentage required, in basis points
+     * @param n                    the exact number of positions per combination
+     * @param maxResults           maximum number of combinations to return
      * @return list of split suggestions, sorted by minimal excess percentage
      */
     private List<SplitSuggestionDTO> findTopCombinations(
             List<PositionMatchDTO> positions,
-            BigDecimal targetPercentage,
+            long[] availableBasisPoints,
+            long targetBasisPoints,
             int n,
             int maxResults
     ) {
-        if (positions.size() < n) {
-            return List.of();
-        }
-
-        // Generate all combinations of size n
-        List<List<PositionMatchDTO>> combinations = generateCombinations(positions, n);
-
-        // Filter and sort by excess
-        return combinations.stream()
-                .map(combo -> {
-                    BigDecimal totalAvailable = combo.stream()
-                            .map(PositionMatchDTO::availablePercentage)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    return new AbstractMap.SimpleEntry<>(combo, totalAvailable);
-                })
-                .filter(entry -> entry.getValue().compareTo(targetPercentage) >= 0)
-                .sorted((a, b) -> {
-                    BigDecimal excessA = a.getValue().subtract(targetPercentage);
-                    BigDecimal excessB = b.getValue().subtract(targetPercentage);
-                    return excessA.compareTo(excessB);
-                })
-                .limit(maxResults)
-                .map(entry -> SplitSuggestionDTO.fromMatches(new ArrayList<>(entry.getKey())))
-                .toList();
-    }
-
-    /**
-     * Generates all combinations of size k from the given list using recursive backtracking.
-     * <p>
-     * To prevent performance issues with large datasets:
-     * <ul>
-     *   <li>Input is limited to first 100 positions</li>
-     *   <li>Total combinations are capped at 10,000</li>
-     * </ul>
-     *
-     * @param positions list of positions to combine
-     * @param k         the size of each combination
-     * @return list of all valid combinations (up to limits)
-     */
-    private List<List<PositionMatchDTO>> generateCombinations(List<PositionMatchDTO> positions, int k) {
-        List<List<PositionMatchDTO>> result = new ArrayList<>();
-        // Limit input size to prevent combinatorial explosion
-        List<PositionMatchDTO> limited = positions.size() > 100 ? positions.subList(0, 100) : positions;
-        generateCombinationsHelper(limited, k, 0, new ArrayList<>(), result);
-        return result;
-    }
-
-    private void generateCombinationsHelper(
-            List<PositionMatchDTO> positions,
-            int k,
-            int start,
-            List<PositionMatchDTO> current,
-            List<List<PositionMatchDTO>> result
-    ) {
-        if (current.size() == k) {
-            result.add(new ArrayList<>(current));
-            return;
-        }
-
-        // Early termination if we can't possibly fill the remaining slots
-        if (start >= positions.size() || positions.size() - start < k - current.size()) {
-            return;
-        }
-
-        // Limit total combinations to prevent performance issues
-        if (result.size() >= 10000) {
-            return;
-        }
-
-        for (int i = start; i < positions.size(); i++) {
-            current.add(positions.get(i));
-            generateCombinationsHelper(positions, k, i + 1, current, result);
-            current.removeLast();
-        }
-    }
-
-    /**
-     * Normalizes a grade code for matching.
-     * Removes spaces, converts to uppercase, and handles common variations.
-     * Examples: "E 13" -> "E13", "e13" -> "E13", "E13 TVL" -> "E13", "E13UE" -> "E13", "A13 A.Z." -> "A13"
-     */
-    private String normalizeGradeCode(String gradeCode) {
-        if (gradeCode == null || gradeCode.isBlank()) {
-            return "";
-        }
-        // Remove spaces and convert to uppercase
-        String normalized = gradeCode.toUpperCase().replaceAll("\\s+", "");
-        // Remove common suffixes like "TVL", "TVÖD", "UE" (Überleitungsentgelt), "A.Z." etc.
-        normalized = normalized.replaceAll("(TVL|TVÖD|TV-L|TVOED|UE|Ü|A\\.Z\\.)$", "");
-        // Handle cases like "E13A" or "E13B" -> keep as is (these are distinct grades)
-        // Handle cases like "E9A" vs "E9a" -> normalize to uppercase (already done)
-        return normalized;
-    }
-
-    /**
-     * Holds availability information for a position during a specific time period.
-     *
-     * @param minAvailablePercentage the minimum available percentage across all time slices in the period
-     *                               (represents the worst-case availability)
-     * @param maxAssignmentCount     the maximum number of concurrent assignments at any point in the period
-     */
-    private record AvailabilityInfo(BigDecimal minAvailablePercentage, int maxAssignmentCount) {}
-
-    /**
-     * Calculates the minimum availability across the entire time period using time-slice analysis.
-     * <p>
-     * This method implements the same logic as the Gantt chart's gap detection:
-     * <ol>
-     *   <li>Identify all boundary dates where availability changes (assignment starts/ends)</li>
-     *   <li>Create time slices between consecutive boundaries</li>
-     *   <li>For each slice, calculate total assigned percentage from active assignments</li>
-     *   <li>Track the minimum availability (worst case) across all slices</li>
-     * </ol>
-     * <p>
-     * A position is considered fully available (100%) if:
-     * <ul>
-     *   <li>It has no assignments at all, or</li>
-     *   <li>All assignments ended before the search period starts</li>
-     * </ul>
-     * <p>
-     * This ensures that a position is only matched if it can accommodate the employee
-     * for the ENTIRE requested period, not just part of it.
-     *
-     * @param positionsForObjectId all position/assignment rows sharing the same objectId
-     * @param startDate            the search period start date (inclusive)
-     * @param endDate              the search period end date (inclusive)
-     * @return availability info containing the minimum available percentage and maximum
-     *         concurrent assignment count during the period
-     */
-    private AvailabilityInfo calculateMinAvailabilityInPeriod(
-            List<Position> positionsForObjectId,
-            LocalDate startDate,
-            LocalDate endDate
-    ) {
-        // Collect all assignments (rows with personnel number, excluding placeholders)
-        List<Position> assignments = positionsForObjectId.stream()
-                .filter(p -> p.getPersonnelNumber() != null
-                        && !p.getPersonnelNumber().isEmpty()
-                        && !p.getPersonnelNumber().equals("00000000"))
-                .toList();
-
-        if (assignments.isEmpty()) {
-            // No assignments = 100% available for the entire period
-            return new AvailabilityInfo(BigDecimal.valueOf(100), 0);
-        }
-
-        // Collect all boundary dates within the search period
-        TreeSet<LocalDate> boundaries = new TreeSet<>();
-        boundaries.add(startDate);
-        boundaries.add(endDate);
-
-        for (Position a : assignments) {
-            LocalDate aStart = a.getStartDate() != null ? a.getStartDate() : LocalDate.MIN;
-            LocalDate aEnd = a.getEndDate() != null ? a.getEndDate() : LocalDate.MAX;
-
-            // Add boundary if within search period
-            if (!aStart.isBefore(startDate) && !aStart.isAfter(endDate)) {
-                boundaries.add(aStart);
-            }
-            if (!aEnd.isBefore(startDate) && !aEnd.isAfter(endDate)) {
-                boundaries.add(aEnd);
-            }
-            // Also add day after end date as a boundary (when availability changes)
-            if (!aEnd.equals(LocalDate.MAX)) {
-                LocalDate dayAfterEnd = aEnd.plusDays(1);
-                if (!dayAfterEnd.isBefore(startDate) && !dayAfterEnd.isAfter(endDate)) {
-                    boundaries.add(dayAfterEnd);
-                }
-            }
-        }
-
-        // For each time slice, calculate assigned percentage and track the MINIMUM availability
-        BigDecimal minAvailable = BigDecimal.valueOf(100);
-        int maxAssignmentCount = 0;
-
-        List<LocalDate> boundaryList = new ArrayList<>(boundaries);
-        for (int i = 0; i < boundaryList.size() - 1; i++) {
-            LocalDate sliceStart = boundaryList.get(i);
-
-            // Use slice start date for checking which assignments are active
-            LocalDate checkDate = sliceStart;
-
-            // Sum assigned percentage for this slice
-            BigDecimal assignedSum = BigDecimal.ZERO;
-            int assignmentCount = 0;
-            for (Position a : assignments) {
-                LocalDate aStart = a.getStartDate() != null ? a.getStartDate() : LocalDate.MIN;
-                LocalDate aEnd = a.getEndDate() != null ? a.getEndDate() : LocalDate.MAX;
-
-                if (!aStart.isAfter(checkDate) && !aEnd.isBefore(checkDate)) {
-                    assignedSum = assignedSum.add(a.getPercentage() != null ? a.getPercentage() : BigDecimal.ZERO);
-                    assignmentCount++;
-                }
-            }
-
-            BigDecimal available = BigDecimal.valueOf(100).subtract(assignedSum);
-            if (available.compareTo(BigDecimal.ZERO) < 0) {
-                available = BigDecimal.ZERO;
-            }
-
-            // Track minimum availability (worst case across the period)
-            if (available.compareTo(minAvailable) < 0) {
-                minAvailable = available;
-            }
-            if (assignmentCount > maxAssignmentCount) {
-                maxAssignmentCount = assignmentCount;
+        List<SplitSuggestionDTO> suggestions = new ArrayList<>(maxResults);
+        List<int[]> combinations = splitSuggestionSolver.findTopCombinations(
+                availableBasisPoints, targetBasisPoints, n, maxResults, positionFinderMetrics::recordSplitCombinations);
+        for (int[] combination : combinations) {
+            List<PositionMatchDTO> matches = new ArrayList<>(combination.length);
+            for (int index : combination) {
+                matches.add(positions.get(index));
             }
+            suggestions.add(SplitSuggestionDTO.fromMatches(matches));
         }
-
-        return new AvailabilityInfo(minAvailable, maxAssignmentCount);
+        return suggestions;
     }
 }
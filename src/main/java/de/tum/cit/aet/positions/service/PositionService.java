@@ -1,27 +1,45 @@
 package de.tum.cit.aet.positions.service;
 
+import de.tum.cit.aet.core.config.StaffPlanProperties;
 import de.tum.cit.aet.positions.domain.Position;
 import de.tum.cit.aet.positions.dto.PositionDTO;
+import de.tum.cit.aet.positions.dto.PositionImportResultDTO;
+import de.tum.cit.aet.positions.repository.PositionBatchWriter;
 import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.positions.service.snapshot.PositionDataVersion;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshotService;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
-import de.tum.cit.aet.util.CsvParser;
+import de.tum.cit.aet.util.CsvChunkReader;
+import de.tum.cit.aet.util.CsvTokenizer;
+import de.tum.cit.aet.util.DateDecoder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -29,15 +47,34 @@ import java.util.UUID;
 public class PositionService {
 
     private final PositionRepository positionRepository;
+    private final PositionBatchWriter positionBatchWriter;
+    private final PositionDataVersion positionDataVersion;
+    private final PositionSnapshotService positionSnapshotService;
+    private final TransactionTemplate transactionTemplate;
+    private final StaffPlanProperties staffPlanProperties;
+
+    // Positions parsed before they are written with one JDBC batch; bounds the memory used by an import
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+
+    // Upper bound on the line errors reported in the import result; all errors are logged
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    // Parsing threads shared by all parallel imports, so that concurrent uploads cannot start more of them
+    private ThreadPoolExecutor importWorkers;
+
+    @PostConstruct
+    void startImportWorkers() {
+        int parallelism = staffPlanProperties.getPositionImport().getEffectiveParallelism();
+        importWorkers = new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("position-import-", 0).factory());
+        // Idle threads are released between imports
+        importWorkers.allowCoreThreadTimeOut(true);
+    }
 
-    private static final DateTimeFormatter[] DATE_FORMATTERS = {
-            DateTimeFormatter.ofPattern("M/d/yy"),      // US short: 7/16/21
-            DateTimeFormatter.ofPattern("M/d/yyyy"),    // US: 7/16/2021
-            DateTimeFormatter.ofPattern("MM/dd/yy"),    // US short padded: 07/16/21
-            DateTimeFormatter.ofPattern("MM/dd/yyyy"),  // US padded: 07/16/2021
-            DateTimeFormatter.ofPattern("dd.MM.yyyy"),  // German: 16.07.2021
-            DateTimeFormatter.ofPattern("yyyy-MM-dd"),  // ISO: 2021-07-16
-    };
+    @PreDestroy
+    void stopImportWorkers() {
+        importWorkers.shutdownNow();
+    }
 
     public List<PositionDTO> getAllPositions() {
         return positionRepository.findAllWithResearchGroup()
@@ -53,64 +90,334 @@ public class PositionService {
                 .toList();
     }
 
-    public int importFromCsv(MultipartFile file, ResearchGroup researchGroup) throws IOException {
-        List<Position> positions = parseCsvFile(file, researchGroup);
-        positionRepository.saveAll(positions);
-        log.info("Imported {} positions from CSV", positions.size());
-        return positions.size();
+    /**
+     * Imports positions from a CSV file.
+     * <p>
+     * The file is streamed and written in chunks of {@value #IMPORT_CHUNK_SIZE} positions with JDBC batch inserts,
+     * so the memory used does not grow with the size of the file. All chunks are written in one transaction.
+     * Files of at least {@code staffplan.position-import.parallel-threshold} are split into chunks of whole records
+     * that are parsed on a worker pool, while the calling thread writes the parsed chunks in file order. Lines that
+     * cannot be parsed are skipped and reported with their line number in the file.
+     *
+     * @param file          the CSV file
+     * @param researchGroup the research group of the imported positions, or null
+     * @return the number of imported positions and skipped lines, the line errors and the import rate
+     * @throws IOException if the file cannot be read
+     */
+    public PositionImportResultDTO importFromCsv(MultipartFile file, ResearchGroup researchGroup) throws IOException {
+        long start = System.nanoTime();
+        boolean parallel = isParallel(file);
+        ImportProgress progress = inTransaction(() -> parse(file, researchGroup, parallel, false,
+                positions -> inBatches(positions, positionBatchWriter::insert)));
+
+        // The batch inserts bypass the entity listener
+        positionDataVersion.increment();
+        positionSnapshotService.refresh();
+
+        PositionImportResultDTO result = PositionImportResultDTO.of(progress.imported, progress.skipped,
+                progress.errors, System.nanoTime() - start);
+        log.info("Imported {} positions from CSV ({}, {} lines skipped) in {} ms ({} rows/s)", result.importedCount(),
+                parallel ? "parallel" : "sequential", result.skippedLines(), result.durationMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    /**
+     * Replaces the stored positions with the positions of a CSV file, writing only the rows that differ.
+     * <p>
+     * Rows are matched by object ID, personnel number and start date, and compared by the content hash stored with
+     * every imported position. Uploaded rows without a stored match are inserted, matched rows with another hash
+     * are updated and stored rows missing from the upload are deleted; unchanged rows are not written. Updated
+     * positions keep their research group, new positions get the given one. The file is parsed like in
+     * {@link #importFromCsv}, and all writes happen in one transaction, so readers never see a partial refresh.
+     * <p>
+     * Since a missing row deletes its position, the file must be complete: lines without an object ID or with an
+     * invalid start date are errors, and if any line has an error or the file has no positions at all, nothing is
+     * written and the import is rejected.
+     *
+     * @param file          the CSV file with all positions
+     * @param researchGroup the research group of inserted positions, or null
+     * @return the number of imported positions and skipped lines, the inserted, updated, deleted and unchanged
+     * positions, the line errors and the import rate; or the rejected import with its line errors
+     * @throws IOException if the file cannot be read
+     */
+    public PositionImportResultDTO importDeltaFromCsv(MultipartFile file, ResearchGroup researchGroup) throws IOException {
+        long start = System.nanoTime();
+        boolean parallel = isParallel(file);
+        DeltaProgress delta = inTransaction(() -> {
+            PositionDelta positionDelta = new PositionDelta(positionBatchWriter.findImportKeys());
+            ImportProgress progress = parse(file, researchGroup, parallel, true, positions -> positions.forEach(positionDelta::add));
+            if (progress.skipped > 0 || progress.imported == 0) {
+                // Nothing has been written yet
+                return new DeltaProgress(progress, null);
+            }
+            PositionDelta.Changes changes = positionDelta.changes();
+            inBatches(changes.deletes(), positionBatchWriter::delete);
+            inBatches(changes.updates(), positionBatchWriter::update);
+            inBatches(changes.inserts(), positionBatchWriter::insert);
+            return new DeltaProgress(progress, changes);
+        });
+
+        ImportProgress progress = delta.progress();
+        PositionDelta.Changes changes = delta.changes();
+        if (changes == null) {
+            log.warn("Rejected delta import of {} positions from CSV: {} lines skipped", progress.imported, progress.skipped);
+            return PositionImportResultDTO.rejected(progress.imported, progress.skipped, progress.errors, System.nanoTime() - start);
+        }
+        if (!changes.inserts().isEmpty() || !changes.updates().isEmpty() || !changes.deletes().isEmpty()) {
+            // The batch writes bypass the entity listener
+            positionDataVersion.increment();
+            positionSnapshotService.refresh();
+        }
+
+        PositionImportResultDTO result = PositionImportResultDTO.ofDelta(progress.imported, progress.skipped,
+                changes.inserts().size(), changes.updates().size(), changes.deletes().size(), changes.unchanged(),
+                progress.errors, System.nanoTime() - start);
+        log.info("Delta imported {} positions from CSV ({}, {} lines skipped): {} inserted, {} updated, {} deleted, {} unchanged in {} ms",
+                result.importedCount(), parallel ? "parallel" : "sequential", result.skippedLines(), result.insertedCount(),
+                result.updatedCount(), result.deletedCount(), result.unchangedCount(), result.durationMillis());
+        return result;
     }
 
     public void deleteByResearchGroup(UUID researchGroupId) {
         positionRepository.deleteByResearchGroupId(researchGroupId);
+        positionSnapshotService.refresh();
         log.info("Deleted positions for research group {}", researchGroupId);
     }
 
     public void deleteAll() {
         positionRepository.deleteAll();
+        positionSnapshotService.refresh();
         log.info("Deleted all positions");
     }
 
-    private List<Position> parseCsvFile(MultipartFile file, ResearchGroup researchGroup) throws IOException {
-        List<Position> positions = new ArrayList<>();
+    /**
+     * The positions parsed from a part of the file, and the errors of the records that could not be parsed.
+     */
+    private record ParsedChunk(List<Position> positions, List<String> errors) {
+    }
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+    /**
+     * The parsed positions and reported errors of an import; only used by the writing thread.
+     */
+    private static final class ImportProgress {
+        private int imported;
+        private int skipped;
+        private final List<String> errors = new ArrayList<>();
+    }
 
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                return positions;
-            }
+    /**
+     * The result of parsing and writing a delta import; the changes are null if the import was rejected.
+     */
+    private record DeltaProgress(ImportProgress progress, PositionDelta.Changes changes) {
+    }
 
-            headerLine = CsvParser.stripBom(headerLine);
+    /**
+     * An import step that may fail reading the file.
+     */
+    @FunctionalInterface
+    private interface ImportStep<T> {
+        T run() throws IOException;
+    }
 
-            char delimiter = CsvParser.detectDelimiter(headerLine);
-            log.info("Detected CSV delimiter: '{}'", delimiter == '\t' ? "TAB" : String.valueOf(delimiter));
+    /**
+     * Runs an import step in one transaction, rethrowing I/O errors of the file unwrapped.
+     */
+    private <T> T inTransaction(ImportStep<T> step) throws IOException {
+        try {
+            return transactionTemplate.execute(status -> {
+                try {
+                    return step.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
-            String[] headers = CsvParser.parseLine(headerLine, delimiter);
-            log.info("Found {} CSV headers: {}", headers.length, String.join(", ", headers));
+    private boolean isParallel(MultipartFile file) {
+        return file.getSize() >= staffPlanProperties.getPositionImport().getParallelThreshold().toBytes();
+    }
 
-            int[] columnIndices = mapColumnIndices(headers);
-            log.info("Column mapping - objectDescription: {}, status: {}, percentage: {}, startDate: {}, endDate: {}",
-                    columnIndices[4], columnIndices[2], columnIndices[10], columnIndices[11], columnIndices[12]);
+    /**
+     * Parses the CSV file and passes the parsed positions to the sink in file order, in lists of at most one chunk.
+     * If {@code requireKey} is set, lines without a complete key are errors (see {@link #parseRecord}).
+     */
+    private ImportProgress parse(MultipartFile file, ResearchGroup researchGroup, boolean parallel, boolean requireKey,
+                                 Consumer<List<Position>> sink) throws IOException {
+        return parallel
+                ? parseInParallel(file, researchGroup, requireKey, sink)
+                : parseSequentially(file, researchGroup, requireKey, sink);
+    }
 
-            String line;
-            int lineNum = 1;
-            while ((line = reader.readLine()) != null) {
-                lineNum++;
-                if (line.trim().isEmpty()) {
-                    continue;
+    /**
+     * Parses the CSV file record by record on the calling thread and passes the positions to the sink in chunks.
+     */
+    private ImportProgress parseSequentially(MultipartFile file, ResearchGroup researchGroup, boolean requireKey,
+                                             Consumer<List<Position>> sink) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            CsvTokenizer tokenizer = CsvTokenizer.open(reader);
+            if (!tokenizer.nextRecord()) {
+                return progress;
+            }
+            int[] columnIndices = readHeader(tokenizer);
+
+            DateDecoder dateDecoder = new DateDecoder();
+            ParsedChunk chunk = new ParsedChunk(new ArrayList<>(IMPORT_CHUNK_SIZE), new ArrayList<>());
+            while (tokenizer.nextRecord()) {
+                parseRecord(tokenizer, columnIndices, researchGroup, requireKey, dateDecoder, chunk);
+                if (chunk.positions().size() == IMPORT_CHUNK_SIZE) {
+                    accept(chunk, progress, sink);
+                    chunk.positions().clear();
+                    chunk.errors().clear();
                 }
+            }
+            accept(chunk, progress, sink);
+        }
+        return progress;
+    }
 
-                try {
-                    Position position = parsePositionFromLine(line, columnIndices, researchGroup, delimiter);
-                    positions.add(position);
-                } catch (Exception e) {
-                    log.warn("Failed to parse CSV line {}: {}. Error: {}", lineNum, line.substring(0, Math.min(100, line.length())), e.getMessage());
+    /**
+     * Splits the CSV file into chunks of whole records, parses them on the shared import worker pool and passes
+     * the parsed chunks to the sink on the calling thread, which holds the transaction, in file order. At most two
+     * chunks per worker are in flight, which bounds the memory used.
+     */
+    private ImportProgress parseInParallel(MultipartFile file, ResearchGroup researchGroup, boolean requireKey,
+                                           Consumer<List<Position>> sink) throws IOException {
+        StaffPlanProperties.PositionImport config = staffPlanProperties.getPositionImport();
+        int parallelism = config.getEffectiveParallelism();
+        int chunkLength = Math.toIntExact(config.getChunkSize().toBytes());
+
+        ImportProgress progress = new ImportProgress();
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            CsvChunkReader chunks = new CsvChunkReader(reader);
+            CsvChunkReader.Chunk headerChunk = chunks.next(1);
+            if (headerChunk == null) {
+                return progress;
+            }
+            CsvTokenizer header = CsvTokenizer.open(headerChunk.reader());
+            if (!header.nextRecord()) {
+                return progress;
+            }
+            char delimiter = header.delimiter();
+            int[] columnIndices = readHeader(header);
+            // Records after the header in the same chunk, e.g. in files with carriage returns only
+            accept(parseChunk(header, columnIndices, researchGroup, requireKey), progress, sink);
+
+            CsvChunkReader.Chunk chunk;
+            while ((chunk = chunks.next(chunkLength)) != null) {
+                if (inFlight.size() == 2 * parallelism) {
+                    accept(await(inFlight.removeFirst()), progress, sink);
                 }
+                CsvChunkReader.Chunk records = chunk;
+                inFlight.addLast(importWorkers.submit(() -> parseChunk(
+                        CsvTokenizer.of(records.reader(), delimiter, records.firstLineNumber()), columnIndices, researchGroup, requireKey)));
             }
+            while (!inFlight.isEmpty()) {
+                accept(await(inFlight.removeFirst()), progress, sink);
+            }
+        } finally {
+            // Chunks of a failed import are not needed anymore
+            inFlight.forEach(future -> future.cancel(true));
         }
+        return progress;
+    }
 
-        return positions;
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Position import was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to parse positions", e.getCause());
+        }
+    }
+
+    /**
+     * Writes the items in JDBC batches of at most {@value #IMPORT_CHUNK_SIZE}.
+     */
+    private static <T> void inBatches(List<T> items, Consumer<List<T>> writer) {
+        for (int from = 0; from < items.size(); from += IMPORT_CHUNK_SIZE) {
+            writer.accept(items.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, items.size())));
+        }
+    }
+
+    /**
+     * Passes the positions of a parsed chunk to the sink and records its errors.
+     */
+    private static void accept(ParsedChunk chunk, ImportProgress progress, Consumer<List<Position>> sink) {
+        List<Position> positions = chunk.positions();
+        sink.accept(positions);
+        progress.imported += positions.size();
+        progress.skipped += chunk.errors().size();
+        for (String error : chunk.errors()) {
+            if (progress.errors.size() == MAX_REPORTED_ERRORS) {
+                break;
+            }
+            progress.errors.add(error);
+        }
+    }
+
+    private int[] readHeader(CsvTokenizer tokenizer) {
+        char delimiter = tokenizer.delimiter();
+        log.info("Detected CSV delimiter: '{}'", delimiter == '\t' ? "TAB" : String.valueOf(delimiter));
+
+        String[] headers = tokenizer.values();
+        log.info("Found {} CSV headers: {}", headers.length, String.join(", ", headers));
+
+        int[] columnIndices = mapColumnIndices(headers);
+        log.info("Column mapping - objectDescription: {}, status: {}, percentage: {}, startDate: {}, endDate: {}",
+                columnIndices[4], columnIndices[2], columnIndices[10], columnIndices[11], columnIndices[12]);
+        return columnIndices;
+    }
+
+    /**
+     * Parses the remaining records of a tokenizer; runs on the worker threads of a parallel import.
+     */
+    private ParsedChunk parseChunk(CsvTokenizer tokenizer, int[] columnIndices, ResearchGroup researchGroup,
+                                   boolean requireKey) throws IOException {
+        // Decoders are not thread-safe, and detecting the date format again per chunk is cheap
+        DateDecoder dateDecoder = new DateDecoder();
+        ParsedChunk chunk = new ParsedChunk(new ArrayList<>(), new ArrayList<>());
+        while (tokenizer.nextRecord()) {
+            parseRecord(tokenizer, columnIndices, researchGroup, requireKey, dateDecoder, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses the current record into the chunk, or records its error. If {@code requireKey} is set, a record
+     * without an object ID or with a start date that cannot be decoded is an error, since its key would not match
+     * the stored row of the same position.
+     */
+    private void parseRecord(CsvTokenizer tokenizer, int[] columnIndices, ResearchGroup researchGroup, boolean requireKey,
+                             DateDecoder dateDecoder, ParsedChunk chunk) {
+        if (tokenizer.isEmptyRecord()) {
+            return;
+        }
+        try {
+            Position position = parsePosition(tokenizer, columnIndices, researchGroup, dateDecoder);
+            if (requireKey && position.getObjectId() == null) {
+                throw new IllegalArgumentException("Missing object ID");
+            }
+            if (requireKey && position.getStartDate() == null && tokenizer.value(columnIndices[11]) != null) {
+                throw new IllegalArgumentException("Invalid start date: " + tokenizer.value(columnIndices[11]));
+            }
+            chunk.positions().add(position);
+        } catch (Exception e) {
+            log.warn("Failed to parse CSV line {}: {}. Error: {}", tokenizer.lineNumber(), tokenizer.preview(100), e.getMessage());
+            chunk.errors().add("Line " + tokenizer.lineNumber() + ": " + e.getMessage());
+        }
     }
 
     private int[] mapColumnIndices(String[] headers) {
@@ -179,43 +486,38 @@ public class PositionService {
         return indices;
     }
 
-    private Position parsePositionFromLine(String line, int[] columnIndices, ResearchGroup researchGroup, char delimiter) {
-        String[] values = CsvParser.parseLine(line, delimiter);
+    /**
+     * Creates a position from the current record; only the mapped columns are materialized.
+     */
+    private Position parsePosition(CsvTokenizer record, int[] columnIndices, ResearchGroup researchGroup, DateDecoder dateDecoder) {
         Position position = new Position();
 
-        position.setPositionRelevanceType(getValueOrNull(values, columnIndices[0]));
-        position.setObjectId(getValueOrNull(values, columnIndices[1]));
-        position.setStatus(getValueOrNull(values, columnIndices[2]));
-        position.setObjectCode(getValueOrNull(values, columnIndices[3]));
-        position.setObjectDescription(getValueOrNull(values, columnIndices[4]));
-        position.setPositionValue(parseDecimal(getValueOrNull(values, columnIndices[5])));
-        position.setDepartmentId(getValueOrNull(values, columnIndices[6]));
-        position.setOrganizationUnit(getValueOrNull(values, columnIndices[7]));
-        position.setTariffGroup(getValueOrNull(values, columnIndices[8]));
-        position.setBaseGrade(getValueOrNull(values, columnIndices[9]));
-        position.setPercentage(parseDecimal(getValueOrNull(values, columnIndices[10])));
-        position.setStartDate(parseDate(getValueOrNull(values, columnIndices[11])));
-        position.setEndDate(parseDate(getValueOrNull(values, columnIndices[12])));
-        position.setFund(getValueOrNull(values, columnIndices[13]));
-        position.setDepartmentId2(getValueOrNull(values, columnIndices[14]));
-        position.setPersonnelNumber(getValueOrNull(values, columnIndices[15]));
-        position.setEmployeeGroup(getValueOrNull(values, columnIndices[16]));
-        position.setEmployeeCircle(getValueOrNull(values, columnIndices[17]));
-        position.setEntryDate(parseDate(getValueOrNull(values, columnIndices[18])));
-        position.setExpectedExitDate(parseDate(getValueOrNull(values, columnIndices[19])));
+        position.setPositionRelevanceType(record.value(columnIndices[0]));
+        position.setObjectId(record.value(columnIndices[1]));
+        position.setStatus(record.value(columnIndices[2]));
+        position.setObjectCode(record.value(columnIndices[3]));
+        position.setObjectDescription(record.value(columnIndices[4]));
+        position.setPositionValue(parseDecimal(record.value(columnIndices[5])));
+        position.setDepartmentId(record.value(columnIndices[6]));
+        position.setOrganizationUnit(record.value(columnIndices[7]));
+        position.setTariffGroup(record.value(columnIndices[8]));
+        position.setBaseGrade(record.value(columnIndices[9]));
+        position.setPercentage(parseDecimal(record.value(columnIndices[10])));
+        position.setStartDate(parseDate(record.value(columnIndices[11]), dateDecoder));
+        position.setEndDate(parseDate(record.value(columnIndices[12]), dateDecoder));
+        position.setFund(record.value(columnIndices[13]));
+        position.setDepartmentId2(record.value(columnIndices[14]));
+        position.setPersonnelNumber(record.value(columnIndices[15]));
+        position.setEmployeeGroup(record.value(columnIndices[16]));
+        position.setEmployeeCircle(record.value(columnIndices[17]));
+        position.setEntryDate(parseDate(record.value(columnIndices[18]), dateDecoder));
+        position.setExpectedExitDate(parseDate(record.value(columnIndices[19]), dateDecoder));
         position.setResearchGroup(researchGroup);
+        position.setContentHash(PositionContentHash.of(position));
 
         return position;
     }
 
-    private String getValueOrNull(String[] values, int index) {
-        if (index < 0 || index >= values.length) {
-            return null;
-        }
-        String value = values[index].trim();
-        return value.isEmpty() ? null : value;
-    }
-
     private BigDecimal parseDecimal(String value) {
         if (value == null || value.isEmpty()) {
             return null;
@@ -228,26 +530,11 @@ public class PositionService {
         }
     }
 
-    private LocalDate parseDate(String value) {
-        if (value == null || value.isEmpty()) {
-            return null;
-        }
-
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
-            try {
-                LocalDate date = LocalDate.parse(value, formatter);
-                // Handle 2-digit years: 00-30 -> 2000-2030, 31-99 -> 1931-1999
-                if (date.getYear() < 100) {
-                    int year = date.getYear();
-                    date = date.withYear(year <= 30 ? 2000 + year : 1900 + year);
-                }
-                return date;
-            } catch (DateTimeParseException ignored) {
-                // Try next formatter
-            }
+    private LocalDate parseDate(String value, DateDecoder dateDecoder) {
+        LocalDate date = dateDecoder.decode(value);
+        if (date == null && value != null) {
+            log.warn("Could not parse date: {}", value);
         }
-
-        log.warn("Could not parse date: {}", value);
-        return null;
+        return date;
     }
 }
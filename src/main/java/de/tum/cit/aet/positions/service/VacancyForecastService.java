@@ -0,0 +1,183 @@
+package de.tum.cit.aet.positions.service;
+
+import de.tum.cit.aet.positions.dto.VacancyDTO;
+import de.tum.cit.aet.positions.dto.VacancyForecastDTO;
+import de.tum.cit.aet.positions.dto.VacancyGradeDTO;
+import de.tum.cit.aet.positions.dto.VacancyMonthDTO;
+import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.positions.repository.PositionVacancyView;
+import de.tum.cit.aet.positions.service.availability.AssignmentInterval;
+import de.tum.cit.aet.positions.service.availability.AssignmentIntervals;
+import de.tum.cit.aet.positions.service.availability.AvailabilityCalculator;
+import de.tum.cit.aet.positions.service.availability.VacancyTimeline;
+import de.tum.cit.aet.util.FixedPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Forecasts which positions free up within a horizon, e.g. for professors planning their next hires.
+ * <p>
+ * The free percentage of a position can only rise when one of its assignments ends, so the forecast loads the
+ * rows of the positions with a row ending within the horizon (one indexed query, see
+ * {@link PositionRepository#findVacancyViews}) and sweeps each position's {@link VacancyTimeline} over the
+ * horizon. Every day on which the free percentage rises is reported as a vacancy. The work grows with the
+ * number of positions changing within the horizon, not with the size of the positions table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VacancyForecastService {
+
+    /**
+     * The longest supported horizon in months.
+     */
+    public static final int MAX_HORIZON_MONTHS = 36;
+
+    private final PositionRepository positionRepository;
+
+    /**
+     * Returns the positions whose free percentage rises within the horizon, grouped by month and grade.
+     *
+     * @param from            the first day of the horizon
+     * @param months          the length of the horizon in months (1 to {@link #MAX_HORIZON_MONTHS})
+     * @param researchGroupId optional research group filter: only positions with a row of the group ending within
+     *                        the horizon, reported as vacancies of that group
+     * @return the forecast
+     * @throws IllegalArgumentException if the horizon is invalid
+     */
+    public VacancyForecastDTO forecast(LocalDate from, int months, UUID researchGroupId) {
+        LocalDate until = horizonEnd(from, months);
+
+        // A vacancy on day d means an assignment ended on d - 1
+        List<PositionVacancyView> rows = positionRepository.findVacancyViews(from.minusDays(1), until.minusDays(1), researchGroupId);
+
+        List<VacancyDTO> vacancies = new ArrayList<>();
+        int start = 0;
+        while (start < rows.size()) {
+            // Rows are ordered by objectId, so the rows of one position are consecutive
+            int end = start + 1;
+            while (end < rows.size() && rows.get(end).objectId().equals(rows.get(start).objectId())) {
+                end++;
+            }
+            addVacancies(rows.subList(start, end), researchGroupId, from.toEpochDay(), until.toEpochDay(), vacancies);
+            start = end;
+        }
+
+        log.info("Vacancy forecast {} to {}: {} vacancies from {} rows", from, until, vacancies.size(), rows.size());
+        return group(from, until, vacancies);
+    }
+
+    /**
+     * Returns a forecast without vacancies, e.g. for users who cannot see any position.
+     *
+     * @param from   the first day of the horizon
+     * @param months the length of the horizon in months (1 to {@link #MAX_HORIZON_MONTHS})
+     * @return the empty forecast
+     * @throws IllegalArgumentException if the horizon is invalid
+     */
+    public VacancyForecastDTO emptyForecast(LocalDate from, int months) {
+        return VacancyForecastDTO.empty(from, horizonEnd(from, months));
+    }
+
+    private static LocalDate horizonEnd(LocalDate from, int months) {
+        if (from == null) {
+            throw new IllegalArgumentException("Start date is required");
+        }
+        if (months < 1 || months > MAX_HORIZON_MONTHS) {
+            throw new IllegalArgumentException("Months must be between 1 and " + MAX_HORIZON_MONTHS);
+        }
+        return from.plusMonths(months);
+    }
+
+    /**
+     * Sweeps the timeline of one position over the horizon and adds a vacancy for every rise of its free
+     * percentage. The vacancies are reported for the filtered research group, if any, and otherwise for the group
+     * of the representative row.
+     */
+    private static void addVacancies(List<PositionVacancyView> rows, UUID researchGroupId, long fromDay, long untilDay,
+                                     List<VacancyDTO> vacancies) {
+        List<AssignmentInterval> intervals = new ArrayList<>();
+        for (PositionVacancyView row : rows) {
+            if (AvailabilityCalculator.isAssignment(row.personnelNumber())) {
+                intervals.add(AssignmentInterval.of(row.startDate(), row.endDate(), row.percentage()));
+            }
+        }
+        VacancyTimeline timeline = VacancyTimeline.of(AssignmentIntervals.of(intervals));
+
+        // The first row in grade order represents the position, like in the position finder
+        PositionVacancyView representative = rows.getFirst();
+        String grade = representative.normalizedGrade() != null ? representative.normalizedGrade() : representative.tariffGroup();
+        Long monthlyCents = representative.monthlyValue() != null ? FixedPoint.toCents(representative.monthlyValue()) : null;
+        UUID vacancyGroupId = researchGroupId != null ? researchGroupId : representative.researchGroupId();
+
+        for (long day = timeline.nextChangeAfter(fromDay - 1); day < untilDay; day = timeline.nextChangeAfter(day)) {
+            long before = timeline.freeBasisPointsOn(day - 1);
+            long after = timeline.freeBasisPointsOn(day);
+            if (after > before) {
+                vacancies.add(new VacancyDTO(
+                        representative.objectId(),
+                        grade,
+                        vacancyGroupId,
+                        LocalDate.ofEpochDay(day),
+                        FixedPoint.toPercentage(before),
+                        FixedPoint.toPercentage(after),
+                        monthlyCents != null ? FixedPoint.toAmount(FixedPoint.prorate(monthlyCents, after - before)) : null
+                ));
+            }
+        }
+    }
+
+    /**
+     * Groups the vacancies by month and grade and sums up the freed percentages and budgets.
+     */
+    private static VacancyForecastDTO group(LocalDate from, LocalDate until, List<VacancyDTO> vacancies) {
+        Map<YearMonth, Map<String, List<VacancyDTO>>> byMonthAndGrade = new TreeMap<>();
+        for (VacancyDTO vacancy : vacancies) {
+            String grade = vacancy.grade() != null ? vacancy.grade() : "";
+            byMonthAndGrade.computeIfAbsent(YearMonth.from(vacancy.vacantFrom()), k -> new TreeMap<>())
+                    .computeIfAbsent(grade, k -> new ArrayList<>())
+                    .add(vacancy);
+        }
+
+        List<VacancyMonthDTO> months = new ArrayList<>(byMonthAndGrade.size());
+        long totalCents = 0;
+        for (Map.Entry<YearMonth, Map<String, List<VacancyDTO>>> month : byMonthAndGrade.entrySet()) {
+            List<VacancyGradeDTO> grades = new ArrayList<>(month.getValue().size());
+            long monthCents = 0;
+            for (Map.Entry<String, List<VacancyDTO>> grade : month.getValue().entrySet()) {
+                List<VacancyDTO> gradeVacancies = grade.getValue();
+                gradeVacancies.sort(Comparator.comparing(VacancyDTO::vacantFrom).thenComparing(VacancyDTO::objectId));
+
+                Set<String> objectIds = new HashSet<>();
+                long freedBasisPoints = 0;
+                long freedCents = 0;
+                for (VacancyDTO vacancy : gradeVacancies) {
+                    objectIds.add(vacancy.objectId());
+                    freedBasisPoints += FixedPoint.toBasisPoints(vacancy.freePercentageAfter())
+                            - FixedPoint.toBasisPoints(vacancy.freePercentageBefore());
+                    if (vacancy.freedMonthlyBudget() != null) {
+                        freedCents += FixedPoint.toCents(vacancy.freedMonthlyBudget());
+                    }
+                }
+                grades.add(new VacancyGradeDTO(grade.getKey(), objectIds.size(), FixedPoint.toPercentage(freedBasisPoints),
+                        FixedPoint.toAmount(freedCents), List.copyOf(gradeVacancies)));
+                monthCents += freedCents;
+            }
+            months.add(new VacancyMonthDTO(month.getKey().toString(), FixedPoint.toAmount(monthCents), grades));
+            totalCents += monthCents;
+        }
+        return new VacancyForecastDTO(from, until, vacancies.size(), FixedPoint.toAmount(totalCents), months);
+    }
+}
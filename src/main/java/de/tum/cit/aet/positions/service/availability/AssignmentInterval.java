@@ -0,0 +1,44 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.util.FixedPoint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A single assignment on a position, expressed as a half-open interval of epoch days.
+ *
+ * @param startDay           the first day on which the assignment is active ({@link Long#MIN_VALUE} if open-ended)
+ * @param endDayExclusive    the first day on which the assignment is no longer active
+ *                           ({@link Long#MAX_VALUE} if open-ended)
+ * @param basisPoints        the assigned percentage in basis points (0-10,000)
+ */
+public record AssignmentInterval(long startDay, long endDayExclusive, long basisPoints) {
+
+    /**
+     * Creates an interval from assignment dates as stored on a position row.
+     *
+     * @param startDate  the assignment start date (inclusive), or null if open-ended
+     * @param endDate    the assignment end date (inclusive), or null if open-ended
+     * @param percentage the assigned percentage, or null (treated as 0)
+     * @return the assignment interval
+     */
+    public static AssignmentInterval of(LocalDate startDate, LocalDate endDate, BigDecimal percentage) {
+        return new AssignmentInterval(
+                startDate != null ? startDate.toEpochDay() : Long.MIN_VALUE,
+                endDate != null ? endDate.toEpochDay() + 1 : Long.MAX_VALUE,
+                FixedPoint.toBasisPoints(percentage)
+        );
+    }
+
+    /**
+     * Checks whether the assignment is active on at least one day of the given period.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the first day after the period
+     * @return true if the assignment overlaps the period
+     */
+    boolean overlaps(long periodStart, long periodEnd) {
+        return startDay < endDayExclusive && startDay < periodEnd && endDayExclusive > periodStart;
+    }
+}
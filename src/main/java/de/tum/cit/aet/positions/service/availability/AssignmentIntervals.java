@@ -0,0 +1,99 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Immutable set of assignment intervals of one position, pre-sorted by start day and by end day.
+ * <p>
+ * Keeping both orderings allows the {@link AvailabilityCalculator} to sweep the start and end events
+ * with a linear merge instead of sorting them again for every search. Intervals that are queried by many
+ * searches can additionally carry a {@link VacancyTimeline} (see {@link #withTimeline()}), which answers
+ * availability queries without the sweep.
+ */
+public final class AssignmentIntervals {
+
+    /**
+     * Intervals of a position without any assignment.
+     */
+    public static final AssignmentIntervals EMPTY =
+            new AssignmentIntervals(new AssignmentInterval[0], new AssignmentInterval[0], VacancyTimeline.EMPTY);
+
+    private final AssignmentInterval[] byStart;
+    private final AssignmentInterval[] byEnd;
+    // Null unless built with withTimeline()
+    private final VacancyTimeline timeline;
+
+    private AssignmentIntervals(AssignmentInterval[] byStart, AssignmentInterval[] byEnd, VacancyTimeline timeline) {
+        this.byStart = byStart;
+        this.byEnd = byEnd;
+        this.timeline = timeline;
+    }
+
+    /**
+     * Creates a sorted interval set from the given intervals.
+     *
+     * @param intervals the assignment intervals of one position
+     * @return the sorted interval set
+     */
+    public static AssignmentIntervals of(Collection<AssignmentInterval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        AssignmentInterval[] byStart = intervals.toArray(new AssignmentInterval[0]);
+        AssignmentInterval[] byEnd = byStart.clone();
+        Arrays.sort(byStart, Comparator.comparingLong(AssignmentInterval::startDay));
+        Arrays.sort(byEnd, Comparator.comparingLong(AssignmentInterval::endDayExclusive));
+        return new AssignmentIntervals(byStart, byEnd, null);
+    }
+
+    /**
+     * Returns these intervals together with their vacancy timeline, building the timeline if necessary.
+     *
+     * @return intervals with a timeline
+     */
+    public AssignmentIntervals withTimeline() {
+        return timeline != null ? this : new AssignmentIntervals(byStart, byEnd, VacancyTimeline.of(this));
+    }
+
+    /**
+     * Returns the vacancy timeline of these intervals.
+     *
+     * @return the timeline, or null if the intervals were created without one
+     */
+    public VacancyTimeline timeline() {
+        return timeline;
+    }
+
+    /**
+     * Checks whether any assignment may be active during the given period, based on the earliest start and
+     * the latest end of all assignments. If not, the position is fully available and no sweep is needed.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the first day after the period
+     * @return false if no assignment overlaps the period
+     */
+    public boolean mayOverlap(long periodStart, long periodEnd) {
+        return byStart.length > 0
+                && byStart[0].startDay() < periodEnd
+                && byEnd[byEnd.length - 1].endDayExclusive() > periodStart;
+    }
+
+    /**
+     * Returns the number of assignment intervals.
+     *
+     * @return the interval count
+     */
+    public int size() {
+        return byStart.length;
+    }
+
+    AssignmentInterval[] byStart() {
+        return byStart;
+    }
+
+    AssignmentInterval[] byEnd() {
+        return byEnd;
+    }
+}
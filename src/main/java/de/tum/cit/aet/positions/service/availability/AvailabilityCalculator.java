@@ -0,0 +1,166 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.util.FixedPoint;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calculates the worst-case availability of a position (all rows sharing one objectId) within a search period.
+ * <p>
+ * Instead of re-scanning every assignment for every time slice, the calculator turns each assignment into a
+ * start and an end event, sorts the events once and sweeps over them with a running sum. This keeps the
+ * calculation at O(n log n) per objectId, where n is the number of assignment rows, and at O(n) if the
+ * intervals are already sorted (see {@link AssignmentIntervals}). Positions of the finder snapshot carry a
+ * precomputed {@link VacancyTimeline} instead, which answers each period in O(log n).
+ * <p>
+ * Availability is evaluated per day in the half-open interval {@code [startDate, endDate)}:
+ * <ul>
+ *   <li>An assignment is active on a day if {@code assignmentStart <= day <= assignmentEnd}</li>
+ *   <li>Missing assignment start/end dates are treated as open-ended</li>
+ *   <li>The available percentage of a day is {@code 100 - sum(active percentages)}, but never below 0</li>
+ * </ul>
+ * Percentages are summed as basis points (see {@link FixedPoint}), which is exact for the two decimal places
+ * stored in the database.
+ * <p>
+ * A position is fully available (100%) if it has no assignments at all, or if no assignment is active
+ * during the search period.
+ */
+@Component
+public class AvailabilityCalculator {
+
+    private static final String PLACEHOLDER_PERSONNEL_NUMBER = "00000000";
+
+    /**
+     * Checks whether a position row represents an actual assignment, i.e. it has a personnel number
+     * that is not the placeholder used for unassigned capacity.
+     *
+     * @param position the position row
+     * @return true if the row occupies capacity on its position
+     */
+    public static boolean isAssignment(Position position) {
+        return isAssignment(position.getPersonnelNumber());
+    }
+
+    /**
+     * Checks whether a personnel number belongs to an actual assignment, i.e. it is present and not the
+     * placeholder used for unassigned capacity.
+     *
+     * @param personnelNumber the personnel number of a position row, or null
+     * @return true if a row with this personnel number occupies capacity on its position
+     */
+    public static boolean isAssignment(String personnelNumber) {
+        return personnelNumber != null
+                && !personnelNumber.isEmpty()
+                && !personnelNumber.equals(PLACEHOLDER_PERSONNEL_NUMBER);
+    }
+
+    /**
+     * Calculates the minimum availability and the maximum number of concurrent assignments
+     * of a position within the search period.
+     *
+     * @param positionsForObjectId all position/assignment rows sharing the same objectId
+     * @param startDate            the search period start date (inclusive)
+     * @param endDate              the search period end date (exclusive)
+     * @return availability info containing the minimum available percentage and maximum
+     *         concurrent assignment count during the period
+     */
+    public AvailabilityInfo calculate(List<Position> positionsForObjectId, LocalDate startDate, LocalDate endDate) {
+        List<AssignmentInterval> intervals = new ArrayList<>();
+        for (Position position : positionsForObjectId) {
+            if (isAssignment(position)) {
+                intervals.add(AssignmentInterval.of(position.getStartDate(), position.getEndDate(), position.getPercentage()));
+            }
+        }
+        return calculate(AssignmentIntervals.of(intervals), startDate, endDate);
+    }
+
+    /**
+     * Calculates the minimum availability and the maximum number of concurrent assignments
+     * of a position within the search period from its pre-sorted assignment intervals.
+     * <p>
+     * If the intervals carry a {@link VacancyTimeline}, the result is a range query on the timeline. Otherwise, the
+     * start and end events are merged from the two sorted orderings, so no sorting happens here.
+     *
+     * @param intervals the assignment intervals of the position
+     * @param startDate the search period start date (inclusive)
+     * @param endDate   the search period end date (exclusive)
+     * @return availability info containing the minimum available percentage and maximum
+     *         concurrent assignment count during the period
+     */
+    public AvailabilityInfo calculate(AssignmentIntervals intervals, LocalDate startDate, LocalDate endDate) {
+        long periodStart = startDate.toEpochDay();
+        long periodEnd = endDate.toEpochDay();
+        // Positions whose assignments all lie outside the period (most of them for a narrow period) skip the sweep
+        if (periodStart >= periodEnd || !intervals.mayOverlap(periodStart, periodEnd)) {
+            return AvailabilityInfo.FULLY_AVAILABLE;
+        }
+        if (intervals.timeline() != null) {
+            return intervals.timeline().availability(periodStart, periodEnd);
+        }
+
+        AssignmentInterval[] starts = intervals.byStart();
+        AssignmentInterval[] ends = intervals.byEnd();
+        int startIndex = nextStart(starts, 0, periodStart, periodEnd);
+        int endIndex = nextEnd(ends, 0, periodStart, periodEnd);
+
+        long assignedSum = 0;
+        int assignmentCount = 0;
+        long minAvailable = FixedPoint.HUNDRED_PERCENT;
+        int maxAssignmentCount = 0;
+
+        while (startIndex < starts.length || endIndex < ends.length) {
+            // Assignments that started before the period become active on its first day
+            long nextStartDay = startIndex < starts.length ? Math.max(starts[startIndex].startDay(), periodStart) : Long.MAX_VALUE;
+            long nextEndDay = endIndex < ends.length ? ends[endIndex].endDayExclusive() : Long.MAX_VALUE;
+            long day = Math.min(nextStartDay, nextEndDay);
+
+            // Apply all changes that happen on the same day before evaluating that day
+            while (startIndex < starts.length && Math.max(starts[startIndex].startDay(), periodStart) == day) {
+                assignedSum += starts[startIndex].basisPoints();
+                assignmentCount++;
+                startIndex = nextStart(starts, startIndex + 1, periodStart, periodEnd);
+            }
+            while (endIndex < ends.length && ends[endIndex].endDayExclusive() == day) {
+                assignedSum -= ends[endIndex].basisPoints();
+                assignmentCount--;
+                endIndex = nextEnd(ends, endIndex + 1, periodStart, periodEnd);
+            }
+
+            long available = Math.max(0, FixedPoint.HUNDRED_PERCENT - assignedSum);
+            if (available < minAvailable) {
+                minAvailable = available;
+            }
+            if (assignmentCount > maxAssignmentCount) {
+                maxAssignmentCount = assignmentCount;
+            }
+        }
+
+        return new AvailabilityInfo(minAvailable, maxAssignmentCount);
+    }
+
+    /**
+     * Returns the index of the next interval (in start order) that is active during the period.
+     */
+    private static int nextStart(AssignmentInterval[] starts, int from, long periodStart, long periodEnd) {
+        int i = from;
+        while (i < starts.length && !starts[i].overlaps(periodStart, periodEnd)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the next interval (in end order) that is active during the period and ends within it.
+     */
+    private static int nextEnd(AssignmentInterval[] ends, int from, long periodStart, long periodEnd) {
+        int i = from;
+        while (i < ends.length && !(ends[i].overlaps(periodStart, periodEnd) && ends[i].endDayExclusive() < periodEnd)) {
+            i++;
+        }
+        return i;
+    }
+}
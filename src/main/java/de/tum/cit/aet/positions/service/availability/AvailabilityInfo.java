@@ -0,0 +1,29 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.util.FixedPoint;
+
+import java.math.BigDecimal;
+
+/**
+ * Holds availability information for a position during a specific time period.
+ *
+ * @param minAvailableBasisPoints the minimum available percentage across all time slices in the period, in basis
+ *                                points (represents the worst-case availability)
+ * @param maxAssignmentCount      the maximum number of concurrent assignments at any point in the period
+ */
+public record AvailabilityInfo(long minAvailableBasisPoints, int maxAssignmentCount) {
+
+    /**
+     * Availability of a position without any assignment in the period.
+     */
+    public static final AvailabilityInfo FULLY_AVAILABLE = new AvailabilityInfo(FixedPoint.HUNDRED_PERCENT, 0);
+
+    /**
+     * Returns the minimum available percentage as a decimal, for display purposes.
+     *
+     * @return the minimum available percentage (0-100) with scale 2
+     */
+    public BigDecimal minAvailablePercentage() {
+        return FixedPoint.toPercentage(minAvailableBasisPoints);
+    }
+}
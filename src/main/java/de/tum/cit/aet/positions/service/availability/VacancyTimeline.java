@@ -0,0 +1,187 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.util.FixedPoint;
+
+import java.util.Arrays;
+
+/**
+ * The free percentage of one position over time, as a piecewise-constant function with a range index.
+ * <p>
+ * The start and end days of all assignments split the time line into segments in which the assigned percentage
+ * and the number of active assignments do not change. A segment tree over these segments answers the minimum
+ * free percentage and the maximum number of concurrent assignments over any period in O(log n), where n is the
+ * number of assignments, without looking at the assignments again.
+ * <p>
+ * The results are identical to the sweep of {@link AvailabilityCalculator}: the free percentage of a segment is
+ * {@code 100 - sum(active percentages)}, but never below 0, and intervals that end before they start are never
+ * active.
+ */
+public final class VacancyTimeline {
+
+    /**
+     * Timeline of a position without any assignment.
+     */
+    public static final VacancyTimeline EMPTY = new VacancyTimeline(new long[0], new long[]{FixedPoint.HUNDRED_PERCENT}, new int[1]);
+
+    // Days on which the assignments change, ascending; segment i covers [days[i - 1], days[i])
+    private final long[] days;
+    private final long[] freeBasisPoints;
+    private final int[] assignmentCounts;
+
+    // Iterative segment tree over the segments: leaves at [segments, 2 * segments), node i covers 2i and 2i + 1
+    private final long[] minFree;
+    private final int[] maxCount;
+
+    private VacancyTimeline(long[] days, long[] freeBasisPoints, int[] assignmentCounts) {
+        this.days = days;
+        this.freeBasisPoints = freeBasisPoints;
+        this.assignmentCounts = assignmentCounts;
+
+        int segments = freeBasisPoints.length;
+        this.minFree = new long[2 * segments];
+        this.maxCount = new int[2 * segments];
+        System.arraycopy(freeBasisPoints, 0, minFree, segments, segments);
+        System.arraycopy(assignmentCounts, 0, maxCount, segments, segments);
+        for (int i = segments - 1; i > 0; i--) {
+            minFree[i] = Math.min(minFree[2 * i], minFree[2 * i + 1]);
+            maxCount[i] = Math.max(maxCount[2 * i], maxCount[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Builds the timeline of a position from its assignment intervals.
+     *
+     * @param intervals the assignment intervals of the position
+     * @return the timeline
+     */
+    public static VacancyTimeline of(AssignmentIntervals intervals) {
+        AssignmentInterval[] assignments = intervals.byStart();
+        long[] boundaries = new long[2 * assignments.length];
+        int boundaryCount = 0;
+        for (AssignmentInterval assignment : assignments) {
+            if (assignment.startDay() >= assignment.endDayExclusive()) {
+                continue;
+            }
+            // Open ends do not split the time line
+            if (assignment.startDay() != Long.MIN_VALUE) {
+                boundaries[boundaryCount++] = assignment.startDay();
+            }
+            if (assignment.endDayExclusive() != Long.MAX_VALUE) {
+                boundaries[boundaryCount++] = assignment.endDayExclusive();
+            }
+        }
+        if (boundaryCount == 0 && assignments.length == 0) {
+            return EMPTY;
+        }
+        long[] days = distinctSorted(boundaries, boundaryCount);
+
+        // Difference arrays over the segments, summed up afterwards
+        int segments = days.length + 1;
+        long[] assigned = new long[segments + 1];
+        int[] counts = new int[segments + 1];
+        for (AssignmentInterval assignment : assignments) {
+            if (assignment.startDay() >= assignment.endDayExclusive()) {
+                continue;
+            }
+            int first = assignment.startDay() == Long.MIN_VALUE ? 0 : segmentOf(days, assignment.startDay());
+            int end = assignment.endDayExclusive() == Long.MAX_VALUE ? segments : segmentOf(days, assignment.endDayExclusive());
+            assigned[first] += assignment.basisPoints();
+            assigned[end] -= assignment.basisPoints();
+            counts[first]++;
+            counts[end]--;
+        }
+
+        long[] freeBasisPoints = new long[segments];
+        int[] assignmentCounts = new int[segments];
+        long assignedSum = 0;
+        int assignmentCount = 0;
+        for (int i = 0; i < segments; i++) {
+            assignedSum += assigned[i];
+            assignmentCount += counts[i];
+            freeBasisPoints[i] = Math.max(0, FixedPoint.HUNDRED_PERCENT - assignedSum);
+            assignmentCounts[i] = assignmentCount;
+        }
+        return new VacancyTimeline(days, freeBasisPoints, assignmentCounts);
+    }
+
+    private static long[] distinctSorted(long[] values, int count) {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * Returns the index of the segment containing the given day, i.e. the number of change days up to and
+     * including it.
+     */
+    private static int segmentOf(long[] days, long day) {
+        int index = Arrays.binarySearch(days, day);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the minimum free percentage and the maximum number of concurrent assignments within a period.
+     *
+     * @param periodStart the first day of the period (epoch day)
+     * @param periodEnd   the first day after the period (epoch day)
+     * @return the availability during the period; fully available if the period is empty
+     */
+    public AvailabilityInfo availability(long periodStart, long periodEnd) {
+        if (periodStart >= periodEnd) {
+            return AvailabilityInfo.FULLY_AVAILABLE;
+        }
+
+        int segments = freeBasisPoints.length;
+        // Leaf range [low, high) of the segments overlapping the period
+        int low = segmentOf(days, periodStart) + segments;
+        int high = segmentOf(days, periodEnd - 1) + segments + 1;
+        long min = FixedPoint.HUNDRED_PERCENT;
+        int max = 0;
+        while (low < high) {
+            if ((low & 1) == 1) {
+                min = Math.min(min, minFree[low]);
+                max = Math.max(max, maxCount[low]);
+                low++;
+            }
+            if ((high & 1) == 1) {
+                high--;
+                min = Math.min(min, minFree[high]);
+                max = Math.max(max, maxCount[high]);
+            }
+            low >>= 1;
+            high >>= 1;
+        }
+
+        if (min == FixedPoint.HUNDRED_PERCENT && max == 0) {
+            return AvailabilityInfo.FULLY_AVAILABLE;
+        }
+        return new AvailabilityInfo(min, max);
+    }
+
+    /**
+     * Returns the free percentage on a day.
+     *
+     * @param day the day (epoch day)
+     * @return the free percentage in basis points
+     */
+    public long freeBasisPointsOn(long day) {
+        return freeBasisPoints[segmentOf(days, day)];
+    }
+
+    /**
+     * Returns the first day after the given day on which the free percentage changes.
+     *
+     * @param day the day (epoch day)
+     * @return the next change day, or {@link Long#MAX_VALUE} if the free percentage no longer changes
+     */
+    public long nextChangeAfter(long day) {
+        int segment = segmentOf(days, day);
+        return segment < days.length ? days[segment] : Long.MAX_VALUE;
+    }
+}
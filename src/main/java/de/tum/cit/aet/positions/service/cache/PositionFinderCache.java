@@ -0,0 +1,202 @@
+package de.tum.cit.aet.positions.service.cache;
+
+import de.tum.cit.aet.core.config.StaffPlanProperties;
+import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
+import de.tum.cit.aet.positions.dto.SplitSuggestionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of position finder responses.
+ * <p>
+ * Responses are keyed on the normalized request and the data version they were computed for
+ * (see {@link SearchCacheKey}). Every write to positions or grade values increments the version, so outdated
+ * responses are never returned; they are dropped as soon as a search for a newer version starts.
+ * <p>
+ * The cache is bounded by the total weight of its responses (one per response, match and position of a split
+ * suggestion) and evicts the least recently used responses first. Concurrent identical searches are coalesced:
+ * the first one computes the response, the others wait for its result. Failed searches (e.g. invalid requests)
+ * are not cached.
+ */
+@Component
+public class PositionFinderCache {
+
+    private final StaffPlanProperties.PositionFinder.Cache properties;
+
+    private final Object lock = new Object();
+    // Access order, so iteration starts with the least recently used entry
+    private final LinkedHashMap<SearchCacheKey, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight;
+    private long newestVersion = Long.MIN_VALUE;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+
+    /**
+     * A cached or pending response.
+     */
+    private static final class Entry {
+        private final CompletableFuture<PositionFinderResponseDTO> future = new CompletableFuture<>();
+        // Zero while the response is still being computed
+        private long weight;
+    }
+
+    public PositionFinderCache(StaffPlanProperties staffPlanProperties, MeterRegistry meterRegistry) {
+        this.properties = staffPlanProperties.getPositionFinder().getCache();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.evictions = Counter.builder("staffplan.position.finder.cache.evictions")
+                .description("Position finder responses evicted from the cache")
+                .register(meterRegistry);
+        Gauge.builder("staffplan.position.finder.cache.size", this, PositionFinderCache::size)
+                .description("Position finder responses in the cache")
+                .register(meterRegistry);
+        Gauge.builder("staffplan.position.finder.cache.weight", this, PositionFinderCache::weight)
+                .description("Total weight of the position finder responses in the cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("staffplan.position.finder.cache.requests")
+                .description("Position finder searches by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response for the key, or computes and caches it.
+     * <p>
+     * If the same search is already being computed by another thread, waits for that result instead of
+     * computing it again. If the computation fails, the exception is thrown to all waiting callers and
+     * nothing is cached.
+     *
+     * @param key    the normalized request and data version
+     * @param loader computes the response on a cache miss
+     * @return the cached or computed response
+     */
+    public PositionFinderResponseDTO get(SearchCacheKey key, Supplier<PositionFinderResponseDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (lock) {
+            if (key.dataVersion() > newestVersion) {
+                newestVersion = key.dataVersion();
+                removeOutdated();
+            }
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            (entry.future.isDone() ? hits : coalesced).increment();
+            return join(entry.future);
+        }
+
+        misses.increment();
+        PositionFinderResponseDTO response;
+        try {
+            response = loader.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (lock) {
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+
+        synchronized (lock) {
+            // The entry may have been dropped as outdated in the meantime
+            if (entries.get(key) == entry) {
+                entry.weight = weigh(response);
+                totalWeight += entry.weight;
+                evict();
+            }
+        }
+        entry.future.complete(response);
+        return response;
+    }
+
+    private int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    private long weight() {
+        synchronized (lock) {
+            return totalWeight;
+        }
+    }
+
+    /**
+     * Removes the completed entries of older data versions. Pending entries are removed by their owner
+     * when they fail, or kept and evicted as usual.
+     */
+    private void removeOutdated() {
+        Iterator<Map.Entry<SearchCacheKey, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<SearchCacheKey, Entry> next = iterator.next();
+            if (next.getKey().dataVersion() < newestVersion && next.getValue().future.isDone()) {
+                totalWeight -= next.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used completed entries until the cache is within its bounds.
+     */
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while ((totalWeight > properties.getMaxWeight() || entries.size() > properties.getMaxEntries())
+                && iterator.hasNext()) {
+            Entry next = iterator.next();
+            if (next.future.isDone()) {
+                totalWeight -= next.weight;
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static long weigh(PositionFinderResponseDTO response) {
+        long weight = 1 + response.matches().size();
+        for (SplitSuggestionDTO suggestion : response.splitSuggestions()) {
+            weight += suggestion.splitCount();
+        }
+        return weight;
+    }
+
+    private static PositionFinderResponseDTO join(CompletableFuture<PositionFinderResponseDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package de.tum.cit.aet.positions.service.cache;
+
+import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
+import de.tum.cit.aet.util.GradeCodeNormalizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Cache key of a position finder search: the normalized request and the data version it was computed for.
+ * <p>
+ * Requests that only differ in the spelling of the grade code, the order or duplicates of the relevance types,
+ * or an omitted instead of a 100% fill percentage (or 0 offset) produce the same key.
+ *
+ * @param dataVersion     the position data version (see {@code PositionDataVersion})
+ * @param startDate       the search period start date
+ * @param endDate         the search period end date
+ * @param employeeGrade   the normalized employee grade code
+ * @param fillPercentage  the requested fill percentage
+ * @param researchGroupId the research group filter, or null
+ * @param relevanceTypes  the sorted, distinct relevance type filter, or null for no filter
+ * @param limit           the maximum number of matches, or null for all matches
+ * @param offset          the number of best matches skipped
+ */
+public record SearchCacheKey(
+        long dataVersion,
+        LocalDate startDate,
+        LocalDate endDate,
+        String employeeGrade,
+        int fillPercentage,
+        UUID researchGroupId,
+        List<String> relevanceTypes,
+        Integer limit,
+        int offset
+) {
+
+    /**
+     * Creates the key of a request.
+     *
+     * @param request     the position finder request
+     * @param dataVersion the data version the search is computed for
+     * @return the normalized key
+     */
+    public static SearchCacheKey of(PositionFinderRequestDTO request, long dataVersion) {
+        List<String> relevanceTypes = null;
+        if (request.relevanceTypes() != null && !request.relevanceTypes().isEmpty()) {
+            TreeSet<String> distinct = new TreeSet<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+            distinct.addAll(request.relevanceTypes());
+            relevanceTypes = Collections.unmodifiableList(new ArrayList<>(distinct));
+        }
+        return new SearchCacheKey(
+                dataVersion,
+                request.startDate(),
+                request.endDate(),
+                GradeCodeNormalizer.normalize(request.employeeGrade()),
+                request.fillPercentageOrDefault(),
+                request.researchGroupId(),
+                relevanceTypes,
+                request.limit(),
+                request.offsetOrDefault()
+        );
+    }
+}
@@ -2,9 +2,6 @@ package de.tum.cit.aet.positions.service.matching;
 
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 /**
  * Primary matching rule that evaluates budget efficiency of a position placement.
  * <p>
@@ -21,7 +18,7 @@ import java.math.RoundingMode;
  * Weight: 50% of total matching score (highest priority rule)
  *
  * @see MatchingContext#fitsInBudget()
- * @see MatchingContext#wasteAmount()
+ * @see MatchingContext#wasteCents()
  */
 @Component
 public class BudgetEfficiencyRule implements MatchingRule {
@@ -41,6 +38,17 @@ public class BudgetEfficiencyRule implements MatchingRule {
         return 0.50;
     }
 
+    /**
+     * Excludes positions whose available budget does not cover the employee's cost.
+     *
+     * @param ctx the matching context containing budget information
+     * @return true if the employee cost exceeds the position budget
+     */
+    @Override
+    public boolean excludes(MatchingContext ctx) {
+        return !ctx.fitsInBudget();
+    }
+
     /**
      * Evaluates the budget efficiency score for a position placement.
      * <p>
@@ -68,18 +76,13 @@ public class BudgetEfficiencyRule implements MatchingRule {
             return -1;
         }
 
-        BigDecimal waste = ctx.wasteAmount();
-        BigDecimal budget = ctx.positionBudget();
-
         // Perfect match (no waste) = 100 points
-        if (waste.compareTo(BigDecimal.ZERO) == 0) {
+        if (ctx.wasteCents() == 0) {
             return 100.0;
         }
 
         // Calculate waste percentage
-        double wastePercentage = waste.divide(budget, 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .doubleValue();
+        double wastePercentage = ctx.wastePercentage();
 
         // Score decreases with more waste
         // 0% waste = 100 points
@@ -1,8 +1,8 @@
 package de.tum.cit.aet.positions.service.matching;
 
-import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.positions.service.snapshot.PositionRow;
+import de.tum.cit.aet.util.FixedPoint;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 /**
@@ -12,57 +12,59 @@ import java.time.LocalDate;
  * for an employee placement request, including budget comparisons, availability,
  * and time overlap calculations.
  * <p>
- * Note: The availability values ({@code currentAssignedPercentage}) represent
+ * Note: The availability value ({@code availableBasisPoints}) represents
  * the minimum availability across the entire search period, calculated using
  * time-slice analysis. This ensures positions are only matched if they can
  * accommodate the employee for the full requested period.
+ * <p>
+ * Money is given in cents and percentages in basis points (see {@link FixedPoint}),
+ * so rules can be evaluated without allocating {@code BigDecimal}s.
  *
- * @param position                  the position being evaluated (one row from the database)
- * @param employeeGrade             the employee's grade code (e.g., "E13", "E14")
- * @param employeeMonthlyCost       the employee's prorated monthly cost (grade value × requested percentage)
- * @param positionBudget            the position's available monthly budget (grade value × available percentage)
- * @param requestedStartDate        the requested employment start date
- * @param requestedEndDate          the requested employment end date
- * @param requestedPercentage       the requested employment percentage (1-100)
- * @param currentAssignmentCount    maximum number of concurrent assignments during the search period
- * @param currentAssignedPercentage the assigned percentage representing worst-case availability
- *                                  (100 - this value = minimum available percentage)
+ * @param position                 the position being evaluated (its representative row from the snapshot)
+ * @param employeeGrade            the employee's grade code (e.g., "E13", "E14")
+ * @param employeeMonthlyCostCents the employee's prorated monthly cost in cents (grade value × requested percentage)
+ * @param positionBudgetCents      the position's available monthly budget in cents (grade value × available percentage)
+ * @param requestedStartDate       the requested employment start date
+ * @param requestedEndDate         the requested employment end date
+ * @param requestedBasisPoints     the requested employment percentage in basis points (100-10,000)
+ * @param currentAssignmentCount   maximum number of concurrent assignments during the search period
+ * @param availableBasisPoints     the minimum available percentage during the search period in basis points
+ *                                 (10,000 - this value = worst-case assigned percentage)
  */
 public record MatchingContext(
-        Position position,
+        PositionRow position,
         String employeeGrade,
-        BigDecimal employeeMonthlyCost,
-        BigDecimal positionBudget,
+        long employeeMonthlyCostCents,
+        long positionBudgetCents,
         LocalDate requestedStartDate,
         LocalDate requestedEndDate,
-        BigDecimal requestedPercentage,
+        long requestedBasisPoints,
         int currentAssignmentCount,
-        BigDecimal currentAssignedPercentage
+        long availableBasisPoints
 ) {
     /**
-     * Returns the minimum available percentage on this position during the search period.
+     * Calculates the budget waste (unused portion) if this employee is placed on this position.
      * <p>
-     * This is calculated as 100% minus the worst-case assigned percentage across all
-     * time slices in the search period. A value of 100% means the position is completely
-     * free (e.g., all assignments ended before the search period).
+     * Waste occurs when the position's budget exceeds the employee's cost, typically when
+     * placing a lower-grade employee on a higher-grade position.
      *
-     * @return available percentage (0-100)
+     * @return the monthly waste amount in cents (position budget - employee cost), may be negative
+     *         if employee costs exceed budget (though such positions should be excluded)
      */
-    public BigDecimal availablePercentage() {
-        return BigDecimal.valueOf(100).subtract(currentAssignedPercentage);
+    public long wasteCents() {
+        return positionBudgetCents - employeeMonthlyCostCents;
     }
 
     /**
-     * Calculates the budget waste (unused portion) if this employee is placed on this position.
+     * Calculates the budget waste as a share of the position's available budget.
      * <p>
-     * Waste occurs when the position's budget exceeds the employee's cost, typically when
-     * placing a lower-grade employee on a higher-grade position.
+     * The ratio is rounded half up to four decimal places before it is converted to percent,
+     * so the result has at most two decimal places (e.g., 15.23).
      *
-     * @return the monthly waste amount (position budget - employee cost), may be negative
-     *         if employee costs exceed budget (though such positions should be excluded)
+     * @return the waste percentage, or 0 if the position has no budget
      */
-    public BigDecimal wasteAmount() {
-        return positionBudget.subtract(employeeMonthlyCost);
+    public double wastePercentage() {
+        return positionBudgetCents > 0 ? FixedPoint.ratioPercentage(wasteCents(), positionBudgetCents) : 0;
     }
 
     /**
@@ -74,7 +76,7 @@ public record MatchingContext(
      * @return true if employee cost ≤ position budget, false otherwise
      */
     public boolean fitsInBudget() {
-        return employeeMonthlyCost.compareTo(positionBudget) <= 0;
+        return employeeMonthlyCostCents <= positionBudgetCents;
     }
 
     /**
@@ -84,13 +86,13 @@ public record MatchingContext(
      * Note: This uses the position row's start/end dates (assignment period), not the
      * availability period. For positions whose assignments ended before the search period,
      * this returns 0 even though they are 100% available. The {@link TimeOverlapRule}
-     * handles this case by checking {@link #availablePercentage()} first.
+     * handles this case by checking {@link #availableBasisPoints()} first.
      *
      * @return number of overlapping days, or 0 if no overlap
      */
     public long overlapDays() {
-        LocalDate posStart = position.getStartDate();
-        LocalDate posEnd = position.getEndDate();
+        LocalDate posStart = position.startDate();
+        LocalDate posEnd = position.endDate();
 
         if (posStart == null || posEnd == null) {
             // If position has no dates, assume full overlap
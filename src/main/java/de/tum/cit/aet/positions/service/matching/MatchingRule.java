@@ -10,7 +10,8 @@ package de.tum.cit.aet.positions.service.matching;
  *   <li>{@link TimeOverlapRule}: Evaluates temporal compatibility between position and request</li>
  * </ul>
  * <p>
- * Rules are applied in priority order. Each rule returns either:
+ * Rules are applied by the {@link MatchingRulePipeline}: first the cheap exclusion checks of all rules
+ * ({@link #excludes(MatchingContext)}), then the scoring in priority order. Each rule's score is either:
  * <ul>
  *   <li>A score from 0-100 (higher is better)</li>
  *   <li>-1 to exclude the position entirely (hard constraint violation)</li>
@@ -34,10 +35,11 @@ public interface MatchingRule {
     /**
      * Returns the evaluation priority of this rule.
      * <p>
-     * Rules with lower priority numbers are evaluated first. This affects:
+     * Rules with lower priority numbers are scored first. This affects:
      * <ul>
      *   <li>Display order in UI</li>
-     *   <li>Early termination (if a high-priority rule excludes a position)</li>
+     *   <li>The order of the exclusion checks, until enough positions have been evaluated to order them by
+     *       how often they exclude a position (see {@link MatchingRulePipeline})</li>
      * </ul>
      *
      * @return priority value (1 = highest priority)
@@ -72,4 +74,19 @@ public interface MatchingRule {
      * @return score from 0-100, or -1 to exclude the position
      */
     double evaluate(MatchingContext ctx);
+
+    /**
+     * Checks whether this rule excludes the position, without scoring it.
+     * <p>
+     * Exclusion checks of all rules run before any rule is scored, so a position that one rule excludes is
+     * never scored by the others. Rules with hard constraints should override this with a check that is
+     * cheaper than {@link #evaluate(MatchingContext)} and returns true exactly if {@code evaluate} returns -1.
+     * A rule that does not override it is still able to exclude positions when it is scored.
+     *
+     * @param ctx the matching context containing position and request data
+     * @return true if the position must be excluded
+     */
+    default boolean excludes(MatchingContext ctx) {
+        return false;
+    }
 }
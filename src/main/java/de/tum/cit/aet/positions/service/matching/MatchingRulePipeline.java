@@ -0,0 +1,134 @@
+package de.tum.cit.aet.positions.service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Evaluates all matching rules for a candidate position in two stages.
+ * <ol>
+ *   <li><b>Exclusion:</b> the cheap exclusion checks of all rules ({@link MatchingRule#excludes(MatchingContext)}).
+ *       The first rule that excludes the position ends the evaluation, so no rule is scored for it.</li>
+ *   <li><b>Scoring:</b> all rules are scored in priority order and their weighted scores are summed up.</li>
+ * </ol>
+ * The rules are sorted by priority once at startup. The exclusion checks start in priority order as well;
+ * the pipeline counts how often each rule excludes a position it checks, and {@link #reorder()} moves the most
+ * selective rules to the front once every rule has been checked often enough. The order of the exclusion checks
+ * only affects how much work is done, never the result.
+ * <p>
+ * The pipeline is shared by concurrent searches; the counters are striped and the exclusion order is replaced
+ * as a whole.
+ */
+@Component
+public class MatchingRulePipeline {
+
+    // Exclusion checks per rule before its exclusion rate is trusted for the ordering
+    static final long MIN_CHECKS = 1000;
+
+    private final MatchingRule[] rules;
+    private final LongAdder[] checks;
+    private final LongAdder[] exclusions;
+
+    // Indices into rules, most selective first
+    private volatile int[] exclusionOrder;
+
+    public MatchingRulePipeline(List<MatchingRule> matchingRules) {
+        // Stable sort, so rules of equal priority keep their bean order
+        this.rules = matchingRules.stream()
+                .sorted(Comparator.comparingInt(MatchingRule::getPriority))
+                .toArray(MatchingRule[]::new);
+        this.checks = new LongAdder[rules.length];
+        this.exclusions = new LongAdder[rules.length];
+        int[] order = new int[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            checks[i] = new LongAdder();
+            exclusions[i] = new LongAdder();
+            order[i] = i;
+        }
+        this.exclusionOrder = order;
+    }
+
+    /**
+     * Returns the rules in priority order, which is also the order in which they are scored.
+     *
+     * @return the rules
+     */
+    public List<MatchingRule> getRules() {
+        return List.of(rules);
+    }
+
+    /**
+     * Evaluates all rules for a candidate position.
+     * <p>
+     * Only the scoring of the rules is reported to the timer; the exclusion checks are too cheap to be timed
+     * individually.
+     *
+     * @param ctx       the matching context of the position
+     * @param ruleTimer receives each scored rule and the time its scoring took in nanoseconds
+     * @return the weighted sum of the rule scores, or -1 if a rule excludes the position
+     */
+    public double evaluate(MatchingContext ctx, ObjLongConsumer<MatchingRule> ruleTimer) {
+        for (int index : exclusionOrder) {
+            checks[index].increment();
+            if (rules[index].excludes(ctx)) {
+                exclusions[index].increment();
+                return -1;
+            }
+        }
+
+        double totalScore = 0;
+        for (MatchingRule rule : rules) {
+            long start = System.nanoTime();
+            double score = rule.evaluate(ctx);
+            ruleTimer.accept(rule, System.nanoTime() - start);
+            // Rules without an exclusion check exclude positions when they are scored
+            if (score < 0) {
+                return -1;
+            }
+            totalScore += score * rule.getWeight();
+        }
+        return totalScore;
+    }
+
+    /**
+     * Orders the exclusion checks by their exclusion rate so far, highest first, once every rule has been
+     * checked at least {@link #MIN_CHECKS} times. Rules with equal rates stay in priority order.
+     * <p>
+     * The rates are conditional: a rule is only checked for positions that all rules before it have let
+     * through. Called after each search.
+     */
+    public void reorder() {
+        double[] rates = new double[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            long checked = checks[i].sum();
+            if (checked < MIN_CHECKS) {
+                return;
+            }
+            rates[i] = (double) exclusions[i].sum() / checked;
+        }
+
+        List<Integer> order = new ArrayList<>(rules.length);
+        for (int i = 0; i < rules.length; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> rates[i]).reversed());
+        int[] newOrder = order.stream().mapToInt(Integer::intValue).toArray();
+        if (!Arrays.equals(newOrder, exclusionOrder)) {
+            exclusionOrder = newOrder;
+        }
+    }
+
+    /**
+     * Returns the rules in the current order of the exclusion checks.
+     *
+     * @return the rules, most selective first
+     */
+    List<MatchingRule> exclusionOrder() {
+        return Arrays.stream(exclusionOrder).mapToObj(i -> rules[i]).toList();
+    }
+}
@@ -17,7 +17,7 @@ import org.springframework.stereotype.Component;
  * <p>
  * Weight: 20% of total matching score
  *
- * @see MatchingContext#availablePercentage()
+ * @see MatchingContext#availableBasisPoints()
  * @see MatchingContext#overlapDays()
  */
 @Component
@@ -38,6 +38,20 @@ public class TimeOverlapRule implements MatchingRule {
         return 0.20;
     }
 
+    /**
+     * Excludes invalid periods and positions that can neither accommodate the request nor overlap with it.
+     *
+     * @param ctx the matching context containing position and request details
+     * @return true if {@link #evaluate(MatchingContext)} would return -1
+     */
+    @Override
+    public boolean excludes(MatchingContext ctx) {
+        if (ctx.requestedDays() <= 0) {
+            return true;
+        }
+        return ctx.availableBasisPoints() < ctx.requestedBasisPoints() && ctx.overlapDays() <= 0;
+    }
+
     /**
      * Evaluates the time overlap score for a position.
      * <p>
@@ -63,7 +77,7 @@ public class TimeOverlapRule implements MatchingRule {
 
         // If position has availability (assignment ended or never started during search period),
         // it's fully available for the search period - full overlap score
-        if (ctx.availablePercentage().compareTo(ctx.requestedPercentage()) >= 0) {
+        if (ctx.availableBasisPoints() >= ctx.requestedBasisPoints()) {
             // Position can accommodate the request, consider it as full time overlap
             return 100.0;
         }
@@ -0,0 +1,103 @@
+package de.tum.cit.aet.positions.service.plan;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Solves the rectangular assignment problem: assigns each row (hiring request) to a distinct column
+ * (position) so that the total cost is minimal.
+ * <p>
+ * The solver uses the Hungarian algorithm in its shortest augmenting path form with row and column
+ * potentials, which runs in O(n² · m) for n rows and m columns (n ≤ m). Rows that cannot or should not be
+ * assigned are handled by the caller via dummy columns; entries of {@link #FORBIDDEN} are never chosen as
+ * long as every row has at least one allowed column.
+ */
+@Component
+public class AssignmentSolver {
+
+    /**
+     * Cost of a forbidden assignment. Small enough that potentials cannot overflow.
+     */
+    public static final long FORBIDDEN = Long.MAX_VALUE / 4;
+
+    /**
+     * Finds an assignment of minimal total cost.
+     *
+     * @param cost the cost matrix, {@code cost[row][column]}; all rows must have the same length,
+     *             which must be at least the number of rows
+     * @return the assigned column for each row
+     * @throws IllegalArgumentException if there are more rows than columns
+     */
+    public int[] solve(long[][] cost) {
+        int n = cost.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int m = cost[0].length;
+        if (m < n) {
+            throw new IllegalArgumentException("Assignment needs at least as many columns as rows");
+        }
+
+        // 1-based indices, column 0 is a virtual column used to start each augmentation
+        long[] rowPotential = new long[n + 1];
+        long[] columnPotential = new long[m + 1];
+        int[] rowOfColumn = new int[m + 1];
+        int[] previousColumn = new int[m + 1];
+        long[] minSlack = new long[m + 1];
+        boolean[] visited = new boolean[m + 1];
+
+        for (int row = 1; row <= n; row++) {
+            rowOfColumn[0] = row;
+            int column = 0;
+            Arrays.fill(minSlack, Long.MAX_VALUE);
+            Arrays.fill(visited, false);
+
+            // Grow a shortest path tree until it reaches an unassigned column
+            do {
+                visited[column] = true;
+                int currentRow = rowOfColumn[column];
+                long[] rowCost = cost[currentRow - 1];
+                long delta = Long.MAX_VALUE;
+                int nextColumn = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (!visited[j]) {
+                        long slack = rowCost[j - 1] - rowPotential[currentRow] - columnPotential[j];
+                        if (slack < minSlack[j]) {
+                            minSlack[j] = slack;
+                            previousColumn[j] = column;
+                        }
+                        if (minSlack[j] < delta) {
+                            delta = minSlack[j];
+                            nextColumn = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (visited[j]) {
+                        rowPotential[rowOfColumn[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        minSlack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowOfColumn[column] != 0);
+
+            // Augment along the path
+            do {
+                int previous = previousColumn[column];
+                rowOfColumn[column] = rowOfColumn[previous];
+                column = previous;
+            } while (column != 0);
+        }
+
+        int[] assignment = new int[n];
+        for (int j = 1; j <= m; j++) {
+            if (rowOfColumn[j] != 0) {
+                assignment[rowOfColumn[j] - 1] = j - 1;
+            }
+        }
+        return assignment;
+    }
+}
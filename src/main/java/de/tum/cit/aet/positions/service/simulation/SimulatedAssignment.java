@@ -0,0 +1,46 @@
+package de.tum.cit.aet.positions.service.simulation;
+
+import de.tum.cit.aet.positions.service.snapshot.PositionRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A hypothetical assignment of a simulation, e.g. "an E13 at 50% on position X from March".
+ *
+ * @param id         the assignment ID within the simulation
+ * @param objectId   the position the assignment is placed on
+ * @param percentage the assigned percentage
+ * @param startDate  the first day of the assignment
+ * @param endDate    the last day of the assignment
+ */
+public record SimulatedAssignment(
+        UUID id,
+        String objectId,
+        BigDecimal percentage,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    /**
+     * Returns the assignment as a row of its position. The row takes the grade, relevance type and research
+     * group of the position's representative, so it passes the same search filters.
+     *
+     * @param representative the representative row of the position
+     * @return the assignment row
+     */
+    PositionRow toRow(PositionRow representative) {
+        return new PositionRow(
+                id,
+                objectId,
+                representative.tariffGroup(),
+                representative.normalizedGrade(),
+                representative.relevanceType(),
+                representative.researchGroupId(),
+                percentage,
+                startDate,
+                endDate,
+                true
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package de.tum.cit.aet.positions.service.simulation;
+
+import de.tum.cit.aet.positions.service.snapshot.PositionGroup;
+import de.tum.cit.aet.positions.service.snapshot.PositionRow;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The hypothetical assignments of a simulation, layered over a read-only {@link PositionSnapshot}.
+ * <p>
+ * Overlays are immutable and copy-on-write per position: adding or removing an assignment copies the assignment
+ * list and the small map of replaced positions, and rebuilds only the position the assignment belongs to from its
+ * snapshot rows plus all of its simulated assignments. The snapshot itself is shared and never modified.
+ * <p>
+ * The replaced positions are only valid for the snapshot they were built on; {@link #rebase} rebuilds them when
+ * the position data has changed since.
+ *
+ * @param snapshotVersion the version of the snapshot the replaced positions were built on
+ * @param assignments     the simulated assignments, in the order they were added
+ * @param overrides       the positions with simulated assignments by objectId
+ */
+public record SimulationOverlay(
+        long snapshotVersion,
+        List<SimulatedAssignment> assignments,
+        Map<String, PositionGroup> overrides
+) {
+    /**
+     * Returns an overlay without assignments.
+     *
+     * @param snapshot the snapshot to layer the overlay over
+     * @return the empty overlay
+     */
+    static SimulationOverlay empty(PositionSnapshot snapshot) {
+        return new SimulationOverlay(snapshot.version(), List.of(), Map.of());
+    }
+
+    /**
+     * Returns a copy of this overlay with an additional assignment.
+     *
+     * @param assignment the assignment to add
+     * @param snapshot   the snapshot this overlay was built on
+     * @return the new overlay
+     * @throws IllegalArgumentException if the assignment's position is not in the snapshot
+     */
+    SimulationOverlay withAssignment(SimulatedAssignment assignment, PositionSnapshot snapshot) {
+        if (!snapshot.groupsByObjectId().containsKey(assignment.objectId())) {
+            throw new IllegalArgumentException("Unknown position: " + assignment.objectId());
+        }
+        List<SimulatedAssignment> changed = new ArrayList<>(assignments.size() + 1);
+        changed.addAll(assignments);
+        changed.add(assignment);
+        return withAssignments(changed, assignment.objectId(), snapshot);
+    }
+
+    /**
+     * Returns a copy of this overlay without an assignment.
+     *
+     * @param assignmentId the ID of the assignment to remove
+     * @param snapshot     the snapshot this overlay was built on
+     * @return the new overlay
+     * @throws IllegalArgumentException if the overlay has no assignment with this ID
+     */
+    SimulationOverlay withoutAssignment(UUID assignmentId, PositionSnapshot snapshot) {
+        List<SimulatedAssignment> changed = new ArrayList<>(assignments.size());
+        SimulatedAssignment removed = null;
+        for (SimulatedAssignment assignment : assignments) {
+            if (assignment.id().equals(assignmentId)) {
+                removed = assignment;
+            } else {
+                changed.add(assignment);
+            }
+        }
+        if (removed == null) {
+            throw new IllegalArgumentException("Unknown simulated assignment: " + assignmentId);
+        }
+        return withAssignments(changed, removed.objectId(), snapshot);
+    }
+
+    /**
+     * Returns this overlay rebuilt on another snapshot, e.g. after positions were imported.
+     * Assignments on positions that no longer exist are kept, but have no effect.
+     *
+     * @param snapshot the current snapshot
+     * @return this overlay if it was built on the same snapshot version, otherwise the rebuilt overlay
+     */
+    SimulationOverlay rebase(PositionSnapshot snapshot) {
+        if (snapshot.version() == snapshotVersion) {
+            return this;
+        }
+        Set<String> objectIds = new LinkedHashSet<>();
+        for (SimulatedAssignment assignment : assignments) {
+            objectIds.add(assignment.objectId());
+        }
+        Map<String, PositionGroup> rebuilt = HashMap.newHashMap(objectIds.size());
+        for (String objectId : objectIds) {
+            PositionGroup group = override(objectId, assignments, snapshot);
+            if (group != null) {
+                rebuilt.put(objectId, group);
+            }
+        }
+        return new SimulationOverlay(snapshot.version(), assignments, Map.copyOf(rebuilt));
+    }
+
+    private SimulationOverlay withAssignments(List<SimulatedAssignment> changed, String objectId, PositionSnapshot snapshot) {
+        Map<String, PositionGroup> changedOverrides = new HashMap<>(overrides);
+        PositionGroup group = override(objectId, changed, snapshot);
+        if (group != null) {
+            changedOverrides.put(objectId, group);
+        } else {
+            changedOverrides.remove(objectId);
+        }
+        return new SimulationOverlay(snapshotVersion, List.copyOf(changed), Map.copyOf(changedOverrides));
+    }
+
+    /**
+     * Builds a position from its snapshot rows and its simulated assignments.
+     *
+     * @return the position, or null if it is not in the snapshot or has no simulated assignments
+     */
+    private static PositionGroup override(String objectId, List<SimulatedAssignment> assignments, PositionSnapshot snapshot) {
+        PositionGroup base = snapshot.groupsByObjectId().get(objectId);
+        if (base == null) {
+            return null;
+        }
+        List<PositionRow> rows = new ArrayList<>();
+        for (SimulatedAssignment assignment : assignments) {
+            if (assignment.objectId().equals(objectId)) {
+                rows.add(assignment.toRow(base.representative()));
+            }
+        }
+        return rows.isEmpty() ? null : base.withAdditionalRows(rows);
+    }
+}
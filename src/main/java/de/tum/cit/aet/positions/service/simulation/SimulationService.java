@@ -0,0 +1,186 @@
+package de.tum.cit.aet.positions.service.simulation;
+
+import de.tum.cit.aet.core.config.StaffPlanProperties;
+import de.tum.cit.aet.core.exceptions.ResourceNotFoundException;
+import de.tum.cit.aet.positions.dto.SimulatedAssignmentDTO;
+import de.tum.cit.aet.positions.dto.SimulationDTO;
+import de.tum.cit.aet.positions.service.snapshot.PositionGroup;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshot;
+import de.tum.cit.aet.positions.service.snapshot.PositionSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Manages what-if simulations: server-side sessions of hypothetical assignments that position finder searches
+ * can take into account (see {@link SimulationOverlay}).
+ * <p>
+ * Simulations live in memory only and never write to the database. Each one expires after
+ * {@code staffplan.position-finder.simulation.ttl} without use; at most
+ * {@code staffplan.position-finder.simulation.max-sessions} simulations with at most
+ * {@code max-assignments} assignments each are kept, and the least recently used simulation is discarded
+ * first when a new one is started.
+ */
+@Slf4j
+@Service
+public class SimulationService {
+
+    private final PositionSnapshotService positionSnapshotService;
+    private final StaffPlanProperties.PositionFinder.Simulation properties;
+
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+    private final Object createLock = new Object();
+
+    /**
+     * A simulation and the time it expires if it is not used again.
+     */
+    private record Session(UUID id, SimulationOverlay overlay, Instant expiresAt) {
+    }
+
+    public SimulationService(PositionSnapshotService positionSnapshotService, StaffPlanProperties staffPlanProperties) {
+        this.positionSnapshotService = positionSnapshotService;
+        this.properties = staffPlanProperties.getPositionFinder().getSimulation();
+    }
+
+    /**
+     * Starts a simulation without assignments, discarding expired simulations and, if there are still too many,
+     * the least recently used one.
+     *
+     * @return the new simulation
+     */
+    public SimulationDTO create() {
+        Instant now = Instant.now();
+        Session session = new Session(UUID.randomUUID(), SimulationOverlay.empty(positionSnapshotService.getSnapshot()),
+                now.plus(properties.getTtl()));
+
+        synchronized (createLock) {
+            sessions.values().removeIf(existing -> !existing.expiresAt().isAfter(now));
+            while (!sessions.isEmpty() && sessions.size() >= properties.getMaxSessions()) {
+                sessions.values().stream()
+                        .min(Comparator.comparing(Session::expiresAt))
+                        .ifPresent(oldest -> sessions.remove(oldest.id()));
+            }
+            sessions.put(session.id(), session);
+        }
+
+        log.info("Started simulation {} ({} active)", session.id(), sessions.size());
+        return toDto(session);
+    }
+
+    /**
+     * Returns a simulation.
+     *
+     * @param id the simulation ID
+     * @return the simulation
+     * @throws ResourceNotFoundException if the simulation does not exist or has expired
+     */
+    public SimulationDTO get(UUID id) {
+        return toDto(update(id, UnaryOperator.identity()));
+    }
+
+    /**
+     * Adds a hypothetical assignment to a simulation.
+     *
+     * @param id         the simulation ID
+     * @param assignment the assignment (its ID is ignored)
+     * @return the simulation with the new assignment
+     * @throws ResourceNotFoundException if the simulation does not exist or has expired
+     * @throws IllegalArgumentException  if the assignment is invalid or the simulation has too many assignments
+     */
+    public SimulationDTO addAssignment(UUID id, SimulatedAssignmentDTO assignment) {
+        SimulatedAssignment validated = validate(assignment);
+        PositionSnapshot snapshot = positionSnapshotService.getSnapshot();
+        return toDto(update(id, overlay -> {
+            if (overlay.assignments().size() >= properties.getMaxAssignments()) {
+                throw new IllegalArgumentException("A simulation can have at most " + properties.getMaxAssignments() + " assignments");
+            }
+            return overlay.rebase(snapshot).withAssignment(validated, snapshot);
+        }));
+    }
+
+    /**
+     * Removes a hypothetical assignment from a simulation.
+     *
+     * @param id           the simulation ID
+     * @param assignmentId the ID of the assignment to remove
+     * @return the simulation without the assignment
+     * @throws ResourceNotFoundException if the simulation does not exist or has expired
+     * @throws IllegalArgumentException  if the simulation has no assignment with this ID
+     */
+    public SimulationDTO removeAssignment(UUID id, UUID assignmentId) {
+        PositionSnapshot snapshot = positionSnapshotService.getSnapshot();
+        return toDto(update(id, overlay -> overlay.rebase(snapshot).withoutAssignment(assignmentId, snapshot)));
+    }
+
+    /**
+     * Discards a simulation. Discarding an unknown or expired simulation does nothing.
+     *
+     * @param id the simulation ID
+     */
+    public void delete(UUID id) {
+        sessions.remove(id);
+    }
+
+    /**
+     * Returns the positions with simulated assignments of a simulation, built on the given snapshot.
+     *
+     * @param id       the simulation ID
+     * @param snapshot the snapshot used by the search
+     * @return the replacement positions by objectId (see {@link PositionSnapshot#findGroups(UUID, java.util.Collection, Map)})
+     * @throws ResourceNotFoundException if the simulation does not exist or has expired
+     */
+    public Map<String, PositionGroup> getOverrides(UUID id, PositionSnapshot snapshot) {
+        SimulationOverlay overlay = update(id, current -> current.rebase(snapshot)).overlay();
+        // A concurrent search may have rebased the overlay on a newer snapshot in the meantime
+        return overlay.snapshotVersion() == snapshot.version() ? overlay.overrides() : overlay.rebase(snapshot).overrides();
+    }
+
+    /**
+     * Applies a change to a simulation atomically and extends its expiry.
+     */
+    private Session update(UUID id, UnaryOperator<SimulationOverlay> change) {
+        Instant now = Instant.now();
+        Session updated = sessions.computeIfPresent(id, (key, session) -> session.expiresAt().isAfter(now)
+                ? new Session(id, change.apply(session.overlay()), now.plus(properties.getTtl()))
+                : null);
+        if (updated == null) {
+            throw new ResourceNotFoundException("Simulation not found or expired: " + id);
+        }
+        return updated;
+    }
+
+    private static SimulatedAssignment validate(SimulatedAssignmentDTO assignment) {
+        if (assignment == null || assignment.objectId() == null || assignment.objectId().isBlank()) {
+            throw new IllegalArgumentException("Object ID is required");
+        }
+        if (assignment.startDate() == null || assignment.endDate() == null) {
+            throw new IllegalArgumentException("Start date and end date are required");
+        }
+        if (assignment.startDate().isAfter(assignment.endDate())) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        if (assignment.percentage() == null || assignment.percentage().signum() <= 0
+                || assignment.percentage().compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Percentage must be between 0 and 100");
+        }
+        return new SimulatedAssignment(UUID.randomUUID(), assignment.objectId(), assignment.percentage(),
+                assignment.startDate(), assignment.endDate());
+    }
+
+    private static SimulationDTO toDto(Session session) {
+        return new SimulationDTO(
+                session.id(),
+                session.expiresAt(),
+                session.overlay().assignments().stream()
+                        .map(SimulatedAssignmentDTO::fromAssignment)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.domain.Position;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that increments the {@link PositionDataVersion} whenever a position is
+ * inserted, updated or deleted through JPA, regardless of which service performed the write.
+ * <p>
+ * Hibernate obtains this listener from the Spring context, so it can use constructor injection.
+ */
+@Component
+@RequiredArgsConstructor
+public class PositionChangeListener {
+
+    private final PositionDataVersion positionDataVersion;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onPositionChanged(Position position) {
+        positionDataVersion.increment();
+    }
+}
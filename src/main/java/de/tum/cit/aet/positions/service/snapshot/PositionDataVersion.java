@@ -0,0 +1,52 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version counter of the position data.
+ * <p>
+ * Every write to the positions table increments the version, so that derived in-memory data
+ * (such as the {@link PositionSnapshot}) can detect that it is outdated. Writes to grade values increment it
+ * as well, since cached position finder results depend on them.
+ */
+@Component
+public class PositionDataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Returns the current data version.
+     *
+     * @return the current version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Increments the data version.
+     * <p>
+     * If called within a transaction, the version is incremented again after the transaction completes.
+     * Readers that picked up the intermediate version before the commit would otherwise keep data derived
+     * from the uncommitted state.
+     */
+    public void increment() {
+        version.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PositionDataVersion.this);
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+}
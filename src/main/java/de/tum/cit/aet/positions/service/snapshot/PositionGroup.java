@@ -0,0 +1,99 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.service.availability.AssignmentInterval;
+import de.tum.cit.aet.positions.service.availability.AssignmentIntervals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * All rows of one position (objectId) together with its pre-sorted assignment intervals.
+ * <p>
+ * The rows are kept in candidate order (grade, start date); the first row is the representative
+ * that is shown in search results and whose grade is used for budget calculations.
+ *
+ * @param objectId    the position identifier
+ * @param rows        all candidate rows of the position, in candidate order
+ * @param assignments the assignment intervals of all rows that occupy capacity
+ */
+public record PositionGroup(String objectId, List<PositionRow> rows, AssignmentIntervals assignments) {
+
+    /**
+     * Creates a group from the rows of one position.
+     */
+    static PositionGroup of(String objectId, List<PositionRow> rows) {
+        List<AssignmentInterval> intervals = new ArrayList<>();
+        for (PositionRow row : rows) {
+            if (row.assignment()) {
+                intervals.add(AssignmentInterval.of(row.startDate(), row.endDate(), row.percentage()));
+            }
+        }
+        return new PositionGroup(objectId, List.copyOf(rows), AssignmentIntervals.of(intervals));
+    }
+
+    /**
+     * Returns this group with the vacancy timeline of its assignments, so that availability queries do not
+     * have to sweep the assignments. Used for the groups of a snapshot, which are queried by every search.
+     *
+     * @return a group with a timeline
+     */
+    PositionGroup withTimeline() {
+        AssignmentIntervals indexed = assignments.withTimeline();
+        return indexed == assignments ? this : new PositionGroup(objectId, rows, indexed);
+    }
+
+    /**
+     * Returns a copy of this group with additional rows, e.g. the hypothetical assignments of a simulation.
+     * The additional rows come after the existing ones, so the representative does not change.
+     *
+     * @param additionalRows the rows to add
+     * @return a new group with a timeline
+     */
+    public PositionGroup withAdditionalRows(List<PositionRow> additionalRows) {
+        List<PositionRow> combined = new ArrayList<>(rows.size() + additionalRows.size());
+        combined.addAll(rows);
+        combined.addAll(additionalRows);
+        return of(objectId, combined).withTimeline();
+    }
+
+    /**
+     * Returns the row representing this position in search results.
+     *
+     * @return the first row in candidate order
+     */
+    public PositionRow representative() {
+        return rows.getFirst();
+    }
+
+    /**
+     * Restricts the group to the rows matching the search filters.
+     *
+     * @param researchGroupId optional research group filter (null = all)
+     * @param relevanceTypes  optional relevance type filter (null = all)
+     * @return this group if all rows match, a reduced group if some rows match, or null if no row matches
+     */
+    PositionGroup filter(UUID researchGroupId, Collection<String> relevanceTypes) {
+        if (researchGroupId == null && relevanceTypes == null) {
+            return this;
+        }
+
+        List<PositionRow> matching = null;
+        for (int i = 0; i < rows.size(); i++) {
+            PositionRow row = rows.get(i);
+            boolean rowMatches = row.matches(researchGroupId, relevanceTypes);
+            if (!rowMatches && matching == null) {
+                // First mismatch: copy the matching rows seen so far
+                matching = new ArrayList<>(rows.subList(0, i));
+            } else if (rowMatches && matching != null) {
+                matching.add(row);
+            }
+        }
+
+        if (matching == null) {
+            return this;
+        }
+        return matching.isEmpty() ? null : of(objectId, matching);
+    }
+}
@@ -0,0 +1,68 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
+import de.tum.cit.aet.positions.service.availability.AvailabilityCalculator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable, detached copy of the position row fields used by the position finder.
+ * <p>
+ * Descriptive fields (object code and description) are not part of the snapshot; they are loaded for the
+ * returned results only.
+ *
+ * @param positionId          the position row ID
+ * @param objectId            the position identifier shared by all assignment rows of a position
+ * @param tariffGroup         the grade as imported (e.g., "E13 TVL")
+ * @param normalizedGrade     the grade normalized for grade value lookups (e.g., "E13")
+ * @param relevanceType       the position relevance type
+ * @param researchGroupId     the research group the row belongs to, or null
+ * @param percentage          the assigned percentage of this row
+ * @param startDate           the assignment start date
+ * @param endDate             the assignment end date
+ * @param assignment          whether the row occupies capacity (has a real personnel number)
+ */
+public record PositionRow(
+        UUID positionId,
+        String objectId,
+        String tariffGroup,
+        String normalizedGrade,
+        String relevanceType,
+        UUID researchGroupId,
+        BigDecimal percentage,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean assignment
+) {
+    /**
+     * Creates a PositionRow from a candidate projection row.
+     */
+    static PositionRow fromView(PositionCandidateView view) {
+        return new PositionRow(
+                view.id(),
+                view.objectId(),
+                view.tariffGroup(),
+                view.normalizedGrade() != null ? view.normalizedGrade() : "",
+                view.positionRelevanceType(),
+                view.researchGroupId(),
+                view.percentage(),
+                view.startDate(),
+                view.endDate(),
+                AvailabilityCalculator.isAssignment(view.personnelNumber())
+        );
+    }
+
+    /**
+     * Checks whether this row passes the optional search filters, using the same semantics as the
+     * candidate query (a present filter never matches a missing value).
+     */
+    boolean matches(UUID researchGroupFilter, Collection<String> relevanceTypeFilter) {
+        if (researchGroupFilter != null && !researchGroupFilter.equals(researchGroupId)) {
+            return false;
+        }
+        return relevanceTypeFilter == null || (relevanceType != null && relevanceTypeFilter.contains(relevanceType));
+    }
+}
@@ -0,0 +1,159 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable, pre-grouped view of all position finder candidates.
+ * <p>
+ * A snapshot is built once from the candidate rows and then shared by all searches until the position
+ * data changes. Filtering a snapshot by research group or relevance type never touches the database.
+ * <p>
+ * Every position carries its vacancy timeline, so the availability over any period is a range query. When the
+ * snapshot is rebuilt, positions whose rows did not change are taken over from the previous snapshot together
+ * with their timeline; only the timelines of changed positions are rebuilt.
+ *
+ * @param version               the data version the snapshot was built from
+ * @param groups                all positions in candidate order (grade, start date of the first row)
+ * @param groupsByResearchGroup positions that have at least one row in a research group, in candidate order
+ * @param groupsByObjectId      all positions by objectId
+ * @param rowCount              the total number of candidate rows
+ */
+public record PositionSnapshot(
+        long version,
+        List<PositionGroup> groups,
+        Map<UUID, List<PositionGroup>> groupsByResearchGroup,
+        Map<String, PositionGroup> groupsByObjectId,
+        int rowCount
+) {
+    /**
+     * Builds a snapshot from candidate rows ordered by grade and start date.
+     *
+     * @param version    the data version the rows were read at
+     * @param candidates the candidate position rows
+     * @return the snapshot
+     */
+    static PositionSnapshot build(long version, List<PositionCandidateView> candidates) {
+        return build(version, candidates, null);
+    }
+
+    /**
+     * Builds a snapshot from candidate rows ordered by grade and start date, reusing the unchanged positions
+     * of a previous snapshot.
+     *
+     * @param version    the data version the rows were read at
+     * @param candidates the candidate position rows
+     * @param previous   the previous snapshot, or null
+     * @return the snapshot
+     */
+    static PositionSnapshot build(long version, List<PositionCandidateView> candidates, PositionSnapshot previous) {
+        // Group rows by objectId, keeping the order of the first occurrence
+        Map<String, List<PositionRow>> rowsByObjectId = new LinkedHashMap<>();
+        int rowCount = 0;
+        for (PositionCandidateView candidate : candidates) {
+            if (candidate.objectId() != null) {
+                rowsByObjectId.computeIfAbsent(candidate.objectId(), k -> new ArrayList<>())
+                        .add(PositionRow.fromView(candidate));
+                rowCount++;
+            }
+        }
+
+        List<PositionGroup> groups = new ArrayList<>(rowsByObjectId.size());
+        Map<UUID, List<PositionGroup>> groupsByResearchGroup = new HashMap<>();
+        Map<String, PositionGroup> groupsByObjectId = HashMap.newHashMap(rowsByObjectId.size());
+        for (Map.Entry<String, List<PositionRow>> entry : rowsByObjectId.entrySet()) {
+            PositionGroup unchanged = previous != null ? previous.groupsByObjectId().get(entry.getKey()) : null;
+            PositionGroup group = unchanged != null && unchanged.rows().equals(entry.getValue())
+                    ? unchanged
+                    : PositionGroup.of(entry.getKey(), entry.getValue()).withTimeline();
+            groups.add(group);
+            groupsByObjectId.put(group.objectId(), group);
+
+            Set<UUID> researchGroupIds = new LinkedHashSet<>();
+            for (PositionRow row : group.rows()) {
+                if (row.researchGroupId() != null) {
+                    researchGroupIds.add(row.researchGroupId());
+                }
+            }
+            for (UUID researchGroupId : researchGroupIds) {
+                groupsByResearchGroup.computeIfAbsent(researchGroupId, k -> new ArrayList<>()).add(group);
+            }
+        }
+
+        groupsByResearchGroup.replaceAll((id, list) -> List.copyOf(list));
+        return new PositionSnapshot(version, List.copyOf(groups), Map.copyOf(groupsByResearchGroup),
+                Map.copyOf(groupsByObjectId), rowCount);
+    }
+
+    /**
+     * Returns the positions matching the search filters, in candidate order.
+     * <p>
+     * Positions with rows outside the filters are reduced to their matching rows, exactly like the
+     * candidate query would have returned them.
+     *
+     * @param researchGroupId optional research group filter (null = all)
+     * @param relevanceTypes  optional relevance type filter (null or empty = all)
+     * @return the matching positions
+     */
+    public List<PositionGroup> findGroups(UUID researchGroupId, Collection<String> relevanceTypes) {
+        Collection<String> relevanceTypeFilter = relevanceTypeFilter(relevanceTypes);
+
+        List<PositionGroup> source = researchGroupId != null
+                ? groupsByResearchGroup.getOrDefault(researchGroupId, List.of())
+                : groups;
+        if (researchGroupId == null && relevanceTypeFilter == null) {
+            return source;
+        }
+
+        List<PositionGroup> result = new ArrayList<>(source.size());
+        for (PositionGroup group : source) {
+            PositionGroup filtered = group.filter(researchGroupId, relevanceTypeFilter);
+            if (filtered != null) {
+                result.add(filtered);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions matching the search filters, in candidate order, with some positions replaced by
+     * modified copies (e.g. with the hypothetical assignments of a simulation).
+     * <p>
+     * The replacements are filtered like the positions of the snapshot. A replacement is only used for a position
+     * of the snapshot, so it must keep the rows of the position it replaces.
+     *
+     * @param researchGroupId optional research group filter (null = all)
+     * @param relevanceTypes  optional relevance type filter (null or empty = all)
+     * @param overrides       the replacement positions by objectId
+     * @return the matching positions
+     */
+    public List<PositionGroup> findGroups(UUID researchGroupId, Collection<String> relevanceTypes,
+                                          Map<String, PositionGroup> overrides) {
+        List<PositionGroup> groups = findGroups(researchGroupId, relevanceTypes);
+        if (overrides.isEmpty()) {
+            return groups;
+        }
+
+        Collection<String> relevanceTypeFilter = relevanceTypeFilter(relevanceTypes);
+        List<PositionGroup> result = new ArrayList<>(groups.size());
+        for (PositionGroup group : groups) {
+            PositionGroup override = overrides.get(group.objectId());
+            result.add(override != null ? override.filter(researchGroupId, relevanceTypeFilter) : group);
+        }
+        return result;
+    }
+
+    private static Collection<String> relevanceTypeFilter(Collection<String> relevanceTypes) {
+        return relevanceTypes == null || relevanceTypes.isEmpty() ? null : new HashSet<>(relevanceTypes);
+    }
+}
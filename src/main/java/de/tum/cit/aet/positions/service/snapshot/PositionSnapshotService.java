@@ -0,0 +1,94 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
+import de.tum.cit.aet.positions.repository.PositionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains the in-memory {@link PositionSnapshot} used by the position finder.
+ * <p>
+ * The snapshot is rebuilt eagerly after imports and deletions, and lazily on the next search if the
+ * {@link PositionDataVersion} shows any other write. A new snapshot replaces the old one atomically;
+ * searches that are already running keep working on the snapshot they started with.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PositionSnapshotService {
+
+    private final PositionRepository positionRepository;
+    private final PositionDataVersion positionDataVersion;
+    private final MeterRegistry meterRegistry;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile PositionSnapshot snapshot;
+
+    /**
+     * Returns the current snapshot, rebuilding it first if the position data has changed.
+     *
+     * @return an up-to-date snapshot
+     */
+    public PositionSnapshot getSnapshot() {
+        PositionSnapshot current = snapshot;
+        if (current != null && current.version() == positionDataVersion.current()) {
+            return current;
+        }
+
+        synchronized (rebuildLock) {
+            // Another thread may have rebuilt the snapshot while we were waiting
+            current = snapshot;
+            if (current != null && current.version() == positionDataVersion.current()) {
+                return current;
+            }
+            return rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot immediately. Called after bulk changes such as imports and deletions,
+     * so that the next search does not have to wait for the rebuild.
+     */
+    public void refresh() {
+        synchronized (rebuildLock) {
+            rebuild();
+        }
+    }
+
+    private PositionSnapshot rebuild() {
+        long start = System.nanoTime();
+
+        // Read the version before the data, so that concurrent writes leave the snapshot marked as outdated
+        long version = positionDataVersion.current();
+        List<PositionCandidateView> candidates = positionRepository.findCandidateViews();
+        long loaded = System.nanoTime();
+        PositionSnapshot rebuilt = PositionSnapshot.build(version, candidates, snapshot);
+        snapshot = rebuilt;
+        long end = System.nanoTime();
+
+        rebuildTimer("query").record(loaded - start, TimeUnit.NANOSECONDS);
+        rebuildTimer("build").record(end - loaded, TimeUnit.NANOSECONDS);
+
+        log.info("Rebuilt position snapshot (version {}): {} positions from {} rows in {} ms",
+                version, rebuilt.groups().size(), rebuilt.rowCount(), (end - start) / 1_000_000);
+        return rebuilt;
+    }
+
+    /**
+     * Returns the timer of a snapshot rebuild step: reading the candidate rows ({@code query}) or grouping them
+     * by position ({@code build}).
+     */
+    private Timer rebuildTimer(String step) {
+        return Timer.builder("staffplan.position.snapshot.rebuild")
+                .description("Time spent rebuilding the position finder snapshot")
+                .tag("step", step)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,251 @@
+package de.tum.cit.aet.positions.service.split;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * Finds the best combinations of positions that together can accommodate a requested percentage.
+ * <p>
+ * A combination of exactly {@code size} positions is valid if the sum of their available percentages reaches
+ * the target. Valid combinations are ranked by their excess over the target (smaller is better). Among
+ * combinations with the same excess, the one that uses positions with more availability first wins, and
+ * after that the one that uses positions earlier in the input.
+ * <p>
+ * The solver runs a depth-first branch-and-bound search over all positions sorted by availability (descending):
+ * <ul>
+ *   <li>A branch is cut off as soon as even the largest remaining positions cannot reach the target.
+ *       Since the positions are sorted, all following branches on the same level are cut off as well.</li>
+ *   <li>A branch is skipped if even the smallest remaining positions would exceed the target by at least
+ *       as much as the k-th best combination found so far.</li>
+ *   <li>On the last level, the best completions are located by binary search instead of being enumerated.</li>
+ * </ul>
+ * The k best combinations are kept in a bounded heap, so the result is exact for the full input
+ * without materializing the combinations.
+ */
+@Component
+public class SplitSuggestionSolver {
+
+    /**
+     * Finds the top combinations of exactly {@code size} positions that reach the target percentage.
+     *
+     * @param availableBasisPoints the available percentage of each position in basis points (must be positive)
+     * @param targetBasisPoints    the requested percentage in basis points
+     * @param size                 the exact number of positions per combination
+     * @param maxResults           the maximum number of combinations to return
+     * @return up to {@code maxResults} combinations, best first; each combination contains the
+     *         indices into {@code availableBasisPoints} in ascending order
+     */
+    public List<int[]> findTopCombinations(long[] availableBasisPoints, long targetBasisPoints, int size, int maxResults) {
+        return findTopCombinations(availableBasisPoints, targetBasisPoints, size, maxResults, explored -> { });
+    }
+
+    /**
+     * Finds the top combinations of exactly {@code size} positions that reach the target percentage, and reports
+     * how many valid combinations the search explored before the remaining ones could be pruned.
+     *
+     * @param availableBasisPoints the available percentage of each position in basis points (must be positive)
+     * @param targetBasisPoints    the requested percentage in basis points
+     * @param size                 the exact number of positions per combination
+     * @param maxResults           the maximum number of combinations to return
+     * @param exploredCombinations receives the number of explored combinations once the search is done
+     * @return up to {@code maxResults} combinations, best first; each combination contains the
+     *         indices into {@code availableBasisPoints} in ascending order
+     */
+    public List<int[]> findTopCombinations(long[] availableBasisPoints, long targetBasisPoints, int size, int maxResults,
+                                           LongConsumer exploredCombinations) {
+        int n = availableBasisPoints.length;
+        if (size < 1 || maxResults < 1 || n < size) {
+            exploredCombinations.accept(0);
+            return List.of();
+        }
+        Search search = new Search(availableBasisPoints, targetBasisPoints, size, maxResults);
+        List<int[]> result = search.run();
+        exploredCombinations.accept(search.explored);
+        return result;
+    }
+
+    /**
+     * A combination found during the search.
+     *
+     * @param excess    the sum of the available percentages minus the target, in basis points
+     * @param positions the chosen positions in sorted order (ascending)
+     */
+    private record Candidate(long excess, int[] positions) {
+    }
+
+    /**
+     * State of a single search.
+     */
+    private static final class Search {
+
+        private static final Comparator<Candidate> BEST_FIRST = Comparator
+                .comparingLong(Candidate::excess)
+                .thenComparing(Candidate::positions, Arrays::compare);
+
+        private final int size;
+        private final int maxResults;
+        private final long target;
+
+        // Original index and available percentage of each position, sorted by availability (descending)
+        private final int[] originalIndex;
+        private final long[] available;
+        // prefixSum[i] = available[0] + ... + available[i - 1]
+        private final long[] prefixSum;
+        // Index of the first position with the same availability, for each position
+        private final int[] blockStart;
+
+        private final int[] chosen;
+        private final PriorityQueue<Candidate> best;
+        // Valid combinations offered to the heap
+        private long explored;
+
+        Search(long[] availableBasisPoints, long target, int size, int maxResults) {
+            this.size = size;
+            this.maxResults = maxResults;
+            this.target = target;
+
+            int n = availableBasisPoints.length;
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            // Stable sort, so positions with equal availability keep their input order
+            Arrays.sort(order, (a, b) -> Long.compare(availableBasisPoints[b], availableBasisPoints[a]));
+
+            originalIndex = new int[n];
+            available = new long[n];
+            prefixSum = new long[n + 1];
+            blockStart = new int[n];
+            for (int i = 0; i < n; i++) {
+                originalIndex[i] = order[i];
+                available[i] = availableBasisPoints[order[i]];
+                prefixSum[i + 1] = prefixSum[i] + available[i];
+                blockStart[i] = i > 0 && available[i] == available[i - 1] ? blockStart[i - 1] : i;
+            }
+
+            chosen = new int[size];
+            best = new PriorityQueue<>(maxResults + 1, BEST_FIRST.reversed());
+        }
+
+        List<int[]> run() {
+            search(0, 0, 0);
+
+            List<Candidate> sorted = new ArrayList<>(best);
+            sorted.sort(BEST_FIRST);
+            List<int[]> result = new ArrayList<>(sorted.size());
+            for (Candidate candidate : sorted) {
+                int[] indices = new int[size];
+                for (int i = 0; i < size; i++) {
+                    indices[i] = originalIndex[candidate.positions()[i]];
+                }
+                Arrays.sort(indices);
+                result.add(indices);
+            }
+            return result;
+        }
+
+        /**
+         * Chooses the position for the given level from {@code available[from..]}.
+         */
+        private void search(int level, int from, long sum) {
+            int remaining = size - level;
+            int n = available.length;
+            if (remaining == 1) {
+                completeLast(from, sum);
+                return;
+            }
+
+            long smallestTail = prefixSum[n] - prefixSum[n - remaining + 1];
+            for (int i = from; i <= n - remaining; i++) {
+                // Upper bound: the largest remaining positions, which only get smaller for larger i
+                long maxSum = sum + prefixSum[i + remaining] - prefixSum[i];
+                if (maxSum < target) {
+                    return;
+                }
+
+                // Lower bound on the excess: the smallest positions after i
+                long minExcess = Math.max(0, sum + available[i] + smallestTail - target);
+                if (isFull() && minExcess >= best.peek().excess()) {
+                    continue;
+                }
+
+                chosen[level] = i;
+                search(level + 1, i + 1, sum + available[i]);
+            }
+        }
+
+        /**
+         * Chooses the last position from {@code available[from..]}.
+         * <p>
+         * Since the positions are sorted by availability, the valid completions form a contiguous range whose
+         * excess decreases towards its end. The range end is found by binary search, and the completions are
+         * offered block by block (positions with equal availability) from the end until they can no longer
+         * improve the result.
+         */
+        private void completeLast(int from, long sum) {
+            long needed = target - sum;
+            int last = lastAtLeast(from, needed);
+            if (last < from) {
+                return;
+            }
+
+            int end = last;
+            while (end >= from) {
+                long excess = sum + available[end] - target;
+                if (isFull() && excess >= best.peek().excess()) {
+                    return;
+                }
+
+                // All positions in this block have the same excess; at most maxResults of them can be kept
+                int start = Math.max(blockStart[end], from);
+                int limit = Math.min(end, start + maxResults - 1);
+                for (int i = start; i <= limit; i++) {
+                    chosen[size - 1] = i;
+                    offer(excess);
+                }
+                end = start - 1;
+            }
+        }
+
+        /**
+         * Returns the last index in {@code available[from..]} with an availability of at least {@code needed},
+         * or {@code from - 1} if there is none.
+         */
+        private int lastAtLeast(int from, long needed) {
+            int low = from;
+            int high = available.length - 1;
+            int result = from - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (available[mid] >= needed) {
+                    result = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return result;
+        }
+
+        private void offer(long excess) {
+            explored++;
+            Candidate candidate = new Candidate(excess, chosen.clone());
+            if (!isFull()) {
+                best.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        private boolean isFull() {
+            return best.size() >= maxResults;
+        }
+    }
+}
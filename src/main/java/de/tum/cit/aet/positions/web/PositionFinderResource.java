@@ -1,16 +1,30 @@
 package de.tum.cit.aet.positions.web;
 
 import de.tum.cit.aet.core.security.CurrentUserProvider;
+import de.tum.cit.aet.positions.dto.AssignmentPlanDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderBatchResultDTO;
 import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
 import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderStreamEventDTO;
+import de.tum.cit.aet.positions.dto.SimulatedAssignmentDTO;
+import de.tum.cit.aet.positions.dto.SimulationDTO;
 import de.tum.cit.aet.positions.repository.PositionRepository;
+import de.tum.cit.aet.positions.service.AssignmentPlanService;
 import de.tum.cit.aet.positions.service.PositionFinderService;
+import de.tum.cit.aet.positions.service.simulation.SimulationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -19,36 +33,218 @@ import java.util.List;
 public class PositionFinderResource {
 
     private final PositionFinderService positionFinderService;
+    private final AssignmentPlanService assignmentPlanService;
+    private final SimulationService simulationService;
     private final PositionRepository positionRepository;
     private final CurrentUserProvider currentUserProvider;
+    private final JsonMapper jsonMapper;
 
     /**
-     * Searches for positions matching the given criteria.
+     * Searches for positions matching the given criteria, optionally taking the hypothetical assignments of a
+     * what-if simulation into account.
      * Requires one of the roles: admin, job_manager.
      *
-     * @param request the search criteria
+     * @param request      the search criteria
+     * @param simulationId optional simulation whose assignments are applied to the positions
      * @return matching positions with scores
      */
     @PostMapping("/search")
     public ResponseEntity<PositionFinderResponseDTO> searchPositions(
-            @RequestBody PositionFinderRequestDTO request) {
+            @RequestBody PositionFinderRequestDTO request,
+            @RequestParam(required = false) UUID simulationId) {
 
         if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
             return ResponseEntity.status(403).build();
         }
 
-        log.info("Position finder search: grade={}, percentage={}%, dates={} to {}, relevanceTypes={}",
+        log.info("Position finder search: grade={}, percentage={}%, dates={} to {}, relevanceTypes={}, simulation={}",
                 request.employeeGrade(),
                 request.fillPercentageOrDefault(),
                 request.startDate(),
                 request.endDate(),
-                request.relevanceTypes());
+                request.relevanceTypes(),
+                simulationId);
 
-        PositionFinderResponseDTO response = positionFinderService.findPositions(request);
+        PositionFinderResponseDTO response = positionFinderService.findPositions(request, simulationId);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Searches for positions matching the given criteria and streams the results as newline-delimited JSON,
+     * so that clients can render the first results before the whole search has finished.
+     * The stream starts with a summary, followed by the matches in score order, the split suggestions
+     * (only if no single position matches) and a completion event.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param request the search criteria
+     * @param limit   the maximum number of matches to stream
+     * @return the stream of search events
+     */
+    @PostMapping("/search/stream")
+    public ResponseEntity<StreamingResponseBody> streamSearchPositions(
+            @RequestBody PositionFinderRequestDTO request,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        log.info("Position finder streaming search: grade={}, percentage={}%, dates={} to {}, limit={}",
+                request.employeeGrade(),
+                request.fillPercentageOrDefault(),
+                request.startDate(),
+                request.endDate(),
+                limit);
+
+        // Validate before the response is committed, so invalid requests still get a 400
+        PositionFinderService.StreamingSearch search = positionFinderService.prepareStreamingSearch(request, limit);
+
+        StreamingResponseBody body = outputStream -> search.run(event -> writeLine(outputStream, event));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Evaluates several searches at once, e.g. all hiring requests of a planning round.
+     * Grade values and candidate positions are loaded once for the whole batch.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param requests the search criteria of each request
+     * @return one result per request (response or validation error), in request order
+     */
+    @PostMapping("/search/batch")
+    public ResponseEntity<List<PositionFinderBatchResultDTO>> searchPositionsBatch(
+            @RequestBody List<PositionFinderRequestDTO> requests) {
+
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        log.info("Position finder batch search: {} requests", requests != null ? requests.size() : 0);
+
+        List<PositionFinderBatchResultDTO> results = positionFinderService.findPositionsBatch(requests);
+
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Plans several hiring requests jointly, so that no two requests with overlapping periods are placed on the
+     * same position. Requires one of the roles: admin, job_manager.
+     * <p>
+     * Requests are planned in groups of transitively overlapping periods. Within a group, a position holds at
+     * most one request, even if two requests of the group do not overlap each other (e.g. January to June and
+     * September to December, both overlapping a third request from May to October). Each request fills the
+     * position alone; several part-time requests are never combined on one position.
+     *
+     * @param requests the search criteria of each hiring request
+     * @return the conflict-free plan with the assigned position (or validation error) of each request
+     */
+    @PostMapping("/plan")
+    public ResponseEntity<AssignmentPlanDTO> planAssignments(
+            @RequestBody List<PositionFinderRequestDTO> requests) {
+
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        log.info("Position finder assignment plan: {} requests", requests != null ? requests.size() : 0);
+
+        AssignmentPlanDTO plan = assignmentPlanService.planAssignments(requests);
+
+        return ResponseEntity.ok(plan);
+    }
+
+    /**
+     * Starts a what-if simulation. Hypothetical assignments added to it are taken into account by searches with
+     * its ID, but never written to the database; the simulation expires when it is not used for a while.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @return the new simulation
+     */
+    @PostMapping("/simulations")
+    public ResponseEntity<SimulationDTO> createSimulation() {
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(simulationService.create());
+    }
+
+    /**
+     * Returns a what-if simulation with its hypothetical assignments.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param simulationId the simulation ID
+     * @return the simulation
+     */
+    @GetMapping("/simulations/{simulationId}")
+    public ResponseEntity<SimulationDTO> getSimulation(@PathVariable UUID simulationId) {
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(simulationService.get(simulationId));
+    }
+
+    /**
+     * Adds a hypothetical assignment to a what-if simulation.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param simulationId the simulation ID
+     * @param assignment   the position, percentage and period of the assignment
+     * @return the simulation with the new assignment
+     */
+    @PostMapping("/simulations/{simulationId}/assignments")
+    public ResponseEntity<SimulationDTO> addSimulatedAssignment(
+            @PathVariable UUID simulationId,
+            @RequestBody SimulatedAssignmentDTO assignment) {
+
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(simulationService.addAssignment(simulationId, assignment));
+    }
+
+    /**
+     * Removes a hypothetical assignment from a what-if simulation.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param simulationId the simulation ID
+     * @param assignmentId the ID of the assignment to remove
+     * @return the simulation without the assignment
+     */
+    @DeleteMapping("/simulations/{simulationId}/assignments/{assignmentId}")
+    public ResponseEntity<SimulationDTO> removeSimulatedAssignment(
+            @PathVariable UUID simulationId,
+            @PathVariable UUID assignmentId) {
+
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(simulationService.removeAssignment(simulationId, assignmentId));
+    }
+
+    /**
+     * Discards a what-if simulation.
+     * Requires one of the roles: admin, job_manager.
+     *
+     * @param simulationId the simulation ID
+     * @return empty response on success
+     */
+    @DeleteMapping("/simulations/{simulationId}")
+    public ResponseEntity<Void> deleteSimulation(@PathVariable UUID simulationId) {
+        if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        simulationService.delete(simulationId);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Returns all distinct relevance types for positions.
      * Requires one of the roles: admin, job_manager.
@@ -64,4 +260,17 @@ public class PositionFinderResource {
         List<String> relevanceTypes = positionRepository.findDistinctRelevanceTypes();
         return ResponseEntity.ok(relevanceTypes);
     }
+
+    /**
+     * Writes one event as a line of JSON and flushes it to the client.
+     */
+    private void writeLine(OutputStream outputStream, PositionFinderStreamEventDTO event) {
+        try {
+            outputStream.write(jsonMapper.writeValueAsBytes(event));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write position finder stream event", e);
+        }
+    }
 }
@@ -1,15 +1,23 @@
 package de.tum.cit.aet.positions.web;
 
 import de.tum.cit.aet.core.security.CurrentUserProvider;
+import de.tum.cit.aet.positions.dto.BudgetRollupDTO;
 import de.tum.cit.aet.positions.dto.PositionDTO;
+import de.tum.cit.aet.positions.dto.PositionImportResultDTO;
+import de.tum.cit.aet.positions.dto.VacancyForecastDTO;
+import de.tum.cit.aet.positions.service.BudgetRollupService;
 import de.tum.cit.aet.positions.service.PositionService;
+import de.tum.cit.aet.positions.service.VacancyForecastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +29,8 @@ import java.util.UUID;
 public class PositionResource {
 
     private final PositionService positionService;
+    private final VacancyForecastService vacancyForecastService;
+    private final BudgetRollupService budgetRollupService;
     private final CurrentUserProvider currentUserProvider;
 
     /**
@@ -59,16 +69,99 @@ public class PositionResource {
         return ResponseEntity.ok(positions);
     }
 
+    /**
+     * Returns the positions whose free percentage rises within a horizon, grouped by month and grade, with the
+     * freed budget per month and grade.
+     * Requires one of the roles: admin, job_manager, professor, or employee.
+     * Professors and employees only see positions from their own research group.
+     *
+     * @param months          the length of the horizon in months (default 6)
+     * @param from            the first day of the horizon (default today)
+     * @param researchGroupId optional research group ID to filter by
+     * @return the vacancy forecast
+     */
+    @GetMapping("/vacancies")
+    public ResponseEntity<VacancyForecastDTO> getVacancies(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) UUID researchGroupId) {
+
+        if (!currentUserProvider.hasAnyRole()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        LocalDate horizonStart = from != null ? from : LocalDate.now();
+        UUID groupFilter = researchGroupId;
+
+        // Professors and employees can only see their own research group's positions
+        if ((currentUserProvider.isProfessor() || currentUserProvider.isEmployee())
+                && !currentUserProvider.isAdmin() && !currentUserProvider.isJobManager()) {
+            var userResearchGroup = currentUserProvider.getUser().getResearchGroup();
+            if (userResearchGroup == null) {
+                return ResponseEntity.ok(vacancyForecastService.emptyForecast(horizonStart, months));
+            }
+            groupFilter = userResearchGroup.getId();
+        }
+
+        return ResponseEntity.ok(vacancyForecastService.forecast(horizonStart, months, groupFilter));
+    }
+
+    /**
+     * Returns the monthly budget of the positions per research group, grade and relevance type: the capacity
+     * (sum of the monthly grade values), the budget used by assignments and the available budget.
+     * Requires one of the roles: admin, job_manager, professor, or employee.
+     * Professors and employees only see their own research group.
+     *
+     * Ranges outside the months covered by the rollups (24 months back to 59 months ahead) return 400.
+     *
+     * @param from            the first month (default the current month)
+     * @param months          the number of months (default 12)
+     * @param researchGroupId optional research group ID to filter by
+     * @return the budget rollups ordered by month, research group, grade and relevance type
+     */
+    @GetMapping("/aggregates/budget")
+    public ResponseEntity<List<BudgetRollupDTO>> getBudgetRollups(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(defaultValue = "12") int months,
+            @RequestParam(required = false) UUID researchGroupId) {
+
+        if (!currentUserProvider.hasAnyRole()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        YearMonth firstMonth = from != null ? from : YearMonth.now();
+        UUID groupFilter = researchGroupId;
+
+        // Professors and employees can only see their own research group's budget
+        if ((currentUserProvider.isProfessor() || currentUserProvider.isEmployee())
+                && !currentUserProvider.isAdmin() && !currentUserProvider.isJobManager()) {
+            var userResearchGroup = currentUserProvider.getUser().getResearchGroup();
+            if (userResearchGroup == null) {
+                return ResponseEntity.ok(List.of());
+            }
+            groupFilter = userResearchGroup.getId();
+        }
+
+        return ResponseEntity.ok(budgetRollupService.getRollups(firstMonth, months, groupFilter));
+    }
+
     /**
      * Imports positions from a CSV file.
+     * <p>
+     * In {@code append} mode, all positions of the file are added to the stored ones. In {@code delta} mode, the
+     * file replaces the stored positions, but only the positions that differ are inserted, updated or deleted;
+     * files with invalid lines or without positions are rejected with 400 and change nothing.
      *
      * @param file the CSV file to import
-     * @return import result with count of imported positions
+     * @param mode the import mode, {@code append} (default) or {@code delta}
+     * @return import result with the counts of imported positions and skipped lines, the written positions per
+     * operation, and the import rate
      * @throws IOException if file reading fails
      */
     @PostMapping("/import")
     public ResponseEntity<Map<String, Object>> importPositions(
-            @RequestParam("file") MultipartFile file) throws IOException {
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "append") String mode) throws IOException {
 
         if (!currentUserProvider.isJobManager() && !currentUserProvider.isAdmin()) {
             return ResponseEntity.status(403)
@@ -80,12 +173,36 @@ public class PositionResource {
                     .body(Map.of("error", "Please upload a CSV file"));
         }
 
+        if (!"append".equals(mode) && !"delta".equals(mode)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Import mode must be 'append' or 'delta'"));
+        }
+
         // For now, import positions without research group (can be added later)
-        int count = positionService.importFromCsv(file, null);
+        PositionImportResultDTO result = "delta".equals(mode)
+                ? positionService.importDeltaFromCsv(file, null)
+                : positionService.importFromCsv(file, null);
+        if (result.rejected()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", result.skippedLines() > 0
+                            ? "The file has invalid lines, no positions were changed"
+                            : "The file contains no positions, no positions were changed",
+                    "skipped", result.skippedLines(),
+                    "errors", result.errors()
+            ));
+        }
 
         return ResponseEntity.ok(Map.of(
                 "message", "Successfully imported positions",
-                "count", count
+                "count", result.importedCount(),
+                "skipped", result.skippedLines(),
+                "inserted", result.insertedCount(),
+                "updated", result.updatedCount(),
+                "deleted", result.deletedCount(),
+                "unchanged", result.unchangedCount(),
+                "errors", result.errors(),
+                "durationMillis", result.durationMillis(),
+                "rowsPerSecond", result.rowsPerSecond()
         ));
     }
 
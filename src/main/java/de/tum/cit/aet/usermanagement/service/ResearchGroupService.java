@@ -11,15 +11,15 @@ import de.tum.cit.aet.usermanagement.dto.ResearchGroupImportResultDTO;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
-import de.tum.cit.aet.util.CsvParser;
+import de.tum.cit.aet.util.CsvTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
@@ -187,31 +187,23 @@ public class ResearchGroupService {
     public ResearchGroupImportResultDTO importFromCsv(MultipartFile file) {
         ResearchGroupImportResultDTO.Builder result = ResearchGroupImportResultDTO.builder();
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
 
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
+            CsvTokenizer tokenizer = CsvTokenizer.open(reader);
+            if (!tokenizer.nextRecord()) {
                 result.addError("CSV file is empty");
                 return result.build();
             }
 
-            headerLine = CsvParser.stripBom(headerLine);
+            Map<String, Integer> headerIndices = mapHeaderIndices(tokenizer.values());
 
-            char delimiter = CsvParser.detectDelimiter(headerLine);
-            String[] headers = CsvParser.parseLine(headerLine, delimiter);
-            Map<String, Integer> headerIndices = mapHeaderIndices(headers);
-
-            String line;
-            int lineNumber = 1;
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                if (line.trim().isEmpty()) {
+            while (tokenizer.nextRecord()) {
+                if (tokenizer.isEmptyRecord()) {
                     continue;
                 }
+                int lineNumber = tokenizer.lineNumber();
                 try {
-                    String[] values = CsvParser.parseLine(line, delimiter);
-                    processImportRecord(values, headerIndices, result, lineNumber);
+                    processImportRecord(tokenizer, headerIndices, result, lineNumber);
                 } catch (Exception e) {
                     log.warn("Failed to import line {}: {}", lineNumber, e.getMessage());
                     result.addError("Line " + lineNumber + ": " + e.getMessage());
@@ -236,15 +228,15 @@ public class ResearchGroupService {
         return indices;
     }
 
-    private void processImportRecord(String[] values, Map<String, Integer> headerIndices,
+    private void processImportRecord(CsvTokenizer record, Map<String, Integer> headerIndices,
                                      ResearchGroupImportResultDTO.Builder result, int lineNumber) {
-        String firstName = getValueByHeader(values, headerIndices, "firstname");
-        String lastName = getValueByHeader(values, headerIndices, "lastname");
-        String groupName = getValueByHeader(values, headerIndices, "groupname");
-        String abbreviation = getValueByHeader(values, headerIndices, "abbreviation");
-        String department = getValueByHeader(values, headerIndices, "department");
-        String email = getValueByHeader(values, headerIndices, "email");
-        String login = getValueByHeader(values, headerIndices, "login");
+        String firstName = getValueByHeader(record, headerIndices, "firstname");
+        String lastName = getValueByHeader(record, headerIndices, "lastname");
+        String groupName = getValueByHeader(record, headerIndices, "groupname");
+        String abbreviation = getValueByHeader(record, headerIndices, "abbreviation");
+        String department = getValueByHeader(record, headerIndices, "department");
+        String email = getValueByHeader(record, headerIndices, "email");
+        String login = getValueByHeader(record, headerIndices, "login");
 
         if (groupName == null || groupName.isBlank()) {
             result.addError("Line " + lineNumber + ": groupName is required");
@@ -491,13 +483,9 @@ public class ResearchGroupService {
         }
     }
 
-    private String getValueByHeader(String[] values, Map<String, Integer> headerIndices, String header) {
+    private String getValueByHeader(CsvTokenizer record, Map<String, Integer> headerIndices, String header) {
         Integer index = headerIndices.get(header);
-        if (index == null || index >= values.length) {
-            return null;
-        }
-        String value = values[index].trim();
-        return value.isEmpty() ? null : value;
+        return index == null ? null : record.value(index);
     }
 
     private void updateEntityFromDto(ResearchGroup entity, ResearchGroupDTO dto) {
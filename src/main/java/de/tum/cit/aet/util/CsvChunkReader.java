@@ -0,0 +1,128 @@
+package de.tum.cit.aet.util;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits CSV input into chunks of whole records, so that the chunks can be tokenized independently, e.g. on
+ * several threads.
+ * <p>
+ * A chunk ends after the first line feed that follows the requested minimum length and is not inside a quoted
+ * field. Quotes are tracked like in {@link CsvTokenizer}: every quote toggles the quoted state, which also holds for
+ * escaped quotes ({@code ""}). Files that only use {@code \r} as line break are therefore returned as one chunk.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class CsvChunkReader {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Whole records of the input.
+     *
+     * @param chars           the characters of the chunk
+     * @param length          the number of characters used in {@code chars}
+     * @param firstLineNumber the line number of the first line of the chunk, counting from 1
+     */
+    public record Chunk(char[] chars, int length, int firstLineNumber) {
+        /**
+         * Returns a reader over the characters of the chunk.
+         *
+         * @return the reader
+         */
+        public Reader reader() {
+            return new CharArrayReader(chars, 0, length);
+        }
+    }
+
+    private final Reader reader;
+
+    // Characters read but not yet returned: [position, limit)
+    private char[] buffer = new char[READ_BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private boolean inQuotes;
+    private int nextLineNumber = 1;
+
+    /**
+     * Creates a chunk reader.
+     *
+     * @param reader the input; not closed by the chunk reader
+     */
+    public CsvChunkReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next chunk.
+     *
+     * @param minLength the minimum number of characters of the chunk; the chunk is shorter only at the end of the
+     *                  input. Use 1 to read a single record, e.g. the header.
+     * @return the chunk, or null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    public Chunk next(int minLength) throws IOException {
+        // Offset of the first character not scanned yet, relative to position
+        int scanned = 0;
+        int lineBreaks = 0;
+        while (true) {
+            if (position + scanned == limit && !fill(minLength)) {
+                if (position == limit) {
+                    return null;
+                }
+                // The last chunk ends with the input
+                return take(limit, lineBreaks);
+            }
+
+            for (; position + scanned < limit; scanned++) {
+                char c = buffer[position + scanned];
+                if (c == '"') {
+                    inQuotes = !inQuotes;
+                } else if (c == '\n') {
+                    lineBreaks++;
+                    if (!inQuotes && scanned + 1 >= minLength) {
+                        return take(position + scanned + 1, lineBreaks);
+                    }
+                }
+            }
+        }
+    }
+
+    private Chunk take(int end, int lineBreaks) {
+        Chunk chunk = new Chunk(Arrays.copyOfRange(buffer, position, end), end - position, nextLineNumber);
+        position = end;
+        nextLineNumber += lineBreaks;
+        return chunk;
+    }
+
+    /**
+     * Reads more input after the unreturned characters, growing the buffer if needed.
+     *
+     * @return true if characters were read
+     */
+    private boolean fill(int minLength) throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int pending = limit - position;
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, pending);
+            position = 0;
+            limit = pending;
+        }
+        if (limit == buffer.length || buffer.length < minLength + READ_BUFFER_SIZE) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, minLength + READ_BUFFER_SIZE));
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return read > 0 || fill(minLength);
+    }
+}
@@ -0,0 +1,335 @@
+package de.tum.cit.aet.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Reader-driven CSV tokenizer with a cursor API.
+ * <p>
+ * {@link #nextRecord()} advances to the next record. The unquoted characters of all fields of the current record
+ * are kept in one reusable char buffer, and each field is described by its offsets into that buffer (see
+ * {@link #buffer()}, {@link #start(int)} and {@link #end(int)}), so reading a file does not allocate per field.
+ * Strings are only created for the fields a caller asks for with {@link #value(int)}.
+ * <p>
+ * Quoting follows RFC 4180: quoted fields may contain the delimiter and line breaks, and {@code ""} within a quoted
+ * field is an escaped quote. Like the former line parser, a quote anywhere in a field starts a quoted section, and
+ * field values are trimmed. Records end at {@code \n}, {@code \r\n} or {@code \r}. An unterminated quote extends
+ * the last field to the end of the input.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class CsvTokenizer {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int INITIAL_FIELD_CAPACITY = 32;
+
+    private final Reader reader;
+    private final char delimiter;
+
+    // Input buffer: characters [position, limit) have not been consumed yet
+    private final char[] input;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    // Unquoted characters of the current record, and the trimmed offsets of its fields
+    private char[] record = new char[INITIAL_BUFFER_SIZE];
+    private int recordLength;
+    private int[] starts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] ends = new int[INITIAL_FIELD_CAPACITY];
+    private int fieldCount;
+
+    private int lineNumber;
+    private int nextLineNumber = 1;
+
+    private CsvTokenizer(Reader reader, char delimiter, char[] input, int position, int limit, boolean endOfInput) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.input = input;
+        this.position = position;
+        this.limit = limit;
+        this.endOfInput = endOfInput;
+    }
+
+    /**
+     * Creates a tokenizer with a known delimiter.
+     *
+     * @param reader    the input; not closed by the tokenizer
+     * @param delimiter the field delimiter
+     * @return the tokenizer, positioned before the first record
+     */
+    public static CsvTokenizer of(Reader reader, char delimiter) {
+        return new CsvTokenizer(reader, delimiter, new char[INITIAL_BUFFER_SIZE], 0, 0, false);
+    }
+
+    /**
+     * Creates a tokenizer for a part of a file, e.g. a {@link CsvChunkReader.Chunk}, with a known delimiter.
+     *
+     * @param reader          the input; not closed by the tokenizer
+     * @param delimiter       the field delimiter
+     * @param firstLineNumber the line number of the first line of the input within the file
+     * @return the tokenizer, positioned before the first record
+     */
+    public static CsvTokenizer of(Reader reader, char delimiter, int firstLineNumber) {
+        CsvTokenizer tokenizer = of(reader, delimiter);
+        tokenizer.nextLineNumber = firstLineNumber;
+        return tokenizer;
+    }
+
+    /**
+     * Creates a tokenizer for a file with a header line: strips a UTF-8 BOM and detects the delimiter from the
+     * first line (see {@link CsvParser#detectDelimiter}).
+     *
+     * @param reader the input; not closed by the tokenizer
+     * @return the tokenizer, positioned before the header record
+     * @throws IOException if the input cannot be read
+     */
+    public static CsvTokenizer open(Reader reader) throws IOException {
+        char[] input = new char[INITIAL_BUFFER_SIZE];
+        int limit = 0;
+        boolean endOfInput = false;
+        // Read until the first line is complete or the buffer is full
+        while (limit < input.length && indexOfLineBreak(input, limit) < 0) {
+            int read = reader.read(input, limit, input.length - limit);
+            if (read < 0) {
+                endOfInput = true;
+                break;
+            }
+            limit += read;
+        }
+
+        int position = limit > 0 && input[0] == '\uFEFF' ? 1 : 0;
+        int lineEnd = indexOfLineBreak(input, limit);
+        CharSequence firstLine = CharBuffer.wrap(input, position, (lineEnd < 0 ? limit : lineEnd) - position);
+        char delimiter = CsvParser.detectDelimiter(firstLine);
+        return new CsvTokenizer(reader, delimiter, input, position, limit, endOfInput);
+    }
+
+    private static int indexOfLineBreak(char[] chars, int length) {
+        for (int i = 0; i < length; i++) {
+            if (chars[i] == '\n' || chars[i] == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the field delimiter.
+     *
+     * @return the delimiter
+     */
+    public char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return true if there is a next record, false at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    public boolean nextRecord() throws IOException {
+        if (position == limit && !fill()) {
+            return false;
+        }
+
+        lineNumber = nextLineNumber;
+        recordLength = 0;
+        fieldCount = 0;
+        int fieldStart = 0;
+        boolean inQuotes = false;
+
+        while (position < limit || fill()) {
+            char c = input[position++];
+            if (inQuotes) {
+                if (c == '"') {
+                    if (position < limit || fill()) {
+                        if (input[position] == '"') {
+                            position++;
+                            append(c);
+                            continue;
+                        }
+                    }
+                    inQuotes = false;
+                } else {
+                    if (c == '\n' || (c == '\r' && !followedByLineFeed())) {
+                        nextLineNumber++;
+                    }
+                    append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == delimiter) {
+                endField(fieldStart);
+                fieldStart = recordLength;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && followedByLineFeed()) {
+                    position++;
+                }
+                nextLineNumber++;
+                endField(fieldStart);
+                return true;
+            } else {
+                append(c);
+            }
+        }
+
+        endField(fieldStart);
+        return true;
+    }
+
+    private boolean followedByLineFeed() throws IOException {
+        return (position < limit || fill()) && input[position] == '\n';
+    }
+
+    /**
+     * Refills the input buffer.
+     *
+     * @return true if characters are available
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int read = reader.read(input, 0, input.length);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return read > 0 || fill();
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, record.length * 2);
+        }
+        record[recordLength++] = c;
+    }
+
+    /**
+     * Stores the trimmed offsets of the field that started at the given offset.
+     */
+    private void endField(int fieldStart) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+            ends = Arrays.copyOf(ends, ends.length * 2);
+        }
+        int start = fieldStart;
+        int end = recordLength;
+        while (start < end && record[start] <= ' ') {
+            start++;
+        }
+        while (end > start && record[end - 1] <= ' ') {
+            end--;
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Returns the line number of the first line of the current record, counting from 1.
+     *
+     * @return the line number
+     */
+    public int lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the number of fields of the current record.
+     *
+     * @return the number of fields
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns whether the current record is an empty line, i.e. a single blank field.
+     *
+     * @return true if the record is empty
+     */
+    public boolean isEmptyRecord() {
+        return fieldCount == 1 && starts[0] == ends[0];
+    }
+
+    /**
+     * Returns the buffer holding the unquoted characters of the current record. Only valid until the next call
+     * to {@link #nextRecord()}.
+     *
+     * @return the record buffer
+     */
+    public char[] buffer() {
+        return record;
+    }
+
+    /**
+     * Returns the offset of the first character of a trimmed field in {@link #buffer()}.
+     *
+     * @param index the field index
+     * @return the start offset
+     */
+    public int start(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Returns the offset after the last character of a trimmed field in {@link #buffer()}.
+     *
+     * @param index the field index
+     * @return the end offset (exclusive)
+     */
+    public int end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Returns the trimmed value of a field.
+     *
+     * @param index the field index; may be negative or beyond the last field
+     * @return the value, or null if the field does not exist or is blank
+     */
+    public String value(int index) {
+        if (index < 0 || index >= fieldCount || starts[index] == ends[index]) {
+            return null;
+        }
+        return new String(record, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Returns the trimmed values of all fields of the current record, e.g. for header lines.
+     *
+     * @return the values; blank fields are empty strings
+     */
+    public String[] values() {
+        String[] values = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            values[i] = new String(record, starts[i], ends[i] - starts[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the fields of the current record joined by the delimiter, shortened to a maximum length, e.g. for
+     * log messages about records that could not be imported.
+     *
+     * @param maxLength the maximum length
+     * @return the preview
+     */
+    public String preview(int maxLength) {
+        StringBuilder preview = new StringBuilder();
+        for (int i = 0; i < fieldCount && preview.length() < maxLength; i++) {
+            if (i > 0) {
+                preview.append(delimiter);
+            }
+            preview.append(record, starts[i], ends[i] - starts[i]);
+        }
+        return preview.length() > maxLength ? preview.substring(0, maxLength) : preview.toString();
+    }
+}
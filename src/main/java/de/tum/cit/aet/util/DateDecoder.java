@@ -0,0 +1,174 @@
+package de.tum.cit.aet.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes the dates of CSV imports without exceptions.
+ * <p>
+ * Supported formats, identified by their separator:
+ * <ul>
+ *   <li>US: {@code M/d/yy} or {@code M/d/yyyy} (e.g. 7/16/21, 07/16/2021); two-digit years are 2000 to 2099</li>
+ *   <li>German: {@code dd.MM.yyyy} (e.g. 16.07.2021)</li>
+ *   <li>ISO: {@code yyyy-MM-dd} (e.g. 2021-07-16)</li>
+ * </ul>
+ * Four-digit years below 100 are mapped to 2000-2030 (00-30) or 1931-1999 (31-99), and days beyond the end of the
+ * month are moved to its last day, like the smart resolution of {@code DateTimeFormatter}.
+ * <p>
+ * The format of a file is detected once from the first decoded value and tried first for all following values.
+ * Values in another supported format are still decoded. Exports repeat the same few dates many times, so decoded
+ * values are cached.
+ * <p>
+ * Instances are not thread-safe; use one per import or per chunk of an import.
+ */
+public final class DateDecoder {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private enum Format {
+        US, GERMAN, ISO
+    }
+
+    private static final Format[] FORMATS = Format.values();
+
+    private final Map<String, LocalDate> cache = new HashMap<>();
+    private Format format;
+
+    /**
+     * Decodes a date.
+     *
+     * @param value the trimmed value, or null
+     * @return the date, or null if the value is null, empty or not a date in a supported format
+     */
+    public LocalDate decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        LocalDate date = cache.get(value);
+        if (date != null) {
+            return date;
+        }
+
+        if (format == null) {
+            format = detect(value);
+        }
+        if (format != null) {
+            date = decode(value, format);
+        }
+        for (int i = 0; date == null && i < FORMATS.length; i++) {
+            if (FORMATS[i] != format) {
+                date = decode(value, FORMATS[i]);
+            }
+        }
+
+        if (date != null && cache.size() < MAX_CACHE_SIZE) {
+            cache.put(value, date);
+        }
+        return date;
+    }
+
+    private static Format detect(String value) {
+        if (value.indexOf('/') >= 0) {
+            return Format.US;
+        }
+        if (value.indexOf('.') >= 0) {
+            return Format.GERMAN;
+        }
+        if (value.indexOf('-') >= 0) {
+            return Format.ISO;
+        }
+        return null;
+    }
+
+    private static LocalDate decode(String value, Format format) {
+        return switch (format) {
+            case US -> decodeUs(value);
+            case GERMAN -> decodeFixedWidth(value, '.', 6, 3, 0);
+            case ISO -> decodeFixedWidth(value, '-', 0, 5, 8);
+        };
+    }
+
+    /**
+     * Decodes {@code M/d/yy} and {@code M/d/yyyy}; month and day may have any number of digits.
+     */
+    private static LocalDate decodeUs(String value) {
+        int firstSlash = value.indexOf('/');
+        int secondSlash = value.indexOf('/', firstSlash + 1);
+        if (firstSlash < 0 || secondSlash < 0) {
+            return null;
+        }
+        int yearLength = value.length() - secondSlash - 1;
+        if (yearLength != 2 && yearLength != 4) {
+            return null;
+        }
+        int month = digits(value, 0, firstSlash);
+        int day = digits(value, firstSlash + 1, secondSlash);
+        int year = digits(value, secondSlash + 1, value.length());
+        if (year < 0) {
+            return null;
+        }
+        return toDate(yearLength == 2 ? 2000 + year : fourDigitYear(year), month, day);
+    }
+
+    /**
+     * Decodes a ten-character date with a four-digit year and two-digit month and day at the given offsets.
+     */
+    private static LocalDate decodeFixedWidth(String value, char separator, int yearOffset, int monthOffset, int dayOffset) {
+        if (value.length() != 10) {
+            return null;
+        }
+        // The month is always the second component; the separators precede the second and the third one
+        if (value.charAt(monthOffset - 1) != separator || value.charAt(Math.max(yearOffset, dayOffset) - 1) != separator) {
+            return null;
+        }
+        int year = digits(value, yearOffset, yearOffset + 4);
+        if (year < 0) {
+            return null;
+        }
+        return toDate(fourDigitYear(year), digits(value, monthOffset, monthOffset + 2), digits(value, dayOffset, dayOffset + 2));
+    }
+
+    /**
+     * Parses the digits in [from, to).
+     *
+     * @return the value (saturated at 100 000), or -1 if the range is empty or contains a non-digit
+     */
+    private static int digits(String value, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = Math.min(result * 10 + (c - '0'), 100_000);
+        }
+        return result;
+    }
+
+    /**
+     * Maps four-digit years below 100 to 2000-2030 or 1931-1999; returns -1 for year 0.
+     */
+    private static int fourDigitYear(int year) {
+        if (year == 0) {
+            return -1;
+        }
+        if (year < 100) {
+            return year <= 30 ? 2000 + year : 1900 + year;
+        }
+        return year;
+    }
+
+    private static LocalDate toDate(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        int monthLength = Month.of(month).length(Year.isLeap(year));
+        return LocalDate.of(year, month, Math.min(day, monthLength));
+    }
+}
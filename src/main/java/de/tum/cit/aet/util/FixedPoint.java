@@ -0,0 +1,129 @@
+package de.tum.cit.aet.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic for the money and percentage values used by the position finder.
+ * <p>
+ * Percentages are represented in basis points (1/100 of a percent, so 100% = 10,000) and money in cents.
+ * Both match the scale of the database columns ({@code scale = 2}), so converting a persisted value is exact
+ * and all calculations on the hot path run on primitive {@code long}s. Values are converted back to
+ * {@link BigDecimal} (with scale 2) only when building response DTOs.
+ * <p>
+ * All divisions round {@link RoundingMode#HALF_UP}, exactly like the {@link BigDecimal} calculations they replace.
+ */
+public final class FixedPoint {
+
+    /**
+     * Number of basis points in one percent.
+     */
+    public static final long BASIS_POINTS_PER_PERCENT = 100;
+
+    /**
+     * 100% in basis points.
+     */
+    public static final long HUNDRED_PERCENT = 100 * BASIS_POINTS_PER_PERCENT;
+
+    private FixedPoint() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Converts a percentage (e.g., 50.25) to basis points (e.g., 5025).
+     * Values with more than two decimal places are rounded half up.
+     *
+     * @param percentage the percentage, may be null
+     * @return the percentage in basis points, or 0 if the percentage is null
+     */
+    public static long toBasisPoints(BigDecimal percentage) {
+        if (percentage == null) {
+            return 0;
+        }
+        return percentage.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts a whole percentage (e.g., 50) to basis points (e.g., 5000).
+     *
+     * @param percentage the percentage
+     * @return the percentage in basis points
+     */
+    public static long toBasisPoints(int percentage) {
+        return percentage * BASIS_POINTS_PER_PERCENT;
+    }
+
+    /**
+     * Converts a money amount (e.g., 4321.50) to cents (e.g., 432150).
+     * Values with more than two decimal places are rounded half up.
+     *
+     * @param amount the amount, may be null
+     * @return the amount in cents, or 0 if the amount is null
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts basis points back to a percentage with scale 2.
+     *
+     * @param basisPoints the percentage in basis points
+     * @return the percentage (e.g., 50.25)
+     */
+    public static BigDecimal toPercentage(long basisPoints) {
+        return BigDecimal.valueOf(basisPoints, 2);
+    }
+
+    /**
+     * Converts cents back to a money amount with scale 2.
+     *
+     * @param cents the amount in cents
+     * @return the amount (e.g., 4321.50)
+     */
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Calculates the given share of a monthly amount, rounded half up to whole cents.
+     * Equivalent to {@code amount.multiply(percentage).divide(100, 2, HALF_UP)}.
+     *
+     * @param cents       the full amount in cents
+     * @param basisPoints the share in basis points
+     * @return the prorated amount in cents
+     */
+    public static long prorate(long cents, long basisPoints) {
+        return divideHalfUp(cents * basisPoints, HUNDRED_PERCENT);
+    }
+
+    /**
+     * Calculates {@code part / whole} as a percentage, with the ratio rounded half up to four decimal places.
+     * Equivalent to {@code part.divide(whole, 4, HALF_UP).multiply(100).doubleValue()}.
+     *
+     * @param part  the part, in the same unit as {@code whole}
+     * @param whole the whole, must not be zero
+     * @return the ratio in percent (e.g., 15.23)
+     */
+    public static double ratioPercentage(long part, long whole) {
+        return divideHalfUp(part * HUNDRED_PERCENT, whole) / (double) BASIS_POINTS_PER_PERCENT;
+    }
+
+    /**
+     * Divides two longs, rounding half up (ties away from zero), like {@link RoundingMode#HALF_UP}.
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor, must not be zero
+     * @return the rounded quotient
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
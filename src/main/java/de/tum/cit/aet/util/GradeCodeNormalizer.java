@@ -0,0 +1,39 @@
+package de.tum.cit.aet.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Shared utility for normalizing salary grade codes (e.g., tariff groups from position imports)
+ * so that they can be matched against the grade codes of {@code GradeValue} entries.
+ */
+public final class GradeCodeNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Common suffixes like "TVL", "TVÖD", "UE" (Überleitungsentgelt), "A.Z." etc.
+    private static final Pattern SUFFIXES = Pattern.compile("(TVL|TVÖD|TV-L|TVOED|UE|Ü|A\\.Z\\.)$");
+
+    private GradeCodeNormalizer() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Normalizes a grade code for matching.
+     * Removes spaces, converts to uppercase, and handles common variations.
+     * Examples: "E 13" -> "E13", "e13" -> "E13", "E13 TVL" -> "E13", "E13UE" -> "E13", "A13 A.Z." -> "A13"
+     *
+     * @param gradeCode the grade code to normalize
+     * @return the normalized grade code, or an empty string if the grade code is null or blank
+     */
+    public static String normalize(String gradeCode) {
+        if (gradeCode == null || gradeCode.isBlank()) {
+            return "";
+        }
+        // Remove spaces and convert to uppercase
+        String normalized = WHITESPACE.matcher(gradeCode.toUpperCase()).replaceAll("");
+        // Remove common suffixes
+        // Handle cases like "E13A" or "E13B" -> keep as is (these are distinct grades)
+        // Handle cases like "E9A" vs "E9a" -> normalize to uppercase (already done)
+        return SUFFIXES.matcher(normalized).replaceAll("");
+    }
+}
@@ -0,0 +1,77 @@
+package de.tum.cit.aet.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best {@code k} of a sequence of elements without sorting the whole sequence.
+ * <p>
+ * The elements are kept in a bounded heap whose head is the worst element kept so far, so offering an element
+ * costs O(log k) and the memory stays bounded by {@code k}. The order must be total (e.g. broken by the
+ * position in the input) for the result to be deterministic. Not thread-safe.
+ *
+ * @param <T> the element type
+ */
+public final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> bestFirst;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Creates an empty collection of the best elements.
+     *
+     * @param k         the maximum number of elements to keep (at least 1)
+     * @param bestFirst the order of the elements, best first
+     * @throws IllegalArgumentException if {@code k} is less than 1
+     */
+    public TopK(int k, Comparator<? super T> bestFirst) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        this.k = k;
+        this.bestFirst = bestFirst;
+        this.heap = new PriorityQueue<>(Math.min(k, 1024) + 1, bestFirst.reversed());
+    }
+
+    /**
+     * Offers an element, which is kept if it is among the best {@code k} elements offered so far.
+     *
+     * @param element the element
+     * @return true if the element was kept
+     */
+    public boolean offer(T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+            return true;
+        }
+        if (bestFirst.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements kept.
+     *
+     * @return the number of elements kept, at most {@code k}
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the elements kept, best first.
+     *
+     * @return a new list with the best elements in order
+     */
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(bestFirst);
+        return sorted;
+    }
+}
@@ -5,6 +5,8 @@ export interface PositionFinderRequest {
   fillPercentage: number;
   researchGroupId?: string | null;
   relevanceTypes?: string[] | null;
+  limit?: number | null;
+  offset?: number | null;
 }
 
 export type MatchQuality = 'EXCELLENT' | 'GOOD' | 'FAIR' | 'POOR';
@@ -43,3 +45,17 @@ export interface PositionFinderResponse {
   matches: PositionMatch[];
   splitSuggestions: SplitSuggestion[];
 }
+
+export interface SimulatedAssignment {
+  id?: string;
+  objectId: string;
+  percentage: number;
+  startDate: string;
+  endDate: string;
+}
+
+export interface Simulation {
+  id: string;
+  expiresAt: string;
+  assignments: SimulatedAssignment[];
+}
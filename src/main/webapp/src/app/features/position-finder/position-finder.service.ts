@@ -1,8 +1,8 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
-import { PositionFinderRequest, PositionFinderResponse } from './position-finder.model';
+import { PositionFinderRequest, PositionFinderResponse, SimulatedAssignment, Simulation } from './position-finder.model';
 
 @Injectable({
   providedIn: 'root',
@@ -11,8 +11,28 @@ export class PositionFinderService {
   private readonly http = inject(HttpClient);
   private readonly apiUrl = `${environment.apiUrl}/v2/position-finder`;
 
-  search(request: PositionFinderRequest): Observable<PositionFinderResponse> {
-    return this.http.post<PositionFinderResponse>(`${this.apiUrl}/search`, request);
+  search(request: PositionFinderRequest, simulationId?: string): Observable<PositionFinderResponse> {
+    let params = new HttpParams();
+    if (simulationId) {
+      params = params.set('simulationId', simulationId);
+    }
+    return this.http.post<PositionFinderResponse>(`${this.apiUrl}/search`, request, { params });
+  }
+
+  createSimulation(): Observable<Simulation> {
+    return this.http.post<Simulation>(`${this.apiUrl}/simulations`, null);
+  }
+
+  addSimulatedAssignment(simulationId: string, assignment: SimulatedAssignment): Observable<Simulation> {
+    return this.http.post<Simulation>(`${this.apiUrl}/simulations/${simulationId}/assignments`, assignment);
+  }
+
+  removeSimulatedAssignment(simulationId: string, assignmentId: string): Observable<Simulation> {
+    return this.http.delete<Simulation>(`${this.apiUrl}/simulations/${simulationId}/assignments/${assignmentId}`);
+  }
+
+  deleteSimulation(simulationId: string): Observable<void> {
+    return this.http.delete<void>(`${this.apiUrl}/simulations/${simulationId}`);
   }
 
   getRelevanceTypes(): Observable<string[]> {
@@ -23,9 +23,62 @@ export interface Position {
   researchGroupId: string | null;
 }
 
+export type ImportMode = 'append' | 'delta';
+
 export interface ImportResult {
   message: string;
   count: number;
+  skipped?: number;
+  inserted?: number;
+  updated?: number;
+  deleted?: number;
+  unchanged?: number;
+  errors?: string[];
+  durationMillis?: number;
+  rowsPerSecond?: number;
+}
+
+export interface Vacancy {
+  objectId: string;
+  grade: string | null;
+  researchGroupId: string | null;
+  vacantFrom: string;
+  freePercentageBefore: number;
+  freePercentageAfter: number;
+  freedMonthlyBudget: number | null;
+}
+
+export interface VacancyGrade {
+  grade: string;
+  positionCount: number;
+  freedPercentage: number;
+  freedMonthlyBudget: number;
+  vacancies: Vacancy[];
+}
+
+export interface VacancyMonth {
+  month: string;
+  freedMonthlyBudget: number;
+  grades: VacancyGrade[];
+}
+
+export interface VacancyForecast {
+  from: string;
+  until: string;
+  vacancyCount: number;
+  freedMonthlyBudget: number;
+  months: VacancyMonth[];
+}
+
+export interface BudgetRollup {
+  month: string;
+  researchGroupId: string | null;
+  grade: string;
+  relevanceType: string | null;
+  positionCount: number;
+  capacityBudget: number;
+  assignedBudget: number;
+  availableBudget: number;
 }
 
 export interface EmployeeAssignment {
@@ -2,7 +2,7 @@ import { Injectable, inject } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
-import { Position, ImportResult } from './position.model';
+import { Position, ImportMode, ImportResult, VacancyForecast, BudgetRollup } from './position.model';
 
 @Injectable({
   providedIn: 'root',
@@ -19,9 +19,26 @@ export class PositionService {
     return this.http.get<Position[]>(this.apiUrl, { params });
   }
 
-  uploadCsv(file: File, researchGroupId?: string): Observable<ImportResult> {
+  getVacancies(months: number, researchGroupId?: string): Observable<VacancyForecast> {
+    let params = new HttpParams().set('months', months);
+    if (researchGroupId) {
+      params = params.set('researchGroupId', researchGroupId);
+    }
+    return this.http.get<VacancyForecast>(`${this.apiUrl}/vacancies`, { params });
+  }
+
+  getBudgetRollups(from: string, months: number, researchGroupId?: string): Observable<BudgetRollup[]> {
+    let params = new HttpParams().set('from', from).set('months', months);
+    if (researchGroupId) {
+      params = params.set('researchGroupId', researchGroupId);
+    }
+    return this.http.get<BudgetRollup[]>(`${this.apiUrl}/aggregates/budget`, { params });
+  }
+
+  uploadCsv(file: File, researchGroupId?: string, mode: ImportMode = 'append'): Observable<ImportResult> {
     const formData = new FormData();
     formData.append('file', file);
+    formData.append('mode', mode);
     if (researchGroupId) {
       formData.append('researchGroupId', researchGroupId);
     }
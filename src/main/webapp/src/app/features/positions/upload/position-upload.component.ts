@@ -6,6 +6,8 @@ import {
   signal,
   ViewEncapsulation,
 } from '@angular/core';
+import { FormsModule } from '@angular/forms';
+import { Checkbox, CheckboxChangeEvent } from 'primeng/checkbox';
 import { FileUpload } from 'primeng/fileupload';
 import { PositionService } from '../position.service';
 
@@ -15,7 +17,7 @@ interface UploadEvent {
 
 @Component({
   selector: 'app-position-upload',
-  imports: [FileUpload],
+  imports: [FileUpload, Checkbox, FormsModule],
   template: `
     <div class="upload-inline">
       <p-fileupload
@@ -30,6 +32,18 @@ interface UploadEvent {
         styleClass="compact-upload"
         (onSelect)="onFileSelect($event)"
       />
+      <span class="delta-option">
+        <p-checkbox
+          [ngModel]="delta()"
+          [ngModelOptions]="{ standalone: true }"
+          (onChange)="onDeltaChange($event)"
+          [binary]="true"
+          inputId="position-import-delta"
+        />
+        <label for="position-import-delta" title="Ersetzt den Bestand und schreibt nur geänderte Stellen">
+          Nur Änderungen
+        </label>
+      </span>
       @if (uploading()) {
         <span class="upload-status uploading">Lädt...</span>
       }
@@ -48,6 +62,19 @@ interface UploadEvent {
       gap: 0.5rem;
     }
 
+    .delta-option {
+      display: flex;
+      align-items: center;
+      gap: 0.25rem;
+      font-size: 0.65rem;
+
+      .p-checkbox,
+      .p-checkbox-box {
+        width: 0.85rem;
+        height: 0.85rem;
+      }
+    }
+
     .upload-status {
       font-size: 0.65rem;
       padding: 0.15rem 0.4rem;
@@ -89,10 +116,15 @@ export class PositionUploadComponent {
 
   readonly uploaded = output<void>();
 
+  readonly delta = signal(false);
   readonly uploading = signal(false);
   readonly successMessage = signal<string | null>(null);
   readonly errorMessage = signal<string | null>(null);
 
+  onDeltaChange(event: CheckboxChangeEvent): void {
+    this.delta.set(event.checked as boolean);
+  }
+
   onFileSelect(event: UploadEvent): void {
     const file = event.files[0];
     if (!file) {
@@ -103,10 +135,14 @@ export class PositionUploadComponent {
     this.successMessage.set(null);
     this.errorMessage.set(null);
 
-    this.positionService.uploadCsv(file).subscribe({
+    this.positionService.uploadCsv(file, undefined, this.delta() ? 'delta' : 'append').subscribe({
       next: (result) => {
         this.uploading.set(false);
-        this.successMessage.set(`${result.count} Stellen erfolgreich importiert`);
+        this.successMessage.set(
+          this.delta()
+            ? `${result.inserted ?? 0} neu, ${result.updated ?? 0} geändert, ${result.deleted ?? 0} gelöscht, ${result.unchanged ?? 0} unverändert`
+            : `${result.count} Stellen erfolgreich importiert`,
+        );
         this.uploaded.emit();
       },
       error: (err) => {
@@ -16,6 +16,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -116,6 +117,8 @@ public class TestSecurityConfiguration {
                         .requestMatchers(HttpMethod.GET, "/v2/research-groups/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/actuator/info").permitAll()
                         .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics", "/actuator/metrics/**", "/actuator/prometheus")
+                        .hasRole("admin")
                         .anyRequest().authenticated()
                 );
         return http.build();
@@ -124,7 +127,8 @@ public class TestSecurityConfiguration {
     /**
      * A filter that creates a Spring Security authentication from the thread-local test user.
      * This bridges the test user mechanism with Spring Security's authentication model,
-     * allowing URL-level authorization rules to be enforced in tests.
+     * allowing URL-level authorization rules to be enforced in tests. The groups of the user
+     * become {@code ROLE_} authorities, like the client roles of a token.
      */
     private static class TestAuthenticationFilter extends OncePerRequestFilter {
 
@@ -133,8 +137,11 @@ public class TestSecurityConfiguration {
                 throws ServletException, IOException {
             User user = currentTestUser.get();
             if (user != null) {
+                List<SimpleGrantedAuthority> authorities = user.getGroups().stream()
+                        .map(group -> new SimpleGrantedAuthority("ROLE_" + group.getId().getRole()))
+                        .toList();
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(user.getUniversityId(), null, List.of());
+                        new UsernamePasswordAuthenticationToken(user.getUniversityId(), null, authorities);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             filterChain.doFilter(request, response);
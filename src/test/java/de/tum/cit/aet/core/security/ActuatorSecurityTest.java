@@ -0,0 +1,42 @@
+package de.tum.cit.aet.core.security;
+
+import de.tum.cit.aet.AbstractRestIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Actuator Security Tests")
+class ActuatorSecurityTest extends AbstractRestIntegrationTest {
+
+    @Test
+    @DisplayName("Admin can read metrics")
+    void metrics_asAdmin_succeeds() throws Exception {
+        setAdminUser();
+
+        get("/actuator/metrics")
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Employee gets 403 forbidden for metrics")
+    void metrics_asEmployee_returns403() throws Exception {
+        setEmployeeUser();
+
+        get("/actuator/metrics")
+                .andExpect(status().isForbidden());
+        get("/actuator/metrics/staffplan.position.finder.phase")
+                .andExpect(status().isForbidden());
+        get("/actuator/prometheus")
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Job manager gets 403 forbidden for metrics")
+    void metrics_asJobManager_returns403() throws Exception {
+        setJobManagerUser();
+
+        get("/actuator/prometheus")
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,19 +1,26 @@
 package de.tum.cit.aet.positions;
 
 import de.tum.cit.aet.AbstractIntegrationTest;
+import de.tum.cit.aet.core.config.StaffPlanProperties;
 import de.tum.cit.aet.positions.domain.Position;
 import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
 import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
 import de.tum.cit.aet.positions.dto.PositionMatchDTO;
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Statistic;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -21,6 +28,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("Position Finder Integration Tests")
 class PositionFinderIntegrationTest extends AbstractIntegrationTest {
 
+    @Autowired
+    private StaffPlanProperties staffPlanProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private ResearchGroup machineLearningGroup;
     private ResearchGroup computerVisionGroup;
     private ResearchGroup databaseSystemsGroup;
@@ -138,6 +151,28 @@ class PositionFinderIntegrationTest extends AbstractIntegrationTest {
             assertThat(matchedObjectIds).contains("30000002", "30000021");
         }
 
+        @Test
+        @DisplayName("Matches carry the object code and description of their position")
+        void matchesAreDescribed() {
+            PositionFinderRequestDTO request = new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1),
+                    LocalDate.of(2026, 3, 1),
+                    "E14",
+                    100,
+                    null,
+                    null
+            );
+
+            PositionFinderResponseDTO response = positionFinderService.findPositions(request);
+
+            assertThat(response.matches()).filteredOn(m -> m.objectId().equals("30000002"))
+                    .singleElement()
+                    .satisfies(match -> {
+                        assertThat(match.objectCode()).isEqualTo("BU402002");
+                        assertThat(match.objectDescription()).isEqualTo("Postdoc ML");
+                    });
+        }
+
         @Test
         @DisplayName("Should find E14 positions available in 2026")
         void findAvailableE14PositionsIn2026() {
@@ -343,6 +378,156 @@ class PositionFinderIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Paging Tests")
+    class PagingTests {
+
+        private PositionFinderRequestDTO page(Integer limit, Integer offset) {
+            return new PositionFinderRequestDTO(
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "E14", 100, null, null, limit, offset);
+        }
+
+        @Test
+        @DisplayName("A page contains the matches of the full ranking at its offset")
+        void page_matchesFullRanking() {
+            PositionFinderResponseDTO all = positionFinderService.findPositions(page(null, null));
+            PositionFinderResponseDTO paged = positionFinderService.findPositions(page(2, 1));
+
+            assertThat(all.matches()).hasSizeGreaterThanOrEqualTo(3);
+            assertThat(paged.totalMatchesFound()).isEqualTo(all.totalMatchesFound()).isEqualTo(all.matches().size());
+            assertThat(paged.matches()).extracting(PositionMatchDTO::objectId)
+                    .containsExactlyElementsOf(all.matches().subList(1, 3).stream().map(PositionMatchDTO::objectId).toList());
+        }
+
+        @Test
+        @DisplayName("A page beyond the last match is empty but keeps the total")
+        void pageBeyondLastMatch_isEmpty() {
+            PositionFinderResponseDTO paged = positionFinderService.findPositions(page(10, 1000));
+
+            assertThat(paged.matches()).isEmpty();
+            assertThat(paged.totalMatchesFound()).isPositive();
+            assertThat(paged.splitSuggestions()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Invalid limits and offsets are rejected")
+        void invalidPaging_throws() {
+            assertThatThrownBy(() -> positionFinderService.findPositions(page(0, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Limit");
+            assertThatThrownBy(() -> positionFinderService.findPositions(page(10, -1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Offset");
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        private double count(String name, String tagKey, String tagValue) {
+            return meterRegistry.find(name).tag(tagKey, tagValue).meters().stream()
+                    .flatMap(meter -> StreamSupport.stream(meter.measure().spliterator(), false))
+                    .filter(measurement -> measurement.getStatistic() == Statistic.COUNT)
+                    .mapToDouble(Measurement::getValue)
+                    .sum();
+        }
+
+        @Test
+        @DisplayName("A computed search records its phases, outcomes and rule evaluations")
+        void search_recordsMetrics() {
+            double evaluatePhases = count("staffplan.position.finder.phase", "phase", "evaluate");
+            double matches = count("staffplan.position.finder.evaluations", "outcome", "match");
+            double budgetRule = count("staffplan.position.finder.rule", "rule", "Budget Efficiency");
+
+            PositionFinderResponseDTO response = positionFinderService.findPositions(new PositionFinderRequestDTO(
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "E14", 100, null, null));
+
+            assertThat(response.totalMatchesFound()).isPositive();
+            assertThat(count("staffplan.position.finder.phase", "phase", "evaluate")).isEqualTo(evaluatePhases + 1);
+            assertThat(count("staffplan.position.finder.evaluations", "outcome", "match"))
+                    .isEqualTo(matches + response.totalMatchesFound());
+            assertThat(count("staffplan.position.finder.rule", "rule", "Budget Efficiency"))
+                    .isGreaterThanOrEqualTo(budgetRule + response.totalMatchesFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Evaluation Tests")
+    class ParallelEvaluationTests {
+
+        @Test
+        @DisplayName("Parallel evaluation returns the same result as sequential evaluation")
+        void parallelMatchesSequential() {
+            List<PositionFinderRequestDTO> requests = List.of(
+                    new PositionFinderRequestDTO(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "E13", 50, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", 100, null, null)
+            );
+
+            StaffPlanProperties.PositionFinder properties = staffPlanProperties.getPositionFinder();
+            int threshold = properties.getParallelThreshold();
+            properties.getCache().setEnabled(false);
+            try {
+                for (PositionFinderRequestDTO request : requests) {
+                    properties.setParallelThreshold(Integer.MAX_VALUE);
+                    PositionFinderResponseDTO sequential = positionFinderService.findPositions(request);
+
+                    properties.setParallelThreshold(1);
+                    PositionFinderResponseDTO parallel = positionFinderService.findPositions(request);
+
+                    assertThat(parallel).isEqualTo(sequential);
+                }
+            } finally {
+                properties.setParallelThreshold(threshold);
+                properties.getCache().setEnabled(true);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Result Cache Tests")
+    class ResultCacheTests {
+
+        private final PositionFinderRequestDTO request = new PositionFinderRequestDTO(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "E13", 50, null, List.of("Haushaltsstelle"));
+
+        @Test
+        @DisplayName("Identical searches are served from the cache")
+        void identicalSearches_returnCachedResponse() {
+            PositionFinderResponseDTO first = positionFinderService.findPositions(request);
+            PositionFinderResponseDTO second = positionFinderService.findPositions(new PositionFinderRequestDTO(
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "E13", 50, null,
+                    List.of("Haushaltsstelle", "Haushaltsstelle")));
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("Grade code spelling is kept in the cached response")
+        void differentGradeSpelling_keepsRequestedGrade() {
+            PositionFinderResponseDTO first = positionFinderService.findPositions(request);
+            PositionFinderResponseDTO second = positionFinderService.findPositions(new PositionFinderRequestDTO(
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "e 13", 50, null, List.of("Haushaltsstelle")));
+
+            assertThat(second.employeeGrade()).isEqualTo("e 13");
+            assertThat(second.matches()).isSameAs(first.matches());
+        }
+
+        @Test
+        @DisplayName("Position changes invalidate cached responses")
+        void positionChange_invalidatesCache() {
+            PositionFinderResponseDTO before = positionFinderService.findPositions(request);
+            assertThat(before.matches().stream().map(PositionMatchDTO::objectId)).doesNotContain("30000099");
+
+            createPosition("30000099", "E13", machineLearningGroup, "New PhD Position", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100099", "Haushaltsstelle");
+            PositionFinderResponseDTO after = positionFinderService.findPositions(request);
+
+            assertThat(after.matches().stream().map(PositionMatchDTO::objectId)).contains("30000099");
+        }
+    }
+
     @Nested
     @DisplayName("Grade Compatibility Tests")
     class GradeCompatibilityTests {
@@ -406,6 +591,58 @@ class PositionFinderIntegrationTest extends AbstractIntegrationTest {
 
             assertThat(response.employeeGrade()).isEqualTo("E13");
         }
+
+        @Test
+        @DisplayName("Candidates carry the stored normalized grade, also for unknown or missing grades")
+        void candidatesCarryNormalizedGrade() {
+            createPosition("30000090", "e 13 TVL", machineLearningGroup, "PhD Student ML 3", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100090", "Haushaltsstelle");
+            createPosition("30000091", "Z99", machineLearningGroup, "Unknown Grade", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100091", "Haushaltsstelle");
+            createPosition("30000092", "TVL", machineLearningGroup, "Suffix Only", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100092", "Haushaltsstelle");
+
+            List<PositionCandidateView> candidates = positionRepository.findCandidateViews();
+
+            assertThat(candidates).filteredOn(p -> p.objectId().equals("30000090"))
+                    .singleElement()
+                    .extracting(PositionCandidateView::normalizedGrade)
+                    .isEqualTo("E13");
+            assertThat(candidates).filteredOn(p -> p.objectId().equals("30000091"))
+                    .singleElement()
+                    .extracting(PositionCandidateView::normalizedGrade)
+                    .isEqualTo("Z99");
+            // Like the backfill of existing rows, a tariff group without a grade has no normalized grade
+            assertThat(candidates).filteredOn(p -> p.objectId().equals("30000092"))
+                    .singleElement()
+                    .extracting(PositionCandidateView::normalizedGrade)
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("Assignments with an unknown grade still occupy their position")
+        void unknownGradeAssignmentOccupiesPosition() {
+            // The representative E14 row has ended; the current occupant row carries an unmapped grade
+            createPosition("30000095", "E14", machineLearningGroup, "Postdoc ML 2", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100095", "Haushaltsstelle");
+            createPosition("30000095", "Z99", machineLearningGroup, "Postdoc ML 2", LocalDate.of(2025, 1, 1),
+                    LocalDate.of(2026, 12, 31), 100, "00100096", "Haushaltsstelle");
+            // Unknown grade of the representative row (sorted first by tariff group): the whole position is skipped
+            createPosition("30000096", "AT", machineLearningGroup, "Unknown Grade", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100097", "Haushaltsstelle");
+            createPosition("30000096", "E14", machineLearningGroup, "Unknown Grade", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31), 100, "00100098", "Haushaltsstelle");
+
+            PositionFinderResponseDTO response = positionFinderService.findPositions(new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null));
+
+            assertThat(response.matches()).extracting(PositionMatchDTO::objectId)
+                    .contains("30000002")
+                    .doesNotContain("30000095", "30000096");
+            assertThat(response.splitSuggestions()).allSatisfy(suggestion ->
+                    assertThat(suggestion.positions()).extracting(PositionMatchDTO::objectId)
+                            .doesNotContain("30000095", "30000096"));
+        }
     }
 
     @Nested
@@ -475,6 +712,26 @@ class PositionFinderIntegrationTest extends AbstractIntegrationTest {
                 }
             }
         }
+
+        @Test
+        @DisplayName("Positions whose full grade value is below the employee cost are neither matched nor split")
+        void gradeBelowCost_notMatchedNorSplit() {
+            // Two half-occupied E15 positions, so that no single position matches and a split is suggested
+            createPosition("30000060", "E15", machineLearningGroup, "Senior Researcher ML", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2099, 12, 31), 50, "00100060", "Haushaltsstelle");
+            createPosition("30000061", "E15", computerVisionGroup, "Senior Researcher CV", LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2099, 12, 31), 50, "00100061", "Haushaltsstelle");
+
+            // E15 at 100% = 6550.00, above the full value of the vacant E14 position 30000002 (6000.00)
+            PositionFinderResponseDTO response = positionFinderService.findPositions(new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E15", 100, null, null));
+
+            assertThat(response.matches()).isEmpty();
+            assertThat(response.splitSuggestions()).isNotEmpty();
+            assertThat(response.splitSuggestions()).allSatisfy(suggestion ->
+                    assertThat(suggestion.positions()).extracting(PositionMatchDTO::objectId)
+                            .containsOnly("30000060", "30000061"));
+        }
     }
 
     @Nested
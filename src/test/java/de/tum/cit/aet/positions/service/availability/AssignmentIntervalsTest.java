@@ -0,0 +1,69 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Assignment Intervals Tests")
+class AssignmentIntervalsTest {
+
+    private static final LocalDate PERIOD_START = LocalDate.of(2025, 1, 1);
+    // First day after the period
+    private static final LocalDate PERIOD_END = LocalDate.of(2026, 1, 1);
+
+    private static AssignmentIntervals intervals(AssignmentInterval... intervals) {
+        return AssignmentIntervals.of(List.of(intervals));
+    }
+
+    private static AssignmentInterval interval(LocalDate startDate, LocalDate endDate) {
+        return AssignmentInterval.of(startDate, endDate, BigDecimal.valueOf(100));
+    }
+
+    private static boolean mayOverlap(AssignmentIntervals intervals) {
+        return intervals.mayOverlap(PERIOD_START.toEpochDay(), PERIOD_END.toEpochDay());
+    }
+
+    @Test
+    @DisplayName("Position without assignments never overlaps")
+    void noAssignments_noOverlap() {
+        assertThat(mayOverlap(AssignmentIntervals.EMPTY)).isFalse();
+        assertThat(mayOverlap(intervals())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Assignment ending the day before the period does not overlap")
+    void endingBeforePeriod_noOverlap() {
+        assertThat(mayOverlap(intervals(interval(LocalDate.of(2024, 1, 1), PERIOD_START.minusDays(1))))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Assignment starting on the first day after the period does not overlap")
+    void startingOnPeriodEnd_noOverlap() {
+        assertThat(mayOverlap(intervals(interval(PERIOD_END, LocalDate.of(2026, 12, 31))))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Assignments touching the first or last day of the period overlap")
+    void touchingPeriodBoundaries_overlap() {
+        assertThat(mayOverlap(intervals(interval(LocalDate.of(2024, 1, 1), PERIOD_START)))).isTrue();
+        assertThat(mayOverlap(intervals(interval(PERIOD_END.minusDays(1), LocalDate.of(2026, 12, 31))))).isTrue();
+        assertThat(mayOverlap(intervals(interval(null, null)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Assignments before and after the period may overlap, so the sweep decides")
+    void assignmentsAroundPeriod_mayOverlap() {
+        AssignmentIntervals around = intervals(
+                interval(LocalDate.of(2024, 1, 1), PERIOD_START.minusDays(1)),
+                interval(PERIOD_END, LocalDate.of(2026, 12, 31)));
+
+        assertThat(mayOverlap(around)).isTrue();
+        assertThat(new AvailabilityCalculator().calculate(around, PERIOD_START, PERIOD_END))
+                .isEqualTo(AvailabilityInfo.FULLY_AVAILABLE);
+    }
+}
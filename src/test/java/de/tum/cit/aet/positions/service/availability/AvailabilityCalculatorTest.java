@@ -0,0 +1,208 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import de.tum.cit.aet.positions.domain.Position;
+import de.tum.cit.aet.util.FixedPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Availability Calculator Tests")
+class AvailabilityCalculatorTest {
+
+    private static final LocalDate SEARCH_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate SEARCH_END = LocalDate.of(2026, 1, 1);
+
+    private final AvailabilityCalculator calculator = new AvailabilityCalculator();
+
+    private static Position assignment(LocalDate startDate, LocalDate endDate, int percentage, String personnelNumber) {
+        Position position = new Position();
+        position.setObjectId("30000001");
+        position.setStartDate(startDate);
+        position.setEndDate(endDate);
+        position.setPercentage(BigDecimal.valueOf(percentage));
+        position.setPersonnelNumber(personnelNumber);
+        return position;
+    }
+
+    private static Position assignment(LocalDate startDate, LocalDate endDate, int percentage) {
+        return assignment(startDate, endDate, percentage, "00100001");
+    }
+
+    @Nested
+    @DisplayName("Basic Availability")
+    class BasicAvailabilityTests {
+
+        @Test
+        @DisplayName("Position without assignments is fully available")
+        void noAssignments_fullyAvailable() {
+            AvailabilityInfo info = calculator.calculate(List.of(), SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("100");
+            assertThat(info.maxAssignmentCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Placeholder rows do not occupy capacity")
+        void placeholderRows_ignored() {
+            List<Position> rows = List.of(
+                    assignment(LocalDate.of(2020, 1, 1), LocalDate.of(2099, 12, 31), 100, "00000000"),
+                    assignment(LocalDate.of(2020, 1, 1), LocalDate.of(2099, 12, 31), 100, null),
+                    assignment(LocalDate.of(2020, 1, 1), LocalDate.of(2099, 12, 31), 100, ""));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("100");
+            assertThat(info.maxAssignmentCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Assignment ending before the search period leaves the position fully available")
+        void assignmentEndedBeforePeriod_fullyAvailable() {
+            List<Position> rows = List.of(assignment(LocalDate.of(2022, 3, 1), LocalDate.of(2024, 12, 31), 100));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("100");
+            assertThat(info.maxAssignmentCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Assignment starting on the search end date is not counted")
+        void assignmentStartingOnEndDate_notCounted() {
+            List<Position> rows = List.of(assignment(SEARCH_END, LocalDate.of(2027, 1, 1), 100));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("100");
+        }
+
+        @Test
+        @DisplayName("Assignment ending on the search start date is counted")
+        void assignmentEndingOnStartDate_counted() {
+            List<Position> rows = List.of(assignment(LocalDate.of(2024, 1, 1), SEARCH_START, 65));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("35");
+            assertThat(info.maxAssignmentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Open-ended assignments occupy the whole period")
+        void openEndedAssignment_occupiesPeriod() {
+            List<Position> rows = List.of(assignment(null, null, 50));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("50");
+            assertThat(info.maxAssignmentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Empty search period is fully available")
+        void emptyPeriod_fullyAvailable() {
+            List<Position> rows = List.of(assignment(null, null, 100));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_START);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("100");
+            assertThat(info.maxAssignmentCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Overlapping Assignments")
+    class OverlappingAssignmentTests {
+
+        @Test
+        @DisplayName("Concurrent assignments are summed up")
+        void concurrentAssignments_summed() {
+            List<Position> rows = List.of(
+                    assignment(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 6, 30), 50),
+                    assignment(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 12, 31), 30));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("20");
+            assertThat(info.maxAssignmentCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Back-to-back assignments are not counted as concurrent")
+        void backToBackAssignments_notConcurrent() {
+            List<Position> rows = List.of(
+                    assignment(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 5, 31), 65),
+                    assignment(LocalDate.of(2025, 6, 1), LocalDate.of(2027, 5, 31), 65));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("35");
+            assertThat(info.maxAssignmentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Overbooked positions report zero availability")
+        void overbooked_clampedToZero() {
+            List<Position> rows = List.of(
+                    assignment(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31), 80),
+                    assignment(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31), 50));
+
+            AvailabilityInfo info = calculator.calculate(rows, SEARCH_START, SEARCH_END);
+
+            assertThat(info.minAvailablePercentage()).isEqualByComparingTo("0");
+            assertThat(info.maxAssignmentCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Sweep matches a day-by-day reference calculation")
+        void randomAssignments_matchReference() {
+            Random random = new Random(42);
+            for (int run = 0; run < 200; run++) {
+                List<Position> rows = new ArrayList<>();
+                int rowCount = random.nextInt(8);
+                for (int i = 0; i < rowCount; i++) {
+                    LocalDate start = random.nextInt(10) == 0 ? null : SEARCH_START.plusDays(random.nextInt(500) - 100);
+                    LocalDate end = random.nextInt(10) == 0 ? null : SEARCH_START.plusDays(random.nextInt(500) - 50);
+                    rows.add(assignment(start, end, 5 * (1 + random.nextInt(20))));
+                }
+                LocalDate periodStart = SEARCH_START.plusDays(random.nextInt(200));
+                LocalDate periodEnd = periodStart.plusDays(random.nextInt(200));
+
+                AvailabilityInfo expected = referenceAvailability(rows, periodStart, periodEnd);
+                AvailabilityInfo actual = calculator.calculate(rows, periodStart, periodEnd);
+
+                assertThat(actual.minAvailablePercentage()).isEqualByComparingTo(expected.minAvailablePercentage());
+                assertThat(actual.maxAssignmentCount()).isEqualTo(expected.maxAssignmentCount());
+            }
+        }
+
+        private AvailabilityInfo referenceAvailability(List<Position> rows, LocalDate periodStart, LocalDate periodEnd) {
+            BigDecimal minAvailable = BigDecimal.valueOf(100);
+            int maxCount = 0;
+            for (LocalDate day = periodStart; day.isBefore(periodEnd); day = day.plusDays(1)) {
+                BigDecimal assigned = BigDecimal.ZERO;
+                int count = 0;
+                for (Position row : rows) {
+                    boolean started = row.getStartDate() == null || !row.getStartDate().isAfter(day);
+                    boolean notEnded = row.getEndDate() == null || !row.getEndDate().isBefore(day);
+                    if (started && notEnded) {
+                        assigned = assigned.add(row.getPercentage());
+                        count++;
+                    }
+                }
+                BigDecimal available = BigDecimal.valueOf(100).subtract(assigned).max(BigDecimal.ZERO);
+                minAvailable = minAvailable.min(available);
+                maxCount = Math.max(maxCount, count);
+            }
+            return new AvailabilityInfo(FixedPoint.toBasisPoints(minAvailable), maxCount);
+        }
+    }
+}
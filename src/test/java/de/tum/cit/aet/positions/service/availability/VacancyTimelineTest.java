@@ -0,0 +1,94 @@
+package de.tum.cit.aet.positions.service.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Vacancy Timeline Tests")
+class VacancyTimelineTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private final AvailabilityCalculator calculator = new AvailabilityCalculator();
+
+    private static AssignmentInterval interval(LocalDate startDate, LocalDate endDate, int percentage) {
+        return AssignmentInterval.of(startDate, endDate, BigDecimal.valueOf(percentage));
+    }
+
+    private static long day(LocalDate date) {
+        return date.toEpochDay();
+    }
+
+    @Test
+    @DisplayName("Position without assignments is fully available at any time")
+    void empty_fullyAvailable() {
+        VacancyTimeline timeline = VacancyTimeline.of(AssignmentIntervals.EMPTY);
+
+        assertThat(timeline.availability(day(BASE), day(BASE.plusYears(1)))).isEqualTo(AvailabilityInfo.FULLY_AVAILABLE);
+        assertThat(timeline.freeBasisPointsOn(day(BASE))).isEqualTo(10_000);
+        assertThat(timeline.nextChangeAfter(day(BASE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Free percentage follows the assignments")
+    void freePercentage_followsAssignments() {
+        VacancyTimeline timeline = VacancyTimeline.of(AssignmentIntervals.of(List.of(
+                interval(BASE, LocalDate.of(2025, 6, 30), 60),
+                interval(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 12, 31), 30))));
+
+        assertThat(timeline.freeBasisPointsOn(day(BASE.minusDays(1)))).isEqualTo(10_000);
+        assertThat(timeline.freeBasisPointsOn(day(BASE))).isEqualTo(4_000);
+        assertThat(timeline.freeBasisPointsOn(day(LocalDate.of(2025, 5, 1)))).isEqualTo(1_000);
+        assertThat(timeline.freeBasisPointsOn(day(LocalDate.of(2025, 7, 1)))).isEqualTo(7_000);
+        assertThat(timeline.nextChangeAfter(day(LocalDate.of(2025, 5, 1)))).isEqualTo(day(LocalDate.of(2025, 7, 1)));
+
+        assertThat(timeline.availability(day(BASE), day(LocalDate.of(2026, 1, 1))))
+                .isEqualTo(new AvailabilityInfo(1_000, 2));
+        assertThat(timeline.availability(day(LocalDate.of(2025, 7, 1)), day(LocalDate.of(2026, 1, 1))))
+                .isEqualTo(new AvailabilityInfo(7_000, 1));
+    }
+
+    @Test
+    @DisplayName("Open-ended assignments occupy the position before and after all other changes")
+    void openEndedAssignments() {
+        VacancyTimeline timeline = VacancyTimeline.of(AssignmentIntervals.of(List.of(
+                interval(null, BASE, 50),
+                interval(BASE, null, 20))));
+
+        assertThat(timeline.freeBasisPointsOn(Long.MIN_VALUE + 1)).isEqualTo(5_000);
+        assertThat(timeline.freeBasisPointsOn(day(BASE))).isEqualTo(3_000);
+        assertThat(timeline.freeBasisPointsOn(Long.MAX_VALUE - 1)).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("Range queries match the sweep of the availability calculator")
+    void randomAssignments_matchSweep() {
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            List<AssignmentInterval> intervals = new ArrayList<>();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                LocalDate start = random.nextInt(10) == 0 ? null : BASE.plusDays(random.nextInt(500) - 100);
+                LocalDate end = random.nextInt(10) == 0 ? null : BASE.plusDays(random.nextInt(500) - 50);
+                intervals.add(interval(start, end, 5 * (1 + random.nextInt(20))));
+            }
+            AssignmentIntervals sweep = AssignmentIntervals.of(intervals);
+            AssignmentIntervals indexed = sweep.withTimeline();
+
+            for (int query = 0; query < 20; query++) {
+                LocalDate periodStart = BASE.plusDays(random.nextInt(400) - 100);
+                LocalDate periodEnd = periodStart.plusDays(random.nextInt(300));
+
+                assertThat(calculator.calculate(indexed, periodStart, periodEnd))
+                        .isEqualTo(calculator.calculate(sweep, periodStart, periodEnd));
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package de.tum.cit.aet.positions.service.cache;
+
+import de.tum.cit.aet.core.config.StaffPlanProperties;
+import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
+import de.tum.cit.aet.positions.dto.PositionFinderResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Position Finder Cache Tests")
+class PositionFinderCacheTest {
+
+    private StaffPlanProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PositionFinderCache cache;
+
+    @BeforeEach
+    void setup() {
+        properties = new StaffPlanProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PositionFinderCache(properties, meterRegistry);
+    }
+
+    private static SearchCacheKey key(String grade, long version) {
+        return SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), grade, null, null, null), version);
+    }
+
+    private static PositionFinderResponseDTO response(String grade) {
+        return new PositionFinderResponseDTO(BigDecimal.ONE, grade, 100, 0, List.of(), List.of());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("staffplan.position.finder.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Normalized requests share a key")
+    void key_normalizesRequest() {
+        SearchCacheKey a = SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "e 13", 100, null, List.of("B", "A", "B")), 1);
+        SearchCacheKey b = SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", null, null, List.of("A", "B")), 1);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", null, null, List.of()), 1).relevanceTypes())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Pages of the same search have distinct keys")
+    void key_includesPage() {
+        SearchCacheKey first = SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", 100, null, null, 20, null), 1);
+        SearchCacheKey firstExplicit = SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", 100, null, null, 20, 0), 1);
+        SearchCacheKey second = SearchCacheKey.of(new PositionFinderRequestDTO(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "E13", 100, null, null, 20, 20), 1);
+
+        assertThat(first).isEqualTo(firstExplicit).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Second identical search is a hit")
+    void get_sameKey_returnsCachedResponse() {
+        PositionFinderResponseDTO first = cache.get(key("E13", 1), () -> response("E13"));
+        PositionFinderResponseDTO second = cache.get(key("E13", 1), () -> response("other"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A newer data version is not served from older entries")
+    void get_newerVersion_recomputes() {
+        cache.get(key("E13", 1), () -> response("old"));
+
+        PositionFinderResponseDTO response = cache.get(key("E13", 2), () -> response("new"));
+
+        assertThat(response.employeeGrade()).isEqualTo("new");
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Failures are not cached")
+    void get_failure_isNotCached() {
+        assertThatThrownBy(() -> cache.get(key("E13", 1), () -> {
+            throw new IllegalArgumentException("invalid");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(key("E13", 1), () -> response("E13")).employeeGrade()).isEqualTo("E13");
+    }
+
+    @Test
+    @DisplayName("Least recently used entries are evicted beyond the maximum")
+    void get_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        properties.getPositionFinder().getCache().setMaxEntries(2);
+        cache.get(key("E11", 1), () -> response("E11"));
+        cache.get(key("E12", 1), () -> response("E12"));
+        cache.get(key("E11", 1), () -> response("unused"));
+        cache.get(key("E13", 1), () -> response("E13"));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(key("E11", 1), () -> {
+            loads.incrementAndGet();
+            return response("E11");
+        });
+        cache.get(key("E12", 1), () -> {
+            loads.incrementAndGet();
+            return response("E12");
+        });
+
+        // E11 was used more recently than E12, so only E12 was evicted
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Concurrent identical searches are computed once")
+    void get_concurrentIdenticalSearches_computeOnce() throws Exception {
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?> owner = executor.submit(() -> cache.get(key("E13", 1), () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return response("E13");
+            }));
+            // Wait until the first search is being computed
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            List<Future<PositionFinderResponseDTO>> waiting = new ArrayList<>();
+            for (int i = 1; i < threads; i++) {
+                waiting.add(executor.submit(() -> cache.get(key("E13", 1), () -> {
+                    loads.incrementAndGet();
+                    return response("E13");
+                })));
+            }
+            release.countDown();
+
+            owner.get(5, TimeUnit.SECONDS);
+            for (Future<PositionFinderResponseDTO> future : waiting) {
+                assertThat(future.get(5, TimeUnit.SECONDS).employeeGrade()).isEqualTo("E13");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package de.tum.cit.aet.positions.service.matching;
+
+import de.tum.cit.aet.positions.service.snapshot.PositionRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Matching Rule Pipeline Tests")
+class MatchingRulePipelineTest {
+
+    private final BudgetEfficiencyRule budgetRule = new BudgetEfficiencyRule();
+    private final SplitMinimizationRule splitRule = new SplitMinimizationRule();
+    private final TimeOverlapRule timeRule = new TimeOverlapRule();
+
+    private static MatchingContext context(long positionBudgetCents, LocalDate startDate, LocalDate endDate) {
+        PositionRow position = new PositionRow(UUID.randomUUID(), "50001234", "E13", "E13", "Relevant", null,
+                BigDecimal.valueOf(100), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), false);
+        return new MatchingContext(position, "E13", 500_000, positionBudgetCents, startDate, endDate,
+                10_000, 0, 10_000);
+    }
+
+    private static MatchingContext fitting() {
+        return context(500_000, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1));
+    }
+
+    private static MatchingContext overBudget() {
+        return context(400_000, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1));
+    }
+
+    private static MatchingContext emptyPeriod() {
+        return context(500_000, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 1));
+    }
+
+    /**
+     * A rule that counts its evaluations and excludes every position when it is scored.
+     */
+    private static final class ScoringOnlyExclusionRule implements MatchingRule {
+        private int evaluations;
+
+        @Override
+        public String getName() {
+            return "Scoring Only";
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public double getWeight() {
+            return 0;
+        }
+
+        @Override
+        public double evaluate(MatchingContext ctx) {
+            evaluations++;
+            return -1;
+        }
+    }
+
+    @Test
+    @DisplayName("Rules are scored in priority order regardless of bean order")
+    void rulesAreSortedByPriority() {
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(timeRule, budgetRule, splitRule));
+
+        assertThat(pipeline.getRules()).containsExactly(budgetRule, splitRule, timeRule);
+        assertThat(pipeline.exclusionOrder()).containsExactly(budgetRule, splitRule, timeRule);
+    }
+
+    @Test
+    @DisplayName("The total score is the weighted sum of all rule scores")
+    void evaluate_sumsWeightedScores() {
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(budgetRule, splitRule, timeRule));
+        List<MatchingRule> scored = new ArrayList<>();
+
+        double score = pipeline.evaluate(fitting(), (rule, nanos) -> scored.add(rule));
+
+        assertThat(score).isEqualTo(100.0);
+        assertThat(scored).containsExactly(budgetRule, splitRule, timeRule);
+    }
+
+    @Test
+    @DisplayName("Excluded positions are not scored by any rule")
+    void evaluate_excludedPositionsAreNotScored() {
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(budgetRule, splitRule, timeRule));
+        List<MatchingRule> scored = new ArrayList<>();
+
+        assertThat(pipeline.evaluate(overBudget(), (rule, nanos) -> scored.add(rule))).isEqualTo(-1);
+        assertThat(pipeline.evaluate(emptyPeriod(), (rule, nanos) -> scored.add(rule))).isEqualTo(-1);
+        assertThat(scored).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Exclusion checks agree with the rule scores")
+    void excludes_agreesWithEvaluate() {
+        for (MatchingContext ctx : List.of(fitting(), overBudget(), emptyPeriod())) {
+            for (MatchingRule rule : List.of(budgetRule, splitRule, timeRule)) {
+                assertThat(rule.excludes(ctx)).isEqualTo(rule.evaluate(ctx) < 0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Rules without an exclusion check still exclude positions when scored")
+    void evaluate_scoringExclusion() {
+        ScoringOnlyExclusionRule rule = new ScoringOnlyExclusionRule();
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(budgetRule, rule));
+
+        assertThat(pipeline.evaluate(fitting(), (r, nanos) -> { })).isEqualTo(-1);
+        assertThat(rule.evaluations).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("The most selective rule is checked first once enough positions were evaluated")
+    void reorder_mostSelectiveFirst() {
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(budgetRule, splitRule, timeRule));
+
+        // Time overlap excludes every other position, budget none
+        for (int i = 0; i < MatchingRulePipeline.MIN_CHECKS; i++) {
+            pipeline.evaluate(i % 2 == 0 ? fitting() : emptyPeriod(), (rule, nanos) -> { });
+        }
+        pipeline.reorder();
+
+        assertThat(pipeline.exclusionOrder()).containsExactly(timeRule, budgetRule, splitRule);
+    }
+
+    @Test
+    @DisplayName("The priority order is kept until every rule was checked often enough")
+    void reorder_keepsPriorityOrderWithoutEnoughChecks() {
+        MatchingRulePipeline pipeline = new MatchingRulePipeline(List.of(budgetRule, splitRule, timeRule));
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.evaluate(emptyPeriod(), (rule, nanos) -> { });
+        }
+        pipeline.reorder();
+
+        assertThat(pipeline.exclusionOrder()).containsExactly(budgetRule, splitRule, timeRule);
+    }
+}
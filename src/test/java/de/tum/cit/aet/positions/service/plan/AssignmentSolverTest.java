@@ -0,0 +1,86 @@
+package de.tum.cit.aet.positions.service.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static de.tum.cit.aet.positions.service.plan.AssignmentSolver.FORBIDDEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Assignment Solver Tests")
+class AssignmentSolverTest {
+
+    private final AssignmentSolver solver = new AssignmentSolver();
+
+    @Test
+    @DisplayName("Greedy choice is corrected when two rows compete for the same column")
+    void solve_resolvesConflicts() {
+        // Row 0 prefers column 0, but row 1 can only use column 0
+        long[][] cost = {
+                {0, 10, 1000, FORBIDDEN},
+                {5, FORBIDDEN, FORBIDDEN, 1000},
+        };
+
+        assertThat(solver.solve(cost)).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("Forbidden entries are never chosen")
+    void solve_avoidsForbiddenEntries() {
+        long[][] cost = {
+                {FORBIDDEN, 3, 7},
+                {1, FORBIDDEN, 2},
+        };
+
+        assertThat(solver.solve(cost)).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("Randomized comparison against exhaustive search")
+    void randomizedComparison_matchesExhaustiveSearch() {
+        Random random = new Random(42);
+        for (int run = 0; run < 1000; run++) {
+            int rows = 1 + random.nextInt(5);
+            int columns = rows + random.nextInt(4);
+            long[][] cost = new long[rows][columns + rows];
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    cost[row][column] = random.nextInt(4) == 0 ? FORBIDDEN : random.nextInt(20);
+                }
+                for (int dummy = 0; dummy < rows; dummy++) {
+                    cost[row][columns + dummy] = 1000;
+                }
+            }
+
+            int[] assignment = solver.solve(cost);
+
+            boolean[] used = new boolean[cost[0].length];
+            long total = 0;
+            for (int row = 0; row < rows; row++) {
+                assertThat(used[assignment[row]]).isFalse();
+                used[assignment[row]] = true;
+                total += cost[row][assignment[row]];
+            }
+            assertThat(total).isEqualTo(minimalCost(cost, 0, new boolean[cost[0].length]));
+        }
+    }
+
+    private static long minimalCost(long[][] cost, int row, boolean[] used) {
+        if (row == cost.length) {
+            return 0;
+        }
+        long best = Long.MAX_VALUE;
+        for (int column = 0; column < cost[row].length; column++) {
+            if (!used[column] && cost[row][column] < FORBIDDEN) {
+                used[column] = true;
+                long rest = minimalCost(cost, row + 1, used);
+                if (rest != Long.MAX_VALUE) {
+                    best = Math.min(best, cost[row][column] + rest);
+                }
+                used[column] = false;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,106 @@
+package de.tum.cit.aet.positions.service.snapshot;
+
+import de.tum.cit.aet.positions.repository.PositionCandidateView;
+import de.tum.cit.aet.util.GradeCodeNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Position Snapshot Tests")
+class PositionSnapshotTest {
+
+    private static final UUID GROUP_A = UUID.randomUUID();
+    private static final UUID GROUP_B = UUID.randomUUID();
+
+    private static PositionCandidateView row(String objectId, String tariffGroup, UUID researchGroupId,
+                                             String relevanceType, String personnelNumber) {
+        return new PositionCandidateView(
+                UUID.randomUUID(),
+                objectId,
+                tariffGroup,
+                GradeCodeNormalizer.normalize(tariffGroup),
+                relevanceType,
+                researchGroupId,
+                BigDecimal.valueOf(50),
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                personnelNumber
+        );
+    }
+
+    @Test
+    @DisplayName("Rows are grouped by objectId in candidate order")
+    void build_groupsRowsByObjectId() {
+        PositionSnapshot snapshot = PositionSnapshot.build(1, List.of(
+                row("1", "E13 TVL", GROUP_A, "Stelle", "00100001"),
+                row("2", "E 14", GROUP_B, "Stelle", "00000000"),
+                row("1", "E13", GROUP_B, "Stelle", "00100002"),
+                row(null, "E13", GROUP_A, "Stelle", "00100003")));
+
+        assertThat(snapshot.rowCount()).isEqualTo(3);
+        assertThat(snapshot.groups()).extracting(PositionGroup::objectId).containsExactly("1", "2");
+
+        PositionGroup first = snapshot.groups().getFirst();
+        assertThat(first.rows()).hasSize(2);
+        assertThat(first.representative().normalizedGrade()).isEqualTo("E13");
+        assertThat(first.assignments().size()).isEqualTo(2);
+        assertThat(snapshot.groups().get(1).assignments().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Research group filter reduces positions to their matching rows")
+    void findGroups_researchGroupFilter() {
+        PositionSnapshot snapshot = PositionSnapshot.build(1, List.of(
+                row("1", "E13", GROUP_A, "Stelle", "00100001"),
+                row("1", "E14", GROUP_B, "Stelle", "00100002"),
+                row("2", "E13", GROUP_A, "Stelle", "00100003")));
+
+        List<PositionGroup> groups = snapshot.findGroups(GROUP_B, null);
+
+        assertThat(groups).hasSize(1);
+        assertThat(groups.getFirst().rows()).hasSize(1);
+        assertThat(groups.getFirst().representative().tariffGroup()).isEqualTo("E14");
+        assertThat(groups.getFirst().assignments().size()).isEqualTo(1);
+        assertThat(snapshot.findGroups(UUID.randomUUID(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Relevance type filter never matches rows without a relevance type")
+    void findGroups_relevanceTypeFilter() {
+        PositionSnapshot snapshot = PositionSnapshot.build(1, List.of(
+                row("1", "E13", GROUP_A, null, "00100001"),
+                row("2", "E13", null, "Stelle", "00100002"),
+                row("3", "E13", GROUP_A, "Projekt", "00100003")));
+
+        assertThat(snapshot.findGroups(null, List.of("Stelle")))
+                .extracting(PositionGroup::objectId)
+                .containsExactly("2");
+        assertThat(snapshot.findGroups(null, List.of()))
+                .extracting(PositionGroup::objectId)
+                .containsExactly("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("Rebuilding reuses unchanged positions with their vacancy timeline")
+    void build_reusesUnchangedPositions() {
+        PositionCandidateView unchanged = row("1", "E13", GROUP_A, "Stelle", "00100001");
+        PositionSnapshot previous = PositionSnapshot.build(1, List.of(
+                unchanged,
+                row("2", "E13", GROUP_A, "Stelle", "00100002")));
+
+        PositionSnapshot rebuilt = PositionSnapshot.build(2, List.of(
+                unchanged,
+                row("2", "E13", GROUP_B, "Stelle", "00100002")), previous);
+
+        assertThat(rebuilt.groupsByObjectId().get("1")).isSameAs(previous.groupsByObjectId().get("1"));
+        assertThat(rebuilt.groupsByObjectId().get("2")).isNotSameAs(previous.groupsByObjectId().get("2"));
+        assertThat(rebuilt.groups()).allSatisfy(group -> assertThat(group.assignments().timeline()).isNotNull());
+        assertThat(rebuilt.findGroups(GROUP_B, null)).extracting(PositionGroup::objectId).containsExactly("2");
+    }
+}
@@ -0,0 +1,145 @@
+package de.tum.cit.aet.positions.service.split;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Split Suggestion Solver Tests")
+class SplitSuggestionSolverTest {
+
+    private final SplitSuggestionSolver solver = new SplitSuggestionSolver();
+
+    @Test
+    @DisplayName("Combinations are ranked by minimal excess")
+    void findTopCombinations_rankedByExcess() {
+        long[] available = {6000, 4000, 5000, 3000, 7000};
+
+        List<int[]> combinations = solver.findTopCombinations(available, 10000, 2, 3);
+
+        // 7000 + 3000 and 6000 + 4000 are exact (the larger share first), 7000 + 4000 exceeds by 1000
+        assertThat(combinations).containsExactly(new int[]{3, 4}, new int[]{0, 1}, new int[]{1, 4});
+    }
+
+    @Test
+    @DisplayName("No combination is returned if the target cannot be reached")
+    void findTopCombinations_unreachableTarget() {
+        long[] available = {2000, 3000, 1000};
+
+        assertThat(solver.findTopCombinations(available, 10000, 2, 5)).isEmpty();
+        assertThat(solver.findTopCombinations(available, 10000, 4, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Positions beyond the first 100 are considered")
+    void findTopCombinations_considersAllPositions() {
+        long[] available = new long[500];
+        Arrays.fill(available, 2000);
+        available[450] = 5000;
+        available[499] = 5000;
+
+        List<int[]> combinations = solver.findTopCombinations(available, 10000, 2, 1);
+
+        assertThat(combinations).containsExactly(new int[]{450, 499});
+    }
+
+    @Test
+    @DisplayName("Large groups of equal positions are solved without enumerating them")
+    void findTopCombinations_manyEqualPositions() {
+        long[] available = new long[10_000];
+        Arrays.fill(available, 2500);
+
+        List<int[]> combinations = solver.findTopCombinations(available, 10000, 4, 2);
+
+        assertThat(combinations).containsExactly(new int[]{0, 1, 2, 3}, new int[]{0, 1, 2, 4});
+    }
+
+    @Test
+    @DisplayName("Explored combinations are reported")
+    void findTopCombinations_reportsExploredCombinations() {
+        long[] available = {6000, 4000, 5000, 3000, 7000};
+        long[] explored = new long[1];
+
+        solver.findTopCombinations(available, 10000, 2, 3, count -> explored[0] = count);
+
+        // Only valid combinations are explored, at most the 6 pairs that reach the target
+        assertThat(explored[0]).isBetween(3L, 6L);
+
+        solver.findTopCombinations(available, 100000, 2, 3, count -> explored[0] = count);
+        assertThat(explored[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("Randomized comparison against exhaustive search")
+    void randomizedComparison_matchesExhaustiveSearch() {
+        Random random = new Random(42);
+        for (int run = 0; run < 2000; run++) {
+            int n = random.nextInt(12);
+            long[] available = new long[n];
+            for (int i = 0; i < n; i++) {
+                // Coarse steps produce many ties, which exercise the tie-breaking
+                available[i] = run % 2 == 0 ? (1 + random.nextInt(20)) * 500L : 1 + random.nextInt(10000);
+            }
+            long target = (1 + random.nextInt(100)) * 100L;
+            int size = 1 + random.nextInt(4);
+            int maxResults = 1 + random.nextInt(5);
+
+            List<int[]> expected = exhaustiveSearch(available, target, size, maxResults);
+            List<int[]> actual = solver.findTopCombinations(available, target, size, maxResults);
+
+            assertThat(actual).as("run %d: %s, target %d, size %d", run, Arrays.toString(available), target, size)
+                    .usingElementComparator(Arrays::compare)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    /**
+     * Reference implementation: all combinations ranked by excess, then by the availability ranks of their
+     * positions (stable descending order of availability).
+     */
+    private static List<int[]> exhaustiveSearch(long[] available, long target, int size, int maxResults) {
+        int n = available.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(available[b], available[a]));
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        List<int[]> valid = new ArrayList<>();
+        collect(available, target, size, 0, new int[size], 0, valid);
+        valid.sort(Comparator.<int[]>comparingLong(c -> sum(available, c))
+                .thenComparing(c -> Arrays.stream(c).map(i -> rank[i]).sorted().toArray(), Arrays::compare));
+        return valid.subList(0, Math.min(maxResults, valid.size()));
+    }
+
+    private static void collect(long[] available, long target, int size, int from, int[] current, int depth, List<int[]> valid) {
+        if (depth == size) {
+            if (sum(available, current) >= target) {
+                valid.add(current.clone());
+            }
+            return;
+        }
+        for (int i = from; i < available.length; i++) {
+            current[depth] = i;
+            collect(available, target, size, i + 1, current, depth + 1, valid);
+        }
+    }
+
+    private static long sum(long[] available, int[] combination) {
+        long sum = 0;
+        for (int index : combination) {
+            sum += available[index];
+        }
+        return sum;
+    }
+}
@@ -1,26 +1,37 @@
 package de.tum.cit.aet.positions.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import de.tum.cit.aet.AbstractRestIntegrationTest;
 import de.tum.cit.aet.positions.domain.Position;
 import de.tum.cit.aet.positions.dto.PositionFinderRequestDTO;
+import de.tum.cit.aet.positions.dto.SimulatedAssignmentDTO;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("Position Finder REST API Tests")
 class PositionFinderResourceTest extends AbstractRestIntegrationTest {
 
     private static final String SEARCH_URL = "/v2/position-finder/search";
+    private static final String STREAM_SEARCH_URL = "/v2/position-finder/search/stream";
+    private static final String BATCH_SEARCH_URL = "/v2/position-finder/search/batch";
+    private static final String PLAN_URL = "/v2/position-finder/plan";
     private static final String RELEVANCE_TYPES_URL = "/v2/position-finder/relevance-types";
+    private static final String SIMULATIONS_URL = "/v2/position-finder/simulations";
 
     private ResearchGroup machineLearningGroup;
 
@@ -292,6 +303,354 @@ class PositionFinderResourceTest extends AbstractRestIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /v2/position-finder/search/stream - Tests")
+    class StreamSearchTests {
+
+        private final PositionFinderRequestDTO searchRequest = new PositionFinderRequestDTO(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E13", 50, null, null);
+
+        private List<JsonNode> streamLines(String url) throws Exception {
+            MvcResult result = postJson(url, searchRequest)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                lines.add(objectMapper.readTree(line));
+            }
+            return lines;
+        }
+
+        @Test
+        @DisplayName("Streams the summary first, then the matches in score order, then the completion")
+        void streamSearchPositions_asJobManager_streamsEventsInOrder() throws Exception {
+            setJobManagerUser();
+
+            List<JsonNode> lines = streamLines(STREAM_SEARCH_URL);
+
+            assertThat(lines.getFirst().get("type").asText()).isEqualTo("SUMMARY");
+            assertThat(lines.getFirst().get("summary").get("employeeGrade").asText()).isEqualTo("E13");
+            assertThat(lines.getFirst().get("summary").get("candidateCount").asInt()).isEqualTo(3);
+            assertThat(lines.getLast().get("type").asText()).isEqualTo("COMPLETE");
+
+            List<JsonNode> matches = lines.stream().filter(line -> line.get("type").asText().equals("MATCH")).toList();
+            assertThat(matches).hasSize(lines.getLast().get("totalMatchesFound").asInt());
+            for (int i = 1; i < matches.size(); i++) {
+                assertThat(matches.get(i).get("match").get("overallScore").asDouble())
+                        .isLessThanOrEqualTo(matches.get(i - 1).get("match").get("overallScore").asDouble());
+            }
+        }
+
+        @Test
+        @DisplayName("Limit caps the number of streamed matches, not the total")
+        void streamSearchPositions_withLimit_streamsBestMatchesOnly() throws Exception {
+            setJobManagerUser();
+
+            List<JsonNode> all = streamLines(STREAM_SEARCH_URL);
+            List<JsonNode> limited = streamLines(STREAM_SEARCH_URL + "?limit=1");
+
+            List<JsonNode> allMatches = all.stream().filter(line -> line.get("type").asText().equals("MATCH")).toList();
+            List<JsonNode> limitedMatches = limited.stream().filter(line -> line.get("type").asText().equals("MATCH")).toList();
+            assertThat(limitedMatches).hasSize(Math.min(1, allMatches.size()));
+            if (!allMatches.isEmpty()) {
+                assertThat(limitedMatches.getFirst()).isEqualTo(allMatches.getFirst());
+            }
+            assertThat(limited.getLast().get("totalMatchesFound")).isEqualTo(all.getLast().get("totalMatchesFound"));
+        }
+
+        @Test
+        @DisplayName("Invalid request returns 400 before streaming")
+        void streamSearchPositions_unknownGrade_returns400() throws Exception {
+            setAdminUser();
+
+            postJson(STREAM_SEARCH_URL, new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "INVALID_GRADE", 100, null, null))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Professor gets 403 forbidden")
+        void streamSearchPositions_asProfessor_returns403() throws Exception {
+            setProfessorUser();
+
+            postJson(STREAM_SEARCH_URL, searchRequest)
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v2/position-finder/search/batch - Tests")
+    class BatchSearchTests {
+
+        private List<PositionFinderRequestDTO> batch() {
+            return List.of(
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1),
+                            "E14", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1),
+                            "INVALID_GRADE", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1),
+                            "E13", 50, null, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Returns one result per request in request order")
+        void searchPositionsBatch_asJobManager_returnsResultsInOrder() throws Exception {
+            setJobManagerUser();
+
+            postJson(BATCH_SEARCH_URL, batch())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[0].index").value(0))
+                    .andExpect(jsonPath("$[0].response.employeeGrade").value("E14"))
+                    .andExpect(jsonPath("$[0].error").doesNotExist())
+                    .andExpect(jsonPath("$[1].index").value(1))
+                    .andExpect(jsonPath("$[1].response").doesNotExist())
+                    .andExpect(jsonPath("$[1].error", containsString("Unknown employee grade")))
+                    .andExpect(jsonPath("$[2].response.employeeGrade").value("E13"))
+                    .andExpect(jsonPath("$[2].response.fillPercentage").value(50));
+        }
+
+        @Test
+        @DisplayName("Empty batch returns 400")
+        void searchPositionsBatch_emptyBatch_returns400() throws Exception {
+            setAdminUser();
+
+            postJson(BATCH_SEARCH_URL, List.of())
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Professor gets 403 forbidden")
+        void searchPositionsBatch_asProfessor_returns403() throws Exception {
+            setProfessorUser();
+
+            postJson(BATCH_SEARCH_URL, batch())
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v2/position-finder/plan - Tests")
+    class PlanTests {
+
+        @Test
+        @DisplayName("Two requests never share the same position")
+        void planAssignments_competingRequests_assignsPositionOnce() throws Exception {
+            setJobManagerUser();
+            // Only 30000001 is free at 100% during the period
+            PositionFinderRequestDTO request = new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null);
+
+            postJson(PLAN_URL, List.of(request, request))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assignments", hasSize(2)))
+                    .andExpect(jsonPath("$.assignedCount").value(1))
+                    .andExpect(jsonPath("$.unassignedCount").value(1))
+                    .andExpect(jsonPath("$.assignments[*].match.objectId", contains("30000001")));
+        }
+
+        @Test
+        @DisplayName("Requests with disjoint periods can share the same position")
+        void planAssignments_disjointPeriods_sharePosition() throws Exception {
+            setJobManagerUser();
+            // Only 30000001 is free at 100%, for both periods
+            List<PositionFinderRequestDTO> requests = List.of(
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 8, 31), "E14", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 9, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null)
+            );
+
+            postJson(PLAN_URL, requests)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assignedCount").value(2))
+                    .andExpect(jsonPath("$.unassignedCount").value(0))
+                    .andExpect(jsonPath("$.assignments[*].match.objectId", contains("30000001", "30000001")));
+        }
+
+        @Test
+        @DisplayName("Requests with back-to-back periods can share a position")
+        void planAssignments_touchingPeriods_sharePosition() throws Exception {
+            setJobManagerUser();
+            // Periods end exclusively, so the second request starts on the day the first one ends
+            List<PositionFinderRequestDTO> requests = List.of(
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 9, 1), "E14", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 9, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null)
+            );
+
+            postJson(PLAN_URL, requests)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assignedCount").value(2))
+                    .andExpect(jsonPath("$.unassignedCount").value(0))
+                    .andExpect(jsonPath("$.assignments[*].match.objectId", contains("30000001", "30000001")));
+        }
+
+        @Test
+        @DisplayName("Invalid requests are reported without failing the plan")
+        void planAssignments_invalidRequest_reportsError() throws Exception {
+            setAdminUser();
+            List<PositionFinderRequestDTO> requests = List.of(
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1),
+                            "INVALID_GRADE", 100, null, null),
+                    new PositionFinderRequestDTO(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1),
+                            "E14", 100, null, null)
+            );
+
+            postJson(PLAN_URL, requests)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assignments[0].error", containsString("Unknown employee grade")))
+                    .andExpect(jsonPath("$.assignments[1].match.objectId").value("30000001"))
+                    .andExpect(jsonPath("$.assignedCount").value(1))
+                    .andExpect(jsonPath("$.unassignedCount").value(0));
+        }
+
+        @Test
+        @DisplayName("Professor gets 403 forbidden")
+        void planAssignments_asProfessor_returns403() throws Exception {
+            setProfessorUser();
+            PositionFinderRequestDTO request = new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E14", 100, null, null);
+
+            postJson(PLAN_URL, List.of(request))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("/v2/position-finder/simulations - What-if Simulation Tests")
+    class SimulationTests {
+
+        private static PositionFinderRequestDTO request(int fillPercentage) {
+            return new PositionFinderRequestDTO(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1), "E14", fillPercentage, null, null);
+        }
+
+        private String createSimulation() throws Exception {
+            String content = postJson(SIMULATIONS_URL, null)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").isNotEmpty())
+                    .andExpect(jsonPath("$.assignments", hasSize(0)))
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(content).get("id").asText();
+        }
+
+        private String addAssignment(String simulationId, String objectId, int percentage) throws Exception {
+            SimulatedAssignmentDTO assignment = new SimulatedAssignmentDTO(null, objectId, BigDecimal.valueOf(percentage),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 12, 31));
+            String content = postJson(SIMULATIONS_URL + "/" + simulationId + "/assignments", assignment)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode assignments = objectMapper.readTree(content).get("assignments");
+            return assignments.get(assignments.size() - 1).get("id").asText();
+        }
+
+        @Test
+        @DisplayName("Searches with a simulation see its hypothetical assignments")
+        void search_withSimulation_appliesAssignments() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+            addAssignment(simulationId, "30000001", 50);
+
+            postJson(SEARCH_URL + "?simulationId=" + simulationId, request(100))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalMatchesFound").value(0));
+
+            postJson(SEARCH_URL + "?simulationId=" + simulationId, request(50))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalMatchesFound").value(1))
+                    .andExpect(jsonPath("$.matches[0].objectId").value("30000001"))
+                    .andExpect(jsonPath("$.matches[0].availablePercentage").value(50.0))
+                    .andExpect(jsonPath("$.matches[0].objectDescription").value("Postdoc ML"));
+        }
+
+        @Test
+        @DisplayName("Simulations never change the actual positions")
+        void search_withoutSimulation_ignoresAssignments() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+            addAssignment(simulationId, "30000001", 100);
+
+            postJson(SEARCH_URL, request(100))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalMatchesFound").value(1))
+                    .andExpect(jsonPath("$.matches[0].objectId").value("30000001"));
+            assertThat(positionRepository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Removing an assignment restores the availability")
+        void removeAssignment_restoresAvailability() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+            String assignmentId = addAssignment(simulationId, "30000001", 50);
+
+            delete(SIMULATIONS_URL + "/" + simulationId + "/assignments/" + assignmentId)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assignments", hasSize(0)));
+
+            postJson(SEARCH_URL + "?simulationId=" + simulationId, request(100))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalMatchesFound").value(1));
+        }
+
+        @Test
+        @DisplayName("Simulations take positions imported later into account")
+        void search_afterDataChange_rebasesSimulation() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+            addAssignment(simulationId, "30000001", 50);
+
+            createPosition("30000004", "E14", machineLearningGroup, "Postdoc ML 2",
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2025, 2, 28), 100, "00100004", "Haushaltsstelle");
+
+            postJson(SEARCH_URL + "?simulationId=" + simulationId, request(50))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalMatchesFound").value(2))
+                    .andExpect(jsonPath("$.matches[?(@.objectId == '30000001')].availablePercentage", contains(50.0)))
+                    .andExpect(jsonPath("$.matches[?(@.objectId == '30000004')].availablePercentage", contains(100.0)));
+        }
+
+        @Test
+        @DisplayName("Assignments on unknown positions return 400")
+        void addAssignment_unknownPosition_returns400() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+            SimulatedAssignmentDTO assignment = new SimulatedAssignmentDTO(null, "99999999", BigDecimal.valueOf(50),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 12, 31));
+
+            postJson(SIMULATIONS_URL + "/" + simulationId + "/assignments", assignment)
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Discarded simulations return 404")
+        void search_discardedSimulation_returns404() throws Exception {
+            setJobManagerUser();
+            String simulationId = createSimulation();
+
+            delete(SIMULATIONS_URL + "/" + simulationId)
+                    .andExpect(status().isNoContent());
+
+            get(SIMULATIONS_URL + "/" + simulationId)
+                    .andExpect(status().isNotFound());
+            postJson(SEARCH_URL + "?simulationId=" + UUID.randomUUID(), request(100))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Professor gets 403 forbidden")
+        void createSimulation_asProfessor_returns403() throws Exception {
+            setProfessorUser();
+
+            postJson(SIMULATIONS_URL, null)
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("GET /v2/position-finder/relevance-types - Tests")
     class RelevanceTypesTests {
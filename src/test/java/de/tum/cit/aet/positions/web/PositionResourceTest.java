@@ -2,6 +2,7 @@ package de.tum.cit.aet.positions.web;
 
 import de.tum.cit.aet.AbstractRestIntegrationTest;
 import de.tum.cit.aet.config.TestSecurityConfiguration;
+import de.tum.cit.aet.core.config.StaffPlanProperties;
 import de.tum.cit.aet.positions.domain.Position;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
@@ -9,9 +10,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.unit.DataSize;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +30,9 @@ class PositionResourceTest extends AbstractRestIntegrationTest {
     private static final String BASE_URL = "/v2/positions";
     private static final String IMPORT_URL = "/v2/positions/import";
 
+    @Autowired
+    private StaffPlanProperties staffPlanProperties;
+
     private ResearchGroup machineLearningGroup;
     private ResearchGroup computerVisionGroup;
 
@@ -182,6 +190,243 @@ class PositionResourceTest extends AbstractRestIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /v2/positions/vacancies - Forecast Tests")
+    class GetVacanciesTests {
+
+        private static final String VACANCIES_URL = "/v2/positions/vacancies";
+
+        @Test
+        @DisplayName("Ending assignments are grouped by month and grade with freed budget")
+        void getVacancies_groupedByMonthAndGrade() throws Exception {
+            setAdminUser();
+
+            get(VACANCIES_URL + "?from=2025-01-01&months=6")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.from").value("2025-01-01"))
+                    .andExpect(jsonPath("$.until").value("2025-07-01"))
+                    .andExpect(jsonPath("$.vacancyCount").value(2))
+                    .andExpect(jsonPath("$.freedMonthlyBudget").value(9640.0))
+                    .andExpect(jsonPath("$.months", hasSize(2)))
+                    .andExpect(jsonPath("$.months[0].month").value("2025-03"))
+                    .andExpect(jsonPath("$.months[0].grades[0].grade").value("E14"))
+                    .andExpect(jsonPath("$.months[0].grades[0].freedMonthlyBudget").value(6000.0))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].objectId").value("30000001"))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].vacantFrom").value("2025-03-01"))
+                    .andExpect(jsonPath("$.months[1].month").value("2025-04"))
+                    .andExpect(jsonPath("$.months[1].grades[0].grade").value("E13"))
+                    .andExpect(jsonPath("$.months[1].grades[0].freedPercentage").value(65.0))
+                    .andExpect(jsonPath("$.months[1].grades[0].vacancies[0].freePercentageBefore").value(35.0))
+                    .andExpect(jsonPath("$.months[1].grades[0].vacancies[0].freePercentageAfter").value(100.0));
+        }
+
+        @Test
+        @DisplayName("Partial vacancies are reported when one of several assignments ends")
+        void getVacancies_partialVacancy() throws Exception {
+            setAdminUser();
+            createPosition("30000002", "E13", machineLearningGroup, "PhD Student ML",
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2027, 2, 28), 35, "00100003", "Haushaltsstelle");
+
+            get(VACANCIES_URL + "?from=2027-01-01&months=12&researchGroupId=" + machineLearningGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vacancyCount").value(2))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].vacantFrom").value("2027-03-01"))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].freePercentageBefore").value(0.0))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].freePercentageAfter").value(35.0))
+                    .andExpect(jsonPath("$.months[1].grades[0].vacancies[0].vacantFrom").value("2027-09-01"))
+                    .andExpect(jsonPath("$.months[1].grades[0].vacancies[0].freePercentageAfter").value(100.0));
+        }
+
+        @Test
+        @DisplayName("Research group filter applies to the ending rows")
+        void getVacancies_filteredByGroupOfEndingRow() throws Exception {
+            setAdminUser();
+            // Representative row (sorted first by tariff group) in Computer Vision, ending assignment in Machine Learning
+            createPosition("30000020", "E12", computerVisionGroup, "Shared Position",
+                    LocalDate.of(2020, 1, 1), LocalDate.of(2099, 12, 31), 100, "00000000", "Haushaltsstelle");
+            createPosition("30000020", "E13", machineLearningGroup, "Shared Position",
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2025, 5, 31), 100, "00100020", "Haushaltsstelle");
+            String sharedVacancies = "$.months[*].grades[*].vacancies[?(@.objectId == '30000020')]";
+
+            get(VACANCIES_URL + "?from=2025-01-01&months=6&researchGroupId=" + machineLearningGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(sharedVacancies + ".vacantFrom", contains("2025-06-01")))
+                    .andExpect(jsonPath(sharedVacancies + ".researchGroupId", contains(machineLearningGroup.getId().toString())));
+
+            get(VACANCIES_URL + "?from=2025-01-01&months=6&researchGroupId=" + computerVisionGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(sharedVacancies, hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Professor sees only vacancies of own group")
+        void getVacancies_asProfessor_returnsOwnGroupOnly() throws Exception {
+            User professorUser = TestSecurityConfiguration.createTestUser("ml_professor", "professor");
+            professorUser.setResearchGroup(machineLearningGroup);
+            TestSecurityConfiguration.setCurrentUser(professorUser);
+
+            get(VACANCIES_URL + "?from=2025-01-01&months=6&researchGroupId=" + computerVisionGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vacancyCount").value(1))
+                    .andExpect(jsonPath("$.months[0].grades[0].vacancies[0].objectId").value("30000001"));
+        }
+
+        @Test
+        @DisplayName("Invalid horizon returns 400")
+        void getVacancies_invalidHorizon_returns400() throws Exception {
+            setAdminUser();
+
+            get(VACANCIES_URL + "?months=0")
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("User without role gets 403 forbidden")
+        void getVacancies_withoutRole_returns403() throws Exception {
+            setUserWithNoRoles();
+
+            get(VACANCIES_URL)
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v2/positions/aggregates/budget - Budget Rollup Tests")
+    class GetBudgetRollupsTests {
+
+        private static final String BUDGET_URL = "/v2/positions/aggregates/budget";
+
+        private final YearMonth currentMonth = YearMonth.now();
+        private ResearchGroup roboticsGroup;
+
+        @BeforeEach
+        void setupRoboticsPositions() {
+            // Dates relative to the current month, which is always covered by the rollups
+            roboticsGroup = createResearchGroup("Robotics", "I-RO");
+            createPosition("40000001", "E13", roboticsGroup, "PhD Student RO",
+                    currentMonth.minusMonths(12).atDay(1), currentMonth.atEndOfMonth(), 100, "00100020", "Haushaltsstelle");
+            createPosition("40000002", "E13", roboticsGroup, "PhD Student RO",
+                    currentMonth.atDay(1), currentMonth.atDay(15), 50, "00100021", "Haushaltsstelle");
+            createPosition("40000003", "E14", roboticsGroup, "Postdoc RO",
+                    currentMonth.minusMonths(12).atDay(1), currentMonth.plusMonths(12).atEndOfMonth(), 100, "00000000", "Drittmittelstelle");
+        }
+
+        @Test
+        @DisplayName("Capacity and assigned budget are summed up per month, grade and relevance type")
+        void getBudgetRollups_perMonthGradeAndRelevanceType() throws Exception {
+            setAdminUser();
+            BigDecimal proratedHalfMonth = BigDecimal.valueOf(2800)
+                    .multiply(BigDecimal.valueOf(15))
+                    .divide(BigDecimal.valueOf(currentMonth.lengthOfMonth()), 2, RoundingMode.HALF_UP);
+            BigDecimal assigned = BigDecimal.valueOf(5600).add(proratedHalfMonth);
+
+            get(BUDGET_URL + "?from=" + currentMonth + "&months=2&researchGroupId=" + roboticsGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(4)))
+                    .andExpect(jsonPath("$[0].month").value(currentMonth.toString()))
+                    .andExpect(jsonPath("$[0].grade").value("E13"))
+                    .andExpect(jsonPath("$[0].relevanceType").value("Haushaltsstelle"))
+                    .andExpect(jsonPath("$[0].positionCount").value(2))
+                    .andExpect(jsonPath("$[0].capacityBudget").value(11200.0))
+                    .andExpect(jsonPath("$[0].assignedBudget").value(assigned.doubleValue()))
+                    .andExpect(jsonPath("$[0].availableBudget").value(BigDecimal.valueOf(11200).subtract(assigned).doubleValue()))
+                    .andExpect(jsonPath("$[1].grade").value("E14"))
+                    .andExpect(jsonPath("$[1].relevanceType").value("Drittmittelstelle"))
+                    .andExpect(jsonPath("$[1].assignedBudget").value(0.0))
+                    .andExpect(jsonPath("$[1].availableBudget").value(6000.0))
+                    .andExpect(jsonPath("$[2].month").value(currentMonth.plusMonths(1).toString()))
+                    .andExpect(jsonPath("$[2].grade").value("E13"))
+                    .andExpect(jsonPath("$[2].assignedBudget").value(0.0))
+                    .andExpect(jsonPath("$[2].availableBudget").value(11200.0));
+        }
+
+        @Test
+        @DisplayName("Rollups reflect positions added after the last read")
+        void getBudgetRollups_refreshedAfterChanges() throws Exception {
+            setAdminUser();
+            String url = BUDGET_URL + "?from=" + currentMonth + "&months=1&researchGroupId=" + roboticsGroup.getId();
+
+            get(url)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            createPosition("40000004", "E15", roboticsGroup, "Group Leader RO",
+                    currentMonth.minusMonths(12).atDay(1), currentMonth.plusMonths(12).atEndOfMonth(), 100, "00100022", "Haushaltsstelle");
+
+            get(url)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[2].grade").value("E15"));
+        }
+
+        @Test
+        @DisplayName("Rows with unknown grades count as assignments; positions are attributed to their representative row")
+        void getBudgetRollups_mixedGrades() throws Exception {
+            setAdminUser();
+            // Occupant row of the E14 position with an unmapped grade, sorted after the representative E14 row
+            createPosition("40000003", "Z99", roboticsGroup, "Postdoc RO",
+                    currentMonth.atDay(1), currentMonth.atEndOfMonth(), 100, "00100023", "Drittmittelstelle");
+            // Position whose representative row (sorted first by tariff group) has an unmapped grade
+            createPosition("40000005", "AT", roboticsGroup, "Engineer RO",
+                    currentMonth.minusMonths(12).atDay(1), currentMonth.atEndOfMonth(), 100, "00100024", "Haushaltsstelle");
+            createPosition("40000005", "E15", roboticsGroup, "Engineer RO",
+                    currentMonth.atDay(1), currentMonth.atEndOfMonth(), 100, "00100025", "Haushaltsstelle");
+
+            get(BUDGET_URL + "?from=" + currentMonth + "&months=1&researchGroupId=" + roboticsGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].grade").value("E13"))
+                    .andExpect(jsonPath("$[0].positionCount").value(2))
+                    .andExpect(jsonPath("$[1].grade").value("E14"))
+                    .andExpect(jsonPath("$[1].assignedBudget").value(6000.0))
+                    .andExpect(jsonPath("$[1].availableBudget").value(0.0));
+        }
+
+        @Test
+        @DisplayName("Professor sees only the budget of own group")
+        void getBudgetRollups_asProfessor_returnsOwnGroupOnly() throws Exception {
+            User professorUser = TestSecurityConfiguration.createTestUser("ro_professor", "professor");
+            professorUser.setResearchGroup(roboticsGroup);
+            TestSecurityConfiguration.setCurrentUser(professorUser);
+
+            get(BUDGET_URL + "?from=" + currentMonth + "&months=1&researchGroupId=" + machineLearningGroup.getId())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[*].researchGroupId", everyItem(is(roboticsGroup.getId().toString()))));
+        }
+
+        @Test
+        @DisplayName("Invalid range returns 400")
+        void getBudgetRollups_invalidRange_returns400() throws Exception {
+            setAdminUser();
+
+            get(BUDGET_URL + "?months=0")
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Range outside the months covered by the rollups returns 400")
+        void getBudgetRollups_rangeNotCovered_returns400() throws Exception {
+            setAdminUser();
+
+            get(BUDGET_URL + "?from=" + currentMonth.minusMonths(25) + "&months=1")
+                    .andExpect(status().isBadRequest());
+            get(BUDGET_URL + "?from=" + currentMonth.plusMonths(50) + "&months=12")
+                    .andExpect(status().isBadRequest());
+            get(BUDGET_URL + "?from=" + currentMonth.minusMonths(24) + "&months=1")
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("User without role gets 403 forbidden")
+        void getBudgetRollups_withoutRole_returns403() throws Exception {
+            setUserWithNoRoles();
+
+            get(BUDGET_URL)
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("POST /v2/positions/import - Authorization Tests")
     class ImportPositionsAuthorizationTests {
@@ -376,5 +621,259 @@ class PositionResourceTest extends AbstractRestIntegrationTest {
             assertThat(imported.getTariffGroup()).isEqualTo("E13");
             assertThat(imported.getObjectDescription()).isEqualTo("Import Test 1");
         }
+
+        @Test
+        @DisplayName("Import reads quoted descriptions spanning lines")
+        void importPositions_multiLineQuotedField_persistsDescription() throws Exception {
+            setAdminUser();
+
+            String csv = "ObjektId;Objektbezeichnung;TrfGr(P);Prozt.\n"
+                    + "50000003;\"Lab \"\"Robotics\"\"\nsecond line\";E13;100\n"
+                    + "50000004;Plain;E14;50\n";
+
+            uploadFile(IMPORT_URL, "file", "positions.csv", csv)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(2));
+
+            Position quoted = positionRepository.findAll().stream()
+                    .filter(p -> "50000003".equals(p.getObjectId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(quoted.getObjectDescription()).isEqualTo("Lab \"Robotics\"\nsecond line");
+            assertThat(quoted.getTariffGroup()).isEqualTo("E13");
+        }
+
+        @Test
+        @DisplayName("Parallel import persists every record of the file")
+        void importPositions_parallel_persistsAllRows() throws Exception {
+            setAdminUser();
+
+            StringBuilder csv = new StringBuilder("ObjektId;Objektbezeichnung;TrfGr(P);Prozt.;Beginn (P)\n");
+            for (int i = 0; i < 300; i++) {
+                String description = i % 7 == 0 ? "\"Lab " + i + "\nsecond; line\"" : "Lab " + i;
+                csv.append("5200").append(String.format("%04d", i)).append(';').append(description).append(";E13;")
+                        .append(i % 100).append(";1/1/25\n");
+            }
+
+            StaffPlanProperties.PositionImport properties = staffPlanProperties.getPositionImport();
+            DataSize threshold = properties.getParallelThreshold();
+            DataSize chunkSize = properties.getChunkSize();
+            int parallelism = properties.getParallelism();
+            try {
+                // Small chunks, so that the file is split into many chunks parsed concurrently
+                properties.setParallelThreshold(DataSize.ofBytes(0));
+                properties.setChunkSize(DataSize.ofBytes(256));
+                properties.setParallelism(3);
+
+                uploadFile(IMPORT_URL, "file", "positions.csv", csv.toString())
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.count").value(300))
+                        .andExpect(jsonPath("$.skipped").value(0))
+                        .andExpect(jsonPath("$.errors").isEmpty());
+            } finally {
+                properties.setParallelThreshold(threshold);
+                properties.setChunkSize(chunkSize);
+                properties.setParallelism(parallelism);
+            }
+
+            List<Position> imported = positionRepository.findAll().stream()
+                    .filter(p -> p.getObjectId() != null && p.getObjectId().startsWith("5200"))
+                    .toList();
+            assertThat(imported).hasSize(300);
+            assertThat(imported).allSatisfy(p -> {
+                int i = Integer.parseInt(p.getObjectId().substring(4));
+                assertThat(p.getObjectDescription()).isEqualTo(i % 7 == 0 ? "Lab " + i + "\nsecond; line" : "Lab " + i);
+                assertThat(p.getPercentage()).isEqualByComparingTo(BigDecimal.valueOf(i % 100));
+                assertThat(p.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+            });
+        }
+
+        @Test
+        @DisplayName("Import writes files larger than one batch and reports its rate")
+        void importPositions_multipleBatches_persistsAllRows() throws Exception {
+            setAdminUser();
+
+            StringBuilder csv = new StringBuilder("Stellenplanrelevanzart,ObjektId,TrfGr(P),Prozt.,Beginn (P),Ende (P),PersNr\n");
+            for (int i = 0; i < 2500; i++) {
+                csv.append("Haushaltsstelle,5100").append(String.format("%04d", i)).append(",E 13 TVL,50,1/1/24,12/31/26,")
+                        .append(String.format("%08d", i)).append('\n');
+            }
+
+            uploadFile(IMPORT_URL, "file", "positions.csv", csv.toString())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(2500))
+                    .andExpect(jsonPath("$.skipped").value(0))
+                    .andExpect(jsonPath("$.durationMillis").isNumber())
+                    .andExpect(jsonPath("$.rowsPerSecond").isNumber());
+
+            List<Position> imported = positionRepository.findAll().stream()
+                    .filter(p -> p.getObjectId() != null && p.getObjectId().startsWith("5100"))
+                    .toList();
+            assertThat(imported).hasSize(2500);
+            assertThat(imported).allSatisfy(p -> {
+                assertThat(p.getId()).isNotNull();
+                assertThat(p.getNormalizedGrade()).isEqualTo("E13");
+                assertThat(p.getStartDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v2/positions/import?mode=delta - Delta Import Tests")
+    class DeltaImportTests {
+
+        private static final String DELTA_IMPORT_URL = IMPORT_URL + "?mode=delta";
+        private static final String HEADER = "ObjektId;Objektbezeichnung;TrfGr(P);Prozt.;Beginn (P);PersNr\n";
+
+        private static String csv(String... rows) {
+            return HEADER + String.join("\n", rows) + "\n";
+        }
+
+        private Position findPosition(String objectId) {
+            return positionRepository.findAll().stream()
+                    .filter(p -> objectId.equals(p.getObjectId()))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        @Test
+        @DisplayName("Delta import replaces the stored positions")
+        void deltaImport_replacesStoredPositions() throws Exception {
+            setAdminUser();
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv(
+                    "60000001;Delta 1;E13;100;1/1/25;00600001",
+                    "60000002;Delta 2;E14;50;1/1/25;00600002"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.inserted").value(2))
+                    .andExpect(jsonPath("$.updated").value(0))
+                    .andExpect(jsonPath("$.deleted").value(4))
+                    .andExpect(jsonPath("$.unchanged").value(0));
+
+            assertThat(positionRepository.findAll())
+                    .extracting(Position::getObjectId)
+                    .containsExactlyInAnyOrder("60000001", "60000002");
+        }
+
+        @Test
+        @DisplayName("Importing the same file again writes nothing")
+        void deltaImport_sameFile_writesNothing() throws Exception {
+            setAdminUser();
+            String csv = csv(
+                    "60000001;Delta 1;E13;100;1/1/25;00600001",
+                    "60000002;Delta 2;E14;50,0;1/1/25;00600002",
+                    "60000002;Delta 2;E14;50,0;1/1/25;00600002");
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv)
+                    .andExpect(status().isOk());
+            Position before = findPosition("60000001");
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(3))
+                    .andExpect(jsonPath("$.inserted").value(0))
+                    .andExpect(jsonPath("$.updated").value(0))
+                    .andExpect(jsonPath("$.deleted").value(0))
+                    .andExpect(jsonPath("$.unchanged").value(3));
+
+            assertThat(positionRepository.findAll()).hasSize(3);
+            assertThat(findPosition("60000001").getUpdatedAt()).isEqualTo(before.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("Changed rows are updated in place, missing rows deleted and new rows inserted")
+        void deltaImport_changedRows_writesOnlyDifferences() throws Exception {
+            setAdminUser();
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv(
+                    "60000001;Delta 1;E13;100;1/1/25;00600001",
+                    "60000002;Delta 2;E14;50;1/1/25;00600002",
+                    "60000003;Delta 3;E13;65;1/1/25;00600003"))
+                    .andExpect(status().isOk());
+            Position assigned = findPosition("60000002");
+            assigned.setResearchGroup(machineLearningGroup);
+            positionRepository.save(assigned);
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv(
+                    "60000001;Delta 1;E13;100;1/1/25;00600001",
+                    "60000002;Delta 2 renamed;E14;75;1/1/25;00600002",
+                    "60000004;Delta 4;E15;100;1/1/25;00600004"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.inserted").value(1))
+                    .andExpect(jsonPath("$.updated").value(1))
+                    .andExpect(jsonPath("$.deleted").value(1))
+                    .andExpect(jsonPath("$.unchanged").value(1));
+
+            assertThat(positionRepository.findAll())
+                    .extracting(Position::getObjectId)
+                    .containsExactlyInAnyOrder("60000001", "60000002", "60000004");
+            List<Position> updated = positionRepository.findByResearchGroupIdWithResearchGroup(machineLearningGroup.getId());
+            assertThat(updated).singleElement().satisfies(p -> {
+                assertThat(p.getId()).isEqualTo(assigned.getId());
+                assertThat(p.getObjectDescription()).isEqualTo("Delta 2 renamed");
+                assertThat(p.getPercentage()).isEqualByComparingTo(BigDecimal.valueOf(75));
+            });
+        }
+
+        @Test
+        @DisplayName("Positions stored without content hash are rewritten and keep their research group")
+        void deltaImport_positionsWithoutHash_areUpdated() throws Exception {
+            setAdminUser();
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv(
+                    "30000001;Postdoc ML;E14;100;3/1/22;00100001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.inserted").value(0))
+                    .andExpect(jsonPath("$.updated").value(1))
+                    .andExpect(jsonPath("$.deleted").value(3));
+
+            Position position = findPosition("30000001");
+            assertThat(position.getContentHash()).isNotNull();
+            assertThat(positionRepository.findByResearchGroupIdWithResearchGroup(machineLearningGroup.getId()))
+                    .extracting(Position::getId)
+                    .containsExactly(position.getId());
+        }
+
+        @Test
+        @DisplayName("Header-only file returns 400 and deletes nothing")
+        void deltaImport_headerOnly_deletesNothing() throws Exception {
+            setAdminUser();
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", HEADER)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").exists());
+
+            assertThat(positionRepository.findAll()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("File with a malformed line returns 400 with the line errors and changes nothing")
+        void deltaImport_malformedLine_changesNothing() throws Exception {
+            setAdminUser();
+
+            uploadFile(DELTA_IMPORT_URL, "file", "positions.csv", csv(
+                    "30000001;Postdoc ML renamed;E14;100;3/1/22;00100001",
+                    ";No object ID;E13;100;1/1/25;00600001",
+                    "60000002;Bad date;E13;100;not a date;00600002"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.skipped").value(2))
+                    .andExpect(jsonPath("$.errors", hasSize(2)))
+                    .andExpect(jsonPath("$.errors[0]", startsWith("Line 3:")))
+                    .andExpect(jsonPath("$.errors[1]", startsWith("Line 4:")));
+
+            assertThat(positionRepository.findAll())
+                    .extracting(Position::getObjectId)
+                    .containsExactlyInAnyOrder("30000001", "30000002", "30000010", "30000011");
+            assertThat(findPosition("30000001").getObjectDescription()).isEqualTo("Postdoc ML");
+        }
+
+        @Test
+        @DisplayName("Unknown import mode returns 400")
+        void importPositions_unknownMode_returns400() throws Exception {
+            setAdminUser();
+
+            uploadFile(IMPORT_URL + "?mode=replace", "file", "positions.csv", csv("60000001;Delta 1;E13;100;1/1/25;00600001"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").exists());
+        }
     }
 }
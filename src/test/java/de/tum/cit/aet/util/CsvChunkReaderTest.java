@@ -0,0 +1,89 @@
+package de.tum.cit.aet.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CSV Chunk Reader Tests")
+class CsvChunkReaderTest {
+
+    private static List<CsvChunkReader.Chunk> chunks(String csv, int minLength) throws IOException {
+        CsvChunkReader reader = new CsvChunkReader(new StringReader(csv));
+        List<CsvChunkReader.Chunk> chunks = new ArrayList<>();
+        CsvChunkReader.Chunk chunk;
+        while ((chunk = reader.next(minLength)) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static String text(CsvChunkReader.Chunk chunk) {
+        return new String(chunk.chars(), 0, chunk.length());
+    }
+
+    /**
+     * Tokenizes all chunks and returns every record with its line number in front.
+     */
+    private static List<List<String>> records(List<CsvChunkReader.Chunk> chunks) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        for (CsvChunkReader.Chunk chunk : chunks) {
+            CsvTokenizer tokenizer = CsvTokenizer.of(chunk.reader(), ',', chunk.firstLineNumber());
+            while (tokenizer.nextRecord()) {
+                List<String> record = new ArrayList<>();
+                record.add(String.valueOf(tokenizer.lineNumber()));
+                record.addAll(Arrays.asList(tokenizer.values()));
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Chunks end after whole lines and keep their line numbers")
+    void chunksEndAfterLines() throws IOException {
+        List<CsvChunkReader.Chunk> chunks = chunks("a,1\nb,2\nc,3\nd,4", 5);
+
+        assertThat(chunks).extracting(CsvChunkReaderTest::text).containsExactly("a,1\nb,2\n", "c,3\nd,4");
+        assertThat(chunks).extracting(CsvChunkReader.Chunk::firstLineNumber).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("Line breaks in quoted fields do not end a chunk")
+    void quotedLineBreaks() throws IOException {
+        List<CsvChunkReader.Chunk> chunks = chunks("h\n\"x\ny\"\"\nz\",1\nlast\n", 1);
+
+        assertThat(chunks).extracting(CsvChunkReaderTest::text).containsExactly("h\n", "\"x\ny\"\"\nz\",1\n", "last\n");
+        assertThat(chunks).extracting(CsvChunkReader.Chunk::firstLineNumber).containsExactly(1, 2, 5);
+    }
+
+    @Test
+    @DisplayName("Tokenizing the chunks yields the records and line numbers of the whole file")
+    void randomFiles_matchWholeFile() throws IOException {
+        Random random = new Random(42);
+        String[] values = {"plain", "\"quoted, with delimiter\"", "\"multi\nline\"", "\"say \"\"hi\"\"\"", ""};
+        for (int run = 0; run < 200; run++) {
+            StringBuilder csv = new StringBuilder();
+            for (int line = random.nextInt(30); line > 0; line--) {
+                for (int field = 0; field < 3; field++) {
+                    if (field > 0) {
+                        csv.append(',');
+                    }
+                    csv.append(values[random.nextInt(values.length)]);
+                }
+                csv.append(random.nextBoolean() ? "\n" : "\r\n");
+            }
+            String text = csv.toString();
+
+            assertThat(records(chunks(text, 1 + random.nextInt(50))))
+                    .isEqualTo(records(List.of(new CsvChunkReader.Chunk(text.toCharArray(), text.length(), 1))));
+        }
+    }
+}
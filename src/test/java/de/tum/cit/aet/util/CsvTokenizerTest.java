@@ -0,0 +1,132 @@
+package de.tum.cit.aet.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CSV Tokenizer Tests")
+class CsvTokenizerTest {
+
+    private static List<List<String>> tokenize(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            records.add(Arrays.asList(tokenizer.values()));
+        }
+        return records;
+    }
+
+    /**
+     * A reader that returns at most one character per read, so that every token crosses a buffer boundary.
+     */
+    private static Reader trickle(String text) {
+        return new StringReader(text) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(1, length));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Splits records and trims fields")
+    void simpleRecords() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader("a, b ,c\n1,,3\n"), ',');
+
+        assertThat(tokenize(tokenizer)).containsExactly(List.of("a", "b", "c"), List.of("1", "", "3"));
+    }
+
+    @Test
+    @DisplayName("Quoted fields may contain delimiters, escaped quotes and line breaks")
+    void quotedFields() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader(
+                "\"a,b\",\"say \"\"hi\"\"\",\"line 1\nline 2\"\nnext,record\n"), ',');
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.values()).containsExactly("a,b", "say \"hi\"", "line 1\nline 2");
+        assertThat(tokenizer.lineNumber()).isEqualTo(1);
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.values()).containsExactly("next", "record");
+        assertThat(tokenizer.lineNumber()).isEqualTo(3);
+
+        assertThat(tokenizer.nextRecord()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Handles CRLF, CR and a missing final line break")
+    void lineBreaks() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader("a;b\r\nc;d\re;f"), ';');
+
+        assertThat(tokenize(tokenizer)).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+        assertThat(tokenizer.lineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Reports empty lines as empty records")
+    void emptyLines() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader("a\n\n  \nb\n"), ',');
+        List<Boolean> empty = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            empty.add(tokenizer.isEmptyRecord());
+        }
+
+        assertThat(empty).containsExactly(false, true, true, false);
+    }
+
+    @Test
+    @DisplayName("Values are null for blank and missing fields")
+    void value_nullForBlankAndMissingFields() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader("x, ,z"), ',');
+        tokenizer.nextRecord();
+
+        assertThat(tokenizer.value(0)).isEqualTo("x");
+        assertThat(tokenizer.value(1)).isNull();
+        assertThat(tokenizer.value(5)).isNull();
+        assertThat(tokenizer.value(-1)).isNull();
+        assertThat(new String(tokenizer.buffer(), tokenizer.start(2), tokenizer.end(2) - tokenizer.start(2))).isEqualTo("z");
+    }
+
+    @Test
+    @DisplayName("Detects the delimiter from the header and strips a BOM")
+    void open_detectsDelimiterAndStripsBom() throws IOException {
+        CsvTokenizer tokenizer = CsvTokenizer.open(new StringReader("\uFEFFName;Grade;Description\nA;E13;\"x, y\"\n"));
+
+        assertThat(tokenizer.delimiter()).isEqualTo(';');
+        assertThat(tokenize(tokenizer)).containsExactly(List.of("Name", "Grade", "Description"), List.of("A", "E13", "x, y"));
+    }
+
+    @Test
+    @DisplayName("Tokens crossing buffer boundaries are read like any other")
+    void bufferBoundaries() throws IOException {
+        String csv = "id,description\r\n1,\"quoted \"\"text\"\"\r\nwith break\"\r\n2,plain\r\n";
+
+        assertThat(tokenize(CsvTokenizer.open(trickle(csv))))
+                .isEqualTo(tokenize(CsvTokenizer.open(new StringReader(csv))))
+                .containsExactly(List.of("id", "description"), List.of("1", "quoted \"text\"\r\nwith break"), List.of("2", "plain"));
+    }
+
+    @Test
+    @DisplayName("Records longer than the initial buffers are read completely")
+    void longRecords() throws IOException {
+        String longField = "x".repeat(20_000);
+        StringBuilder csv = new StringBuilder(longField);
+        for (int i = 0; i < 100; i++) {
+            csv.append(',').append(i);
+        }
+
+        CsvTokenizer tokenizer = CsvTokenizer.of(new StringReader(csv.toString()), ',');
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.fieldCount()).isEqualTo(101);
+        assertThat(tokenizer.value(0)).isEqualTo(longField);
+        assertThat(tokenizer.value(100)).isEqualTo("99");
+    }
+}
@@ -0,0 +1,106 @@
+package de.tum.cit.aet.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Date Decoder Tests")
+class DateDecoderTest {
+
+    /**
+     * The formatter-based parsing the decoder replaces, as reference.
+     */
+    private static final DateTimeFormatter[] REFERENCE_FORMATTERS = {
+            DateTimeFormatter.ofPattern("M/d/yy"),
+            DateTimeFormatter.ofPattern("M/d/yyyy"),
+            DateTimeFormatter.ofPattern("MM/dd/yy"),
+            DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+            DateTimeFormatter.ofPattern("dd.MM.yyyy"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+    };
+
+    private static LocalDate reference(String value) {
+        for (DateTimeFormatter formatter : REFERENCE_FORMATTERS) {
+            try {
+                LocalDate date = LocalDate.parse(value, formatter);
+                if (date.getYear() < 100) {
+                    int year = date.getYear();
+                    date = date.withYear(year <= 30 ? 2000 + year : 1900 + year);
+                }
+                return date;
+            } catch (DateTimeParseException ignored) {
+                // Try next formatter
+            }
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("Decodes all supported formats")
+    void decode_supportedFormats() {
+        DateDecoder decoder = new DateDecoder();
+
+        assertThat(decoder.decode("7/16/21")).isEqualTo(LocalDate.of(2021, 7, 16));
+        assertThat(decoder.decode("07/16/2021")).isEqualTo(LocalDate.of(2021, 7, 16));
+        assertThat(decoder.decode("12/31/99")).isEqualTo(LocalDate.of(2099, 12, 31));
+        assertThat(decoder.decode("16.07.2021")).isEqualTo(LocalDate.of(2021, 7, 16));
+        assertThat(decoder.decode("2021-07-16")).isEqualTo(LocalDate.of(2021, 7, 16));
+    }
+
+    @Test
+    @DisplayName("Resolves short months and old years like the formatters")
+    void decode_resolvesLikeFormatters() {
+        DateDecoder decoder = new DateDecoder();
+
+        assertThat(decoder.decode("2/30/24")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(decoder.decode("31.04.2024")).isEqualTo(LocalDate.of(2024, 4, 30));
+        assertThat(decoder.decode("1/1/0024")).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(decoder.decode("01.01.0050")).isEqualTo(LocalDate.of(1950, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Returns null for values that are not dates")
+    void decode_invalidValues() {
+        DateDecoder decoder = new DateDecoder();
+
+        assertThat(decoder.decode(null)).isNull();
+        assertThat(decoder.decode("")).isNull();
+        assertThat(decoder.decode("13/1/24")).isNull();
+        assertThat(decoder.decode("1/0/24")).isNull();
+        assertThat(decoder.decode("6.7.2021")).isNull();
+        assertThat(decoder.decode("2021-7-16")).isNull();
+        assertThat(decoder.decode("1/1/024")).isNull();
+        assertThat(decoder.decode("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("Matches the formatters for random values in mixed formats")
+    void randomValues_matchFormatters() {
+        Random random = new Random(42);
+        String alphabet = "0123456789/.-";
+        DateDecoder decoder = new DateDecoder();
+        for (int i = 0; i < 100_000; i++) {
+            String value = switch (random.nextInt(4)) {
+                case 0 -> random.nextInt(15) + "/" + random.nextInt(33) + "/"
+                        + (random.nextBoolean() ? String.format("%02d", random.nextInt(100)) : String.format("%04d", random.nextInt(10_000)));
+                case 1 -> String.format("%02d.%02d.%04d", random.nextInt(33), random.nextInt(14), random.nextInt(10_000));
+                case 2 -> String.format("%04d-%02d-%02d", random.nextInt(10_000), random.nextInt(14), random.nextInt(33));
+                default -> {
+                    StringBuilder chars = new StringBuilder();
+                    for (int length = 1 + random.nextInt(11); length > 0; length--) {
+                        chars.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                    }
+                    yield chars.toString();
+                }
+            };
+
+            assertThat(decoder.decode(value)).as(value).isEqualTo(reference(value));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package de.tum.cit.aet.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Fixed Point Tests")
+class FixedPointTest {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Test
+    @DisplayName("Conversions round trip with scale 2")
+    void conversions_roundTrip() {
+        assertThat(FixedPoint.toBasisPoints(new BigDecimal("50.25"))).isEqualTo(5025);
+        assertThat(FixedPoint.toBasisPoints(50)).isEqualTo(5000);
+        assertThat(FixedPoint.toBasisPoints((BigDecimal) null)).isZero();
+        assertThat(FixedPoint.toCents(new BigDecimal("4321.5"))).isEqualTo(432150);
+        assertThat(FixedPoint.toCents(null)).isZero();
+        assertThat(FixedPoint.toPercentage(5025)).isEqualTo(new BigDecimal("50.25"));
+        assertThat(FixedPoint.toAmount(-150)).isEqualTo(new BigDecimal("-1.50"));
+    }
+
+    @Test
+    @DisplayName("Division rounds half up, ties away from zero")
+    void divideHalfUp_matchesRoundingMode() {
+        assertThat(FixedPoint.divideHalfUp(5, 2)).isEqualTo(3);
+        assertThat(FixedPoint.divideHalfUp(-5, 2)).isEqualTo(-3);
+        assertThat(FixedPoint.divideHalfUp(4, 3)).isEqualTo(1);
+        assertThat(FixedPoint.divideHalfUp(-4, 3)).isEqualTo(-1);
+        assertThat(FixedPoint.divideHalfUp(5, -2)).isEqualTo(-3);
+    }
+
+    @Test
+    @DisplayName("Budget, cost and waste match the BigDecimal calculation")
+    void randomizedComparison_matchesBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal monthlyValue = BigDecimal.valueOf(random.nextInt(2_000_000), 2);
+            BigDecimal percentage = BigDecimal.valueOf(random.nextInt(10_001), 2);
+            BigDecimal employeeCost = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+
+            BigDecimal budget = monthlyValue.multiply(percentage).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            BigDecimal waste = budget.subtract(employeeCost);
+            long budgetCents = FixedPoint.prorate(FixedPoint.toCents(monthlyValue), FixedPoint.toBasisPoints(percentage));
+            long wasteCents = budgetCents - FixedPoint.toCents(employeeCost);
+
+            assertThat(FixedPoint.toAmount(budgetCents)).isEqualTo(budget);
+            assertThat(FixedPoint.toAmount(wasteCents)).isEqualTo(waste);
+            if (budget.signum() > 0) {
+                double wastePercentage = waste.divide(budget, 4, RoundingMode.HALF_UP).multiply(HUNDRED).doubleValue();
+                assertThat(FixedPoint.ratioPercentage(wasteCents, budgetCents)).isEqualTo(wastePercentage);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.tum.cit.aet.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Top K Tests")
+class TopKTest {
+
+    @Test
+    @DisplayName("Keeps the best elements in order")
+    void toSortedList_returnsBestFirst() {
+        TopK<Integer> topK = new TopK<>(3, Comparator.reverseOrder());
+        for (int value : new int[]{5, 1, 9, 7, 3, 8}) {
+            topK.offer(value);
+        }
+
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.toSortedList()).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    @DisplayName("Matches a full sort for random input")
+    void randomizedComparison_matchesFullSort() {
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            int k = 1 + random.nextInt(10);
+            List<Integer> values = new ArrayList<>();
+            TopK<Integer> topK = new TopK<>(k, Comparator.naturalOrder());
+            for (int i = random.nextInt(50); i > 0; i--) {
+                int value = random.nextInt(20);
+                values.add(value);
+                topK.offer(value);
+            }
+
+            values.sort(Comparator.naturalOrder());
+            assertThat(topK.toSortedList()).containsExactlyElementsOf(values.subList(0, Math.min(k, values.size())));
+        }
+    }
+
+    @Test
+    @DisplayName("Rejects k less than 1")
+    void constructor_invalidK_throws() {
+        assertThatThrownBy(() -> new TopK<Integer>(0, Comparator.naturalOrder()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}